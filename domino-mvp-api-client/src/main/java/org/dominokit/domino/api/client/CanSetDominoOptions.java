@@ -26,6 +26,48 @@ public interface CanSetDominoOptions {
 
   CanSetDominoOptions setStartUpTokenFilter(TokenFilterSupplier startUpTokenFilter);
 
+  /**
+   * Dispatches the history state changes to the routing tasks through the {@link
+   * org.dominokit.domino.api.client.startup.RoutingIndex} instead of registering a history listener
+   * for each task, this requires the routing token filter to match the tokens by their path suffix
+   * like the default {@link TokenFilter#endsWithPathFilter(String)}.
+   *
+   * <p>Options that do not support the routing index ignore this setting and keep it disabled.
+   *
+   * @param routingIndexEnabled true to enable the routing index
+   * @return same options instance
+   */
+  default CanSetDominoOptions setRoutingIndexEnabled(boolean routingIndexEnabled) {
+    return this;
+  }
+
+  /**
+   * Collapses the history states that arrive in quick succession into the last one before routing,
+   * see {@link org.dominokit.domino.api.client.startup.NavigationCoalescer}.
+   *
+   * <p>Options that do not support coalescing ignore this setting and keep it disabled.
+   *
+   * @param windowMillis the time to wait for more states before routing, {@code 0} to collapse the
+   *     states received within the same async tick, or a negative value to disable coalescing
+   * @return same options instance
+   */
+  default CanSetDominoOptions setNavigationCoalescingWindow(double windowMillis) {
+    return this;
+  }
+
+  /**
+   * Creates the presenters and views of the routes likely to be navigated to next while the
+   * application is idle, see {@link org.dominokit.domino.api.client.startup.RoutePrefetcher}.
+   *
+   * <p>Options that do not support prefetching ignore this setting and keep it disabled.
+   *
+   * @param routePrefetchEnabled true to enable route prefetching
+   * @return same options instance
+   */
+  default CanSetDominoOptions setRoutePrefetchEnabled(boolean routePrefetchEnabled) {
+    return this;
+  }
+
   @FunctionalInterface
   interface TokenFilterSupplier {
     TokenFilter get(String token);
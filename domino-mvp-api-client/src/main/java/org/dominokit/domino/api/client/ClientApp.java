@@ -15,121 +15,322 @@
  */
 package org.dominokit.domino.api.client;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static java.util.stream.Collectors.groupingBy;
+import static org.dominokit.domino.api.client.startup.StartupTimeline.Category.MODULE;
+import static org.dominokit.domino.api.client.startup.StartupTimeline.Category.PHASE;
+import static org.dominokit.domino.api.client.startup.StartupTimeline.Category.TASK;
 
 import java.util.*;
-import java.util.stream.Collectors;
 import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.dominokit.domino.api.client.async.MonotonicClock;
+import org.dominokit.domino.api.client.events.ActivationStateIndex;
 import org.dominokit.domino.api.client.extension.DominoEventsListenersRepository;
 import org.dominokit.domino.api.client.extension.DominoEventsRegistry;
 import org.dominokit.domino.api.client.extension.PresentersNamesRegistry;
+import org.dominokit.domino.api.client.mvp.PresenterSuppliers;
+import org.dominokit.domino.api.client.mvp.RegistrationHandler;
+import org.dominokit.domino.api.client.mvp.presenter.PresenterReclaimer;
 import org.dominokit.domino.api.client.mvp.slots.SlotsManager;
 import org.dominokit.domino.api.client.request.PresenterCommand;
 import org.dominokit.domino.api.client.startup.AsyncClientStartupTask;
 import org.dominokit.domino.api.client.startup.BaseRoutingStartupTask;
 import org.dominokit.domino.api.client.startup.ClientStartupTask;
-import org.dominokit.domino.api.client.startup.TasksAggregator;
+import org.dominokit.domino.api.client.startup.NavigationCoalescer;
+import org.dominokit.domino.api.client.startup.RoutePrefetcher;
+import org.dominokit.domino.api.client.startup.RoutingIndex;
+import org.dominokit.domino.api.client.startup.StartupReport;
+import org.dominokit.domino.api.client.startup.StartupTasksScheduler;
+import org.dominokit.domino.api.client.startup.StartupTimeline;
+import org.dominokit.domino.api.client.tracing.LifecycleTracer;
+import org.dominokit.domino.api.client.tracing.RevealLatencyTracker;
 import org.dominokit.domino.api.shared.extension.*;
 import org.dominokit.domino.history.AppHistory;
 import org.dominokit.rest.shared.EventsBus;
 import org.dominokit.rest.shared.request.RequestRouter;
 
+/**
+ * The client application context, it holds the router, events bus, history, options, slots manager
+ * and the other services of one application.
+ *
+ * <p>Every {@link ClientAppBuilder#build()} produces an isolated application, the static {@link
+ * #make()} resolves the application bound to the current {@link ClientAppScope} and falls back to
+ * the default application, which is the last one built outside of a scope. Several applications can
+ * run in the same JVM by running their work with {@link #runInContext(Runnable)} and installing a
+ * scope that binds per thread, see {@link ThreadLocalClientAppScope}.
+ */
 public class ClientApp implements InitialTaskRegistry, DominoEventsRegistry {
 
-  private String name;
+  private static volatile ClientApp defaultApp = new ClientApp();
+  private static volatile ClientAppScope scope = new DefaultClientAppScope();
 
-  private static final AttributeHolder<RequestRouter<PresenterCommand>> CLIENT_ROUTER_HOLDER =
-      new AttributeHolder<>();
-  private static final AttributeHolder<EventsBus> EVENTS_BUS_HOLDER = new AttributeHolder<>();
-  private static final AttributeHolder<DominoEventsListenersRepository>
-      LISTENERS_REPOSITORY_HOLDER = new AttributeHolder<>();
-  private static final AttributeHolder<AppHistory> HISTORY_HOLDER = new AttributeHolder<>();
-  private static final AttributeHolder<List<ClientStartupTask>> INITIAL_TASKS_HOLDER =
-      new AttributeHolder<>();
-  private static final AttributeHolder<AsyncRunner> ASYNC_RUNNER_HOLDER = new AttributeHolder<>();
-  private static final AttributeHolder<DominoOptions> DOMINO_OPTIONS_HOLDER =
-      new AttributeHolder<>();
-  private static final AttributeHolder<SlotsManager> SLOT_MANAGER_HOLDER = new AttributeHolder<>();
-  private static final AttributeHolder<PresentersNamesRegistry>
-      PRESENTERS_NAMES_REGISTRY_ATTRIBUTE_HOLDER = new AttributeHolder<>();
+  private String name;
+  private final boolean built;
+
+  private final RequestRouter<PresenterCommand> clientRouter;
+  private final EventsBus eventsBus;
+  private final DominoEventsListenersRepository listenersRepository;
+  private final AppHistory history;
+  private final List<ClientStartupTask> initialTasks;
+  private final AsyncRunner asyncRunner;
+  private final DominoOptions dominoOptions;
+  private final SlotsManager slotsManager;
+  private final PresentersNamesRegistry presentersNamesRegistry;
+  private final MonotonicClock clock;
+  private final ActivationStateIndex activationStateIndex;
+  private final StartupTimeline startupTimeline;
+  private final RoutingIndex routingIndex;
+  private final NavigationCoalescer navigationCoalescer;
+  private final RoutePrefetcher routePrefetcher;
+  private final PresenterReclaimer presenterReclaimer;
+  private final RevealLatencyTracker revealLatency;
+  private final PresenterSuppliers presenterSuppliers = new PresenterSuppliers();
+  private LifecycleTracer lifecycleTracer = new LifecycleTracer();
+  private StartupTasksScheduler startupScheduler;
 
   private List<ModuleConfiguration> modules = new ArrayList<>();
 
-  private static ClientApp instance = new ClientApp();
-
-  private ClientApp() {}
+  private ClientApp() {
+    this.built = false;
+    this.clientRouter = null;
+    this.eventsBus = null;
+    this.listenersRepository = null;
+    this.history = null;
+    this.initialTasks = null;
+    this.asyncRunner = null;
+    this.dominoOptions = null;
+    this.slotsManager = null;
+    this.presentersNamesRegistry = null;
+    this.clock = MonotonicClock.SYSTEM;
+    this.activationStateIndex = null;
+    this.startupTimeline = null;
+    this.routingIndex = null;
+    this.navigationCoalescer = null;
+    this.routePrefetcher = null;
+    this.presenterReclaimer = null;
+    this.revealLatency = null;
+  }
+
+  private ClientApp(ClientAppBuilder builder) {
+    this.built = true;
+    this.clientRouter = builder.clientRouter;
+    this.eventsBus = builder.eventsBus;
+    this.listenersRepository = builder.dominoEventsListenersRepository;
+    this.history = builder.history;
+    this.initialTasks = new LinkedList<>();
+    this.asyncRunner = builder.asyncRunner;
+    this.dominoOptions = builder.dominoOptions;
+    this.slotsManager = builder.slotsManager;
+    this.presentersNamesRegistry = builder.presentersNamesRegistry;
+    this.clock = builder.clock;
+    this.lifecycleTracer = new LifecycleTracer(LifecycleTracer.DEFAULT_CAPACITY, clock);
+    this.activationStateIndex = new ActivationStateIndex();
+    this.startupTimeline = new StartupTimeline(clock);
+    this.routingIndex = new RoutingIndex(history);
+    this.navigationCoalescer = new NavigationCoalescer(asyncRunner, dominoOptions);
+    this.routePrefetcher = new RoutePrefetcher(asyncRunner, dominoOptions);
+    this.presenterReclaimer = new PresenterReclaimer(asyncRunner, clock);
+    this.revealLatency = new RevealLatencyTracker(clock);
+  }
 
   @Override
   public void addListener(
       Class<? extends DominoEvent> event, DominoEventListener dominoEventListener) {
-    LISTENERS_REPOSITORY_HOLDER.attribute.addListener(event, dominoEventListener);
+    listenersRepository.addListener(event, dominoEventListener);
   }
 
   @Override
   public void registerInitialTask(ClientStartupTask task) {
-    INITIAL_TASKS_HOLDER.attribute.add(task);
+    initialTasks.add(task);
   }
 
+  /**
+   * @return the application bound to the current scope, or the default application if no
+   *     application is bound.
+   */
   public static ClientApp make() {
-    return instance;
+    ClientApp current = scope.current();
+    return nonNull(current) ? current : defaultApp;
   }
 
   public static ClientApp make(String name) {
-    instance.name = name;
-    return instance;
+    ClientApp clientApp = make();
+    clientApp.name = name;
+    return clientApp;
+  }
+
+  /**
+   * Replaces the scope used to resolve the current application, the default scope binds one
+   * application at a time and is meant for single threaded environments like the browser.
+   */
+  public static void setScope(ClientAppScope clientAppScope) {
+    scope = clientAppScope;
+  }
+
+  /** @return the scope used to resolve the current application. */
+  public static ClientAppScope getScope() {
+    return scope;
+  }
+
+  /**
+   * Runs the task with this application bound to the current scope, so {@link #make()} resolves to
+   * this application while the task runs, the previously bound application is restored after.
+   */
+  public void runInContext(Runnable task) {
+    ClientApp previous = scope.current();
+    scope.bind(this);
+    try {
+      task.run();
+    } finally {
+      scope.bind(previous);
+    }
+  }
+
+  /** Makes this application the default one resolved by {@link #make()} outside of any scope. */
+  public ClientApp makeDefault() {
+    ClientApp previous = defaultApp;
+    if (!previous.built && previous != this) {
+      adopt(previous);
+    }
+    defaultApp = this;
+    return this;
+  }
+
+  /**
+   * Takes over what was registered on the placeholder default application before any application
+   * was built, modules configured, presenter suppliers registered and lifecycle events traced early
+   * are not lost.
+   */
+  private void adopt(ClientApp placeholder) {
+    if (nonNull(placeholder.name) && isNull(name)) {
+      name = placeholder.name;
+    }
+    modules.addAll(placeholder.modules);
+    placeholder.modules.clear();
+    placeholder.presenterSuppliers.moveTo(presenterSuppliers);
+    lifecycleTracer = placeholder.lifecycleTracer;
+  }
+
+  /**
+   * Restores an unbuilt placeholder as the default application, registrations made on it are
+   * adopted by the next application that becomes the default one.
+   */
+  static void resetDefault() {
+    defaultApp = new ClientApp();
   }
 
   public String getName() {
-    return instance.name;
+    return name;
   }
 
   public RequestRouter<PresenterCommand> getClientRouter() {
-    return CLIENT_ROUTER_HOLDER.attribute;
+    return clientRouter;
   }
 
   public EventsBus getEventsBus() {
-    return EVENTS_BUS_HOLDER.attribute;
+    return eventsBus;
   }
 
   public AsyncRunner getAsyncRunner() {
-    return ASYNC_RUNNER_HOLDER.attribute;
+    return asyncRunner;
   }
 
   public AppHistory getHistory() {
-    return HISTORY_HOLDER.attribute;
+    return history;
   }
 
   public DominoOptions dominoOptions() {
-    return DOMINO_OPTIONS_HOLDER.attribute;
+    return dominoOptions;
   }
 
   public SlotsManager slotsManager() {
-    return SLOT_MANAGER_HOLDER.attribute;
+    return slotsManager;
   }
 
   public PresentersNamesRegistry namedPresenters() {
-    return PRESENTERS_NAMES_REGISTRY_ATTRIBUTE_HOLDER.attribute;
+    return presentersNamesRegistry;
+  }
+
+  /** @return the clock used to measure the durations of this application */
+  public MonotonicClock clock() {
+    return clock;
+  }
+
+  /** @return the presenter and view suppliers registered by the modules of this application */
+  public PresenterSuppliers presenterSuppliers() {
+    return presenterSuppliers;
+  }
+
+  public ActivationStateIndex activationStateIndex() {
+    return activationStateIndex;
+  }
+
+  /**
+   * @return the timings and critical path of the asynchronous startup tasks, or {@code null} if the
+   *     application did not run any or they are not completed yet.
+   */
+  public StartupReport startupReport() {
+    return nonNull(startupScheduler) ? startupScheduler.getReport() : null;
+  }
+
+  public RoutingIndex routingIndex() {
+    return routingIndex;
+  }
+
+  public NavigationCoalescer navigationCoalescer() {
+    return navigationCoalescer;
+  }
+
+  public RoutePrefetcher routePrefetcher() {
+    return routePrefetcher;
+  }
+
+  public PresenterReclaimer presenterReclaimer() {
+    return presenterReclaimer;
   }
 
-  public void registerEventListener(
+  /**
+   * @return the route to reveal latencies of the presenters, with the time spent in each stage of
+   *     the navigation.
+   */
+  public RevealLatencyTracker revealLatency() {
+    return revealLatency;
+  }
+
+  /**
+   * @return the tracer of the presenters and slots lifecycle events, it is available before the
+   *     application is built so slots and presenters registered early are traced too.
+   */
+  public LifecycleTracer lifecycleTracer() {
+    return lifecycleTracer;
+  }
+
+  /**
+   * @return the timeline of the application startup, with the time spent in each phase, module and
+   *     startup task.
+   */
+  public StartupTimeline startupTimeline() {
+    return startupTimeline;
+  }
+
+  public RegistrationHandler registerEventListener(
       Class<? extends DominoEvent> event, DominoEventListener listener) {
-    LISTENERS_REPOSITORY_HOLDER.attribute.addListener(event, listener);
+    return listenersRepository.addListener(event, listener);
   }
 
-  public void registerGlobalEventListener(
+  public RegistrationHandler registerGlobalEventListener(
       Class<? extends DominoEvent> event, GlobalDominoEventListener listener) {
-    LISTENERS_REPOSITORY_HOLDER.attribute.addGlobalListener(event, listener);
+    return listenersRepository.addGlobalListener(event, listener);
   }
 
   public void removeEventListener(
       Class<? extends DominoEvent> event, DominoEventListener listener) {
-    LISTENERS_REPOSITORY_HOLDER.attribute.removeListener(event, listener);
+    listenersRepository.removeListener(event, listener);
   }
 
   public void removeGlobalEventListener(
       Class<? extends DominoEvent> event, GlobalDominoEventListener listener) {
-    LISTENERS_REPOSITORY_HOLDER.attribute.removeGlobalListener(event, listener);
+    listenersRepository.removeGlobalListener(event, listener);
   }
 
   public void configureModule(ModuleConfiguration configuration) {
@@ -141,20 +342,39 @@ public class ClientApp implements InitialTaskRegistry, DominoEventsRegistry {
   }
 
   public void run(DominoOptionsHandler dominoOptionsHandler) {
+    if (make() != this) {
+      runInContext(() -> run(dominoOptionsHandler));
+      return;
+    }
+    StartupTimeline timeline = startupTimeline;
+    timeline.start();
+
+    StartupTimeline.Entry modulesPhase = timeline.begin(PHASE, "Configure modules");
     modules.forEach(
         configuration -> {
-          configuration.registerPresenters();
-          configuration.registerViews();
-          configuration.registerInitialTasks(this);
+          String moduleName = configuration.getClass().getName();
+          timeline.record(
+              MODULE, moduleName + ".registerPresenters", configuration::registerPresenters);
+          timeline.record(MODULE, moduleName + ".registerViews", configuration::registerViews);
+          timeline.record(
+              MODULE,
+              moduleName + ".registerInitialTasks",
+              () -> configuration.registerInitialTasks(this));
         });
+    modulesPhase.end();
 
     modules.clear();
 
-    dominoOptionsHandler.onBeforeRun(dominoOptions());
-    dominoOptions().applyOptions();
+    timeline.record(
+        PHASE,
+        "Apply options",
+        () -> {
+          dominoOptionsHandler.onBeforeRun(dominoOptions());
+          dominoOptions().applyOptions();
+        });
 
     List<AsyncClientStartupTask> waitingList = new ArrayList<>();
-    INITIAL_TASKS_HOLDER.attribute.forEach(
+    initialTasks.forEach(
         clientStartupTask -> {
           if (clientStartupTask instanceof AsyncClientStartupTask) {
             waitingList.add((AsyncClientStartupTask) clientStartupTask);
@@ -162,52 +382,63 @@ public class ClientApp implements InitialTaskRegistry, DominoEventsRegistry {
         });
 
     if (!waitingList.isEmpty()) {
-      TreeSet<TasksAggregator> sorted =
-          waitingList.stream()
-              .collect(groupingBy(AsyncClientStartupTask::order))
-              .entrySet()
-              .stream()
-              .map(taskEntry -> new TasksAggregator(taskEntry.getKey(), taskEntry.getValue()))
-              .collect(Collectors.toCollection(TreeSet::new));
-
-      Iterator<TasksAggregator> iterator = sorted.iterator();
-      TasksAggregator current = iterator.next();
-      while (nonNull(current) && iterator.hasNext()) {
-        TasksAggregator next = iterator.next();
-        current.setNextAggregator(next);
-        current = next;
-      }
-
-      ContextAggregator.waitFor(sorted).onReady(this::start);
-      INITIAL_TASKS_HOLDER.attribute.forEach(
-          clientStartupTask -> {
-            if (!(clientStartupTask instanceof AsyncClientStartupTask)
-                && !(clientStartupTask instanceof BaseRoutingStartupTask)) {
-              clientStartupTask.execute();
-            }
+      StartupTasksScheduler scheduler =
+          new StartupTasksScheduler(waitingList, clock).setTimeline(timeline);
+      startupScheduler = scheduler;
+      timeline.record(
+          PHASE,
+          "Initial tasks",
+          () ->
+              initialTasks.forEach(
+                  clientStartupTask -> {
+                    if (!(clientStartupTask instanceof AsyncClientStartupTask)
+                        && !(clientStartupTask instanceof BaseRoutingStartupTask)) {
+                      executeTask(clientStartupTask);
+                    }
+                  }));
+      StartupTimeline.Entry asyncPhase = timeline.begin(PHASE, "Async tasks");
+      scheduler.execute(
+          () -> {
+            asyncPhase.end();
+            start();
           });
-      sorted.first().execute();
     } else {
-      INITIAL_TASKS_HOLDER.attribute.forEach(
-          clientStartupTask -> {
-            if (!(clientStartupTask instanceof BaseRoutingStartupTask)) {
-              clientStartupTask.execute();
-            }
-          });
+      timeline.record(
+          PHASE,
+          "Initial tasks",
+          () ->
+              initialTasks.forEach(
+                  clientStartupTask -> {
+                    if (!(clientStartupTask instanceof BaseRoutingStartupTask)) {
+                      executeTask(clientStartupTask);
+                    }
+                  }));
       start();
     }
   }
 
   private void start() {
-    PRESENTERS_NAMES_REGISTRY_ATTRIBUTE_HOLDER.attribute.init();
-    INITIAL_TASKS_HOLDER.attribute.forEach(
-        clientStartupTask -> {
-          if ((clientStartupTask instanceof BaseRoutingStartupTask)) {
-            clientStartupTask.execute();
-          }
-        });
-    fireEvent(MainDominoEvent.class, new MainDominoEvent());
-    onApplicationStarted();
+    StartupTimeline timeline = startupTimeline;
+    timeline.record(PHASE, "Init presenters names", presentersNamesRegistry::init);
+    timeline.record(
+        PHASE,
+        "Routing tasks",
+        () ->
+            initialTasks.forEach(
+                clientStartupTask -> {
+                  if ((clientStartupTask instanceof BaseRoutingStartupTask)) {
+                    executeTask(clientStartupTask);
+                  }
+                }));
+    timeline.record(
+        PHASE, "Fire main event", () -> fireEvent(MainDominoEvent.class, new MainDominoEvent()));
+    timeline.record(PHASE, "Application started handler", this::onApplicationStarted);
+    timeline.complete();
+  }
+
+  private void executeTask(ClientStartupTask clientStartupTask) {
+    startupTimeline.record(
+        TASK, clientStartupTask.getClass().getName(), clientStartupTask::execute);
   }
 
   private void onApplicationStarted() {
@@ -218,7 +449,7 @@ public class ClientApp implements InitialTaskRegistry, DominoEventsRegistry {
   }
 
   public void fireEvent(Class<? extends DominoEvent> eventType, DominoEvent dominoEvent) {
-    LISTENERS_REPOSITORY_HOLDER.attribute.fireEvent(eventType, dominoEvent);
+    listenersRepository.fireEvent(eventType, dominoEvent);
   }
 
   @FunctionalInterface
@@ -257,9 +488,16 @@ public class ClientApp implements InitialTaskRegistry, DominoEventsRegistry {
     CanBuildClientApp presentersNamesRegistry(PresentersNamesRegistry presentersNamesRegistry);
   }
 
-  @FunctionalInterface
   public interface CanBuildClientApp {
+    /**
+     * Sets the clock used to measure the startup timeline, the reveal latency and the traced
+     * lifecycle events, defaults to {@link MonotonicClock#SYSTEM}.
+     */
+    CanBuildClientApp clock(MonotonicClock clock);
+
     ClientApp build();
+
+    ClientApp buildIsolated();
   }
 
   public static class ClientAppBuilder
@@ -280,6 +518,7 @@ public class ClientApp implements InitialTaskRegistry, DominoEventsRegistry {
     private DominoOptions dominoOptions;
     private SlotsManager slotsManager;
     private PresentersNamesRegistry presentersNamesRegistry;
+    private MonotonicClock clock = MonotonicClock.SYSTEM;
 
     private ClientAppBuilder(RequestRouter<PresenterCommand> clientRouter) {
       this.clientRouter = clientRouter;
@@ -333,30 +572,46 @@ public class ClientApp implements InitialTaskRegistry, DominoEventsRegistry {
       return this;
     }
 
+    @Override
+    public CanBuildClientApp clock(MonotonicClock clock) {
+      this.clock = clock;
+      return this;
+    }
+
+    /**
+     * Builds an isolated application, when no application is bound to the current scope the built
+     * application becomes the default one.
+     */
     @Override
     public ClientApp build() {
-      initClientApp();
-      return new ClientApp();
+      ClientApp clientApp = new ClientApp(this);
+      if (isNull(scope.current())) {
+        clientApp.makeDefault();
+      }
+      return clientApp;
     }
 
-    private void initClientApp() {
-      ClientApp.CLIENT_ROUTER_HOLDER.hold(clientRouter);
-      ClientApp.EVENTS_BUS_HOLDER.hold(eventsBus);
-      ClientApp.LISTENERS_REPOSITORY_HOLDER.hold(dominoEventsListenersRepository);
-      ClientApp.HISTORY_HOLDER.hold(history);
-      ClientApp.INITIAL_TASKS_HOLDER.hold(new LinkedList<>());
-      ClientApp.ASYNC_RUNNER_HOLDER.hold(asyncRunner);
-      ClientApp.DOMINO_OPTIONS_HOLDER.hold(dominoOptions);
-      ClientApp.SLOT_MANAGER_HOLDER.hold(slotsManager);
-      ClientApp.PRESENTERS_NAMES_REGISTRY_ATTRIBUTE_HOLDER.hold(presentersNamesRegistry);
+    /**
+     * Builds an isolated application that never becomes the default one, it is only resolved by
+     * {@link ClientApp#make()} while bound to the current scope.
+     */
+    @Override
+    public ClientApp buildIsolated() {
+      return new ClientApp(this);
     }
   }
 
-  private static final class AttributeHolder<T> {
-    private T attribute;
+  private static final class DefaultClientAppScope implements ClientAppScope {
+    private ClientApp current;
 
-    public void hold(T attribute) {
-      this.attribute = attribute;
+    @Override
+    public ClientApp current() {
+      return current;
+    }
+
+    @Override
+    public void bind(ClientApp clientApp) {
+      this.current = clientApp;
     }
   }
 
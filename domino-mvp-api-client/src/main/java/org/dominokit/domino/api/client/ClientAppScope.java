@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client;
+
+/**
+ * Resolves the {@link ClientApp} that {@link ClientApp#make()} returns, it allows running several
+ * applications in the same process where each one is bound to the scope of the work it runs.
+ */
+public interface ClientAppScope {
+
+  /** @return the application bound to the current scope, or null if there is none. */
+  ClientApp current();
+
+  /**
+   * Binds the application to the current scope.
+   *
+   * @param clientApp the application, or null to unbind the current one
+   */
+  void bind(ClientApp clientApp);
+
+  /**
+   * @return true if the binding only applies to the current thread, applications can only be bound
+   *     from several threads at the same time when the scope is thread confined.
+   */
+  default boolean isThreadConfined() {
+    return false;
+  }
+}
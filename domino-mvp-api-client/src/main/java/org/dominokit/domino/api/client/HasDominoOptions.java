@@ -19,4 +19,22 @@ public interface HasDominoOptions {
   ApplicationStartHandler getApplicationStartHandler();
 
   boolean isMainApp();
+
+  /** @return true to dispatch the routing tasks through the routing index, false by default. */
+  default boolean isRoutingIndexEnabled() {
+    return false;
+  }
+
+  /**
+   * @return the navigation coalescing window in milliseconds, a negative value - the default -
+   *     disables coalescing.
+   */
+  default double getNavigationCoalescingWindow() {
+    return -1;
+  }
+
+  /** @return true to prefetch the routes likely to be navigated to next, false by default. */
+  default boolean isRoutePrefetchEnabled() {
+    return false;
+  }
 }
@@ -15,10 +15,25 @@
  */
 package org.dominokit.domino.api.client;
 
+import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.dominokit.domino.api.client.extension.DominoEventsListenersRepository;
 import org.dominokit.domino.api.client.mvp.slots.SlotsManager;
 
 public interface InitOptions {
   String getRootPath();
 
   SlotsManager getSlotsManager();
+
+  /** @return the async runner to use, or null to use the environment default runner */
+  default AsyncRunner getAsyncRunner() {
+    return null;
+  }
+
+  /**
+   * @return the events listeners repository to use, or null to use the environment default
+   *     repository
+   */
+  default DominoEventsListenersRepository getEventsListenersRepository() {
+    return null;
+  }
 }
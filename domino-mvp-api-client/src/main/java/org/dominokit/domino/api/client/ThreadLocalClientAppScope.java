@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client;
+
+import static java.util.Objects.isNull;
+
+import org.dominokit.domino.api.shared.compile.GwtIncompatible;
+
+/**
+ * A {@link ClientAppScope} that binds the application per thread, used to run many applications
+ * in one JVM, for example headless client sessions, server side rendering or parallel tests.
+ *
+ * <p>Work scheduled on other threads must be bound again with {@link
+ * ClientApp#runInContext(Runnable)} by the runner that executes it.
+ */
+@GwtIncompatible
+public class ThreadLocalClientAppScope implements ClientAppScope {
+
+  private final ThreadLocal<ClientApp> current = new ThreadLocal<>();
+
+  @Override
+  public ClientApp current() {
+    return current.get();
+  }
+
+  @Override
+  public void bind(ClientApp clientApp) {
+    if (isNull(clientApp)) {
+      current.remove();
+    } else {
+      current.set(clientApp);
+    }
+  }
+
+  @Override
+  public boolean isThreadConfined() {
+    return true;
+  }
+}
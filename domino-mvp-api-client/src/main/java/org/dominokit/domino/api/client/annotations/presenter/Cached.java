@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.annotations.presenter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Use on a presenter proxy to keep a bounded number of presenter instances keyed by the current
+ * history token, navigating back to a cached token reuses its presenter instead of creating a new
+ * one, the least recently used presenters are evicted and deactivated when the cache is full or
+ * when they stay unused for longer than the max idle time.
+ *
+ * @see org.dominokit.domino.api.client.mvp.presenter.PresenterCache
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cached {
+
+  /** @return int, the maximum number of cached presenter instances */
+  int maxSize() default 10;
+
+  /**
+   * @return long, the time in milliseconds after which an unused presenter is evicted, idle
+   *     presenters are swept periodically when the async runner supports delays, a negative value
+   *     disables idle eviction
+   */
+  long maxIdleMillis() default -1;
+}
@@ -35,4 +35,37 @@ public interface AsyncRunner {
   }
 
   void runAsync(AsyncTask asyncTask);
+
+  /**
+   * Runs the task in the specified lane, runners that do not support priorities will run it as a
+   * regular async task.
+   */
+  default void runAsync(AsyncPriority priority, AsyncTask asyncTask) {
+    runAsync(asyncTask);
+  }
+
+  /**
+   * Runs the task after all the tasks previously submitted with the same ordering key, tasks with
+   * different keys may run in parallel. Runners that run tasks one at a time will run it as a
+   * regular async task.
+   */
+  default void runOrdered(Object orderingKey, AsyncTask asyncTask) {
+    runAsync(asyncTask);
+  }
+
+  /**
+   * Runs the task after the specified delay, runners that cannot delay tasks will run it as a
+   * regular async task.
+   */
+  default void runDelayed(double delayMillis, AsyncTask asyncTask) {
+    runAsync(asyncTask);
+  }
+
+  /**
+   * @return true if {@link #runDelayed(double, AsyncTask)} actually delays the task, periodic work
+   *     should only be scheduled on runners that support delays.
+   */
+  default boolean supportsDelay() {
+    return false;
+  }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.async;
+
+/**
+ * A source of time in milliseconds used to measure durations, implementations should use the most
+ * precise monotonic time available in the running environment.
+ */
+@FunctionalInterface
+public interface MonotonicClock {
+
+  /**
+   * The default clock, it measures time using {@code System.nanoTime()}. Runtimes with a more
+   * precise source pass their own clock to the application and runners, the browser runtime uses
+   * {@code performance.now()}.
+   */
+  MonotonicClock SYSTEM = () -> System.nanoTime() / 1_000_000D;
+
+  double now();
+}
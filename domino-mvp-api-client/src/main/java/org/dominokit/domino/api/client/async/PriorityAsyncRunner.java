@@ -0,0 +1,330 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.async;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link AsyncRunner} that queues tasks in priority lanes and drains them in ticks.
+ *
+ * <p>Each tick runs the tasks from the highest non empty lane first, and once the tick exceeds its
+ * time budget the runner yields and schedules a new tick for the remaining tasks, so a burst of low
+ * priority tasks cannot hold the higher priority ones or block the environment for a long time. At
+ * least one task is executed per tick.
+ *
+ * <p>Waiting tasks age, a task is promoted by one lane for every aging threshold it spends in the
+ * queue, so a steady flow of high priority tasks delays the lower lanes without starving them.
+ *
+ * <p>The actual scheduling of the ticks is delegated to a {@link TickScheduler} so the same runner
+ * can be used in the browser and on the JVM.
+ */
+public class PriorityAsyncRunner implements AsyncRunner {
+
+  private static final Logger LOGGER = Logger.getLogger(PriorityAsyncRunner.class.getName());
+
+  public static final double DEFAULT_TICK_BUDGET = 8;
+  public static final double DEFAULT_AGING_THRESHOLD = 100;
+
+  private static final AsyncPriority[] LANES = AsyncPriority.values();
+
+  private final TickScheduler tickScheduler;
+  private final MonotonicClock clock;
+  private final double tickBudget;
+  private final AsyncPriority defaultPriority;
+  private final double agingThreshold;
+
+  private final Object lock = new Object();
+  private final Lane[] lanes = new Lane[LANES.length];
+  private boolean tickScheduled = false;
+  private long ticks;
+  private long yields;
+
+  public PriorityAsyncRunner(TickScheduler tickScheduler) {
+    this(tickScheduler, MonotonicClock.SYSTEM, DEFAULT_TICK_BUDGET, AsyncPriority.DATA);
+  }
+
+  /**
+   * @param tickScheduler schedules the execution of the next tick
+   * @param clock the clock used to measure the tick budget and the tasks wait time
+   * @param tickBudget the time in milliseconds a single tick can spend running tasks
+   * @param defaultPriority the lane used for tasks that are submitted without a priority
+   */
+  public PriorityAsyncRunner(
+      TickScheduler tickScheduler,
+      MonotonicClock clock,
+      double tickBudget,
+      AsyncPriority defaultPriority) {
+    this(tickScheduler, clock, tickBudget, defaultPriority, DEFAULT_AGING_THRESHOLD);
+  }
+
+  /**
+   * @param tickScheduler schedules the execution of the next tick
+   * @param clock the clock used to measure the tick budget and the tasks wait time
+   * @param tickBudget the time in milliseconds a single tick can spend running tasks
+   * @param defaultPriority the lane used for tasks that are submitted without a priority
+   * @param agingThreshold the time in milliseconds a task waits before it is promoted by one lane,
+   *     zero or a negative value keeps the lanes strictly ordered
+   */
+  public PriorityAsyncRunner(
+      TickScheduler tickScheduler,
+      MonotonicClock clock,
+      double tickBudget,
+      AsyncPriority defaultPriority,
+      double agingThreshold) {
+    this.tickScheduler = tickScheduler;
+    this.clock = clock;
+    this.tickBudget = tickBudget;
+    this.defaultPriority = defaultPriority;
+    this.agingThreshold = agingThreshold;
+    for (int i = 0; i < lanes.length; i++) {
+      lanes[i] = new Lane();
+    }
+  }
+
+  @Override
+  public void runAsync(AsyncTask asyncTask) {
+    runAsync(defaultPriority, asyncTask);
+  }
+
+  @Override
+  public void runAsync(AsyncPriority priority, AsyncTask asyncTask) {
+    boolean scheduleTick;
+    synchronized (lock) {
+      lanes[priority.ordinal()].offer(new QueuedTask(asyncTask, clock.now()));
+      scheduleTick = !tickScheduled;
+      tickScheduled = true;
+    }
+    if (scheduleTick) {
+      tickScheduler.scheduleTick(this::runTick);
+    }
+  }
+
+  private void runTick() {
+    double tickStart = clock.now();
+    while (true) {
+      QueuedTask next;
+      synchronized (lock) {
+        next = poll(clock.now());
+        if (next == null) {
+          ticks++;
+          tickScheduled = false;
+          return;
+        }
+      }
+      run(next.asyncTask);
+      if (clock.now() - tickStart >= tickBudget) {
+        synchronized (lock) {
+          ticks++;
+          if (!hasQueuedTasks()) {
+            tickScheduled = false;
+            return;
+          }
+          yields++;
+        }
+        tickScheduler.scheduleTick(this::runTick);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Polls the head of the lane with the best aged rank, the rank of a lane is its position lowered
+   * by one for every aging threshold its oldest task has waited, ties go to the higher lane.
+   */
+  private QueuedTask poll(double now) {
+    Lane next = null;
+    double nextRank = 0;
+    for (int i = 0; i < lanes.length; i++) {
+      QueuedTask head = lanes[i].queue.peek();
+      if (head == null) {
+        continue;
+      }
+      double rank = i - promotions(now - head.queuedAt);
+      if (next == null || rank < nextRank) {
+        next = lanes[i];
+        nextRank = rank;
+      }
+    }
+    return next == null ? null : next.poll(now);
+  }
+
+  private double promotions(double wait) {
+    return agingThreshold > 0 ? Math.floor(wait / agingThreshold) : 0;
+  }
+
+  private boolean hasQueuedTasks() {
+    for (Lane lane : lanes) {
+      if (!lane.queue.isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void run(AsyncTask asyncTask) {
+    try {
+      asyncTask.onSuccess();
+    } catch (Throwable error) {
+      try {
+        asyncTask.onFailed(error);
+      } catch (Throwable failure) {
+        LOGGER.log(Level.SEVERE, "Failed to handle async task failure : ", failure);
+      }
+    }
+  }
+
+  /** @return a snapshot of the queue depth and wait time statistics of the specified lane */
+  public LaneStats getStats(AsyncPriority priority) {
+    synchronized (lock) {
+      return lanes[priority.ordinal()].stats();
+    }
+  }
+
+  /** @return the number of ticks completed so far */
+  public long getTicks() {
+    synchronized (lock) {
+      return ticks;
+    }
+  }
+
+  /** @return the number of ticks that yielded because they exceeded the tick budget */
+  public long getYields() {
+    synchronized (lock) {
+      return yields;
+    }
+  }
+
+  /** Resets the collected statistics without touching the queued tasks. */
+  public void resetStats() {
+    synchronized (lock) {
+      ticks = 0;
+      yields = 0;
+      for (Lane lane : lanes) {
+        lane.resetStats();
+      }
+    }
+  }
+
+  /** Schedules a tick to run later, after the current call stack completes. */
+  @FunctionalInterface
+  public interface TickScheduler {
+    void scheduleTick(Runnable tick);
+  }
+
+  /** Queue depth and wait time statistics for a single priority lane. */
+  public static final class LaneStats {
+    private final int queueDepth;
+    private final int maxQueueDepth;
+    private final long executed;
+    private final double totalWait;
+    private final double maxWait;
+
+    private LaneStats(
+        int queueDepth, int maxQueueDepth, long executed, double totalWait, double maxWait) {
+      this.queueDepth = queueDepth;
+      this.maxQueueDepth = maxQueueDepth;
+      this.executed = executed;
+      this.totalWait = totalWait;
+      this.maxWait = maxWait;
+    }
+
+    public int getQueueDepth() {
+      return queueDepth;
+    }
+
+    public int getMaxQueueDepth() {
+      return maxQueueDepth;
+    }
+
+    public long getExecuted() {
+      return executed;
+    }
+
+    /** @return the average time in milliseconds the executed tasks waited in the queue */
+    public double getAverageWait() {
+      return executed == 0 ? 0 : totalWait / executed;
+    }
+
+    /** @return the longest time in milliseconds an executed task waited in the queue */
+    public double getMaxWait() {
+      return maxWait;
+    }
+
+    @Override
+    public String toString() {
+      return "LaneStats{"
+          + "queueDepth="
+          + queueDepth
+          + ", maxQueueDepth="
+          + maxQueueDepth
+          + ", executed="
+          + executed
+          + ", averageWait="
+          + getAverageWait()
+          + ", maxWait="
+          + maxWait
+          + '}';
+    }
+  }
+
+  private static final class Lane {
+    private final Deque<QueuedTask> queue = new ArrayDeque<>();
+    private int maxQueueDepth;
+    private long executed;
+    private double totalWait;
+    private double maxWait;
+
+    private void offer(QueuedTask task) {
+      queue.offer(task);
+      maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+    }
+
+    private QueuedTask poll(double now) {
+      QueuedTask task = queue.poll();
+      if (task != null) {
+        double wait = now - task.queuedAt;
+        executed++;
+        totalWait += wait;
+        maxWait = Math.max(maxWait, wait);
+      }
+      return task;
+    }
+
+    private LaneStats stats() {
+      return new LaneStats(queue.size(), maxQueueDepth, executed, totalWait, maxWait);
+    }
+
+    private void resetStats() {
+      maxQueueDepth = queue.size();
+      executed = 0;
+      totalWait = 0;
+      maxWait = 0;
+    }
+  }
+
+  private static final class QueuedTask {
+    private final AsyncTask asyncTask;
+    private final double queuedAt;
+
+    private QueuedTask(AsyncTask asyncTask, double queuedAt) {
+      this.asyncTask = asyncTask;
+      this.queuedAt = queuedAt;
+    }
+  }
+}
@@ -27,15 +27,7 @@ public class ActivationEventWait {
 
   public ActivationEventWait(Class<? extends ActivationEvent> eventType) {
     this.eventType = eventType;
-    ClientApp.make()
-        .registerGlobalEventListener(
-            eventType,
-            new ActivateEventListener() {
-              @Override
-              public void onEventReceived(ActivationEvent dominoEvent) {
-                updateContext(dominoEvent);
-              }
-            });
+    ClientApp.make().activationStateIndex().register(eventType, this);
   }
 
   public void setAggregator(ContextAggregator aggregator) {
@@ -51,13 +43,4 @@ public class ActivationEventWait {
       aggregator.resetContext(contextWait);
     }
   }
-
-  private abstract static class ActivateEventListener
-      implements GlobalDominoEventListener<ActivationEvent> {
-
-    @Override
-    public ActivationEvent deserializeEvent(String serializedEvent) {
-      return new ActivationEvent(ActivationEvent.deserialize(serializedEvent));
-    }
-  }
 }
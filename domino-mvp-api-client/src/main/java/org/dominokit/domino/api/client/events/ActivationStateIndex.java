@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.events;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.api.shared.extension.ActivationEvent;
+import org.dominokit.domino.api.shared.extension.GlobalDominoEventListener;
+
+/**
+ * Keeps one activation state entry per activation event type, the entry registers a single global
+ * listener for its event type and notifies all the {@link ActivationEventWait}s depending on it
+ * directly, instead of having each wait register its own listener.
+ */
+public class ActivationStateIndex {
+
+  private static final Logger LOGGER = Logger.getLogger(ActivationStateIndex.class.getName());
+
+  private final Map<Class<? extends ActivationEvent>, ActivationState> states = new HashMap<>();
+
+  public void register(Class<? extends ActivationEvent> eventType, ActivationEventWait wait) {
+    ActivationState state = states.get(eventType);
+    if (isNull(state)) {
+      state = new ActivationState();
+      states.put(eventType, state);
+      ClientApp.make().registerGlobalEventListener(eventType, state);
+    }
+    state.dependents.add(wait);
+  }
+
+  /** @return true if the last received event of the specified type was an activation */
+  public boolean isActivated(Class<? extends ActivationEvent> eventType) {
+    ActivationState state = states.get(eventType);
+    return nonNull(state) && state.activated;
+  }
+
+  /** @return the number of waits depending on the specified event type */
+  public int dependentsCount(Class<? extends ActivationEvent> eventType) {
+    ActivationState state = states.get(eventType);
+    return isNull(state) ? 0 : state.dependents.size();
+  }
+
+  private static final class ActivationState
+      implements GlobalDominoEventListener<ActivationEvent> {
+    private final List<ActivationEventWait> dependents = new ArrayList<>();
+    private boolean activated;
+
+    @Override
+    public void onEventReceived(ActivationEvent event) {
+      activated = event.isActivated();
+      for (int i = 0; i < dependents.size(); i++) {
+        ActivationEventWait dependent = dependents.get(i);
+        try {
+          dependent.updateContext(event);
+        } catch (Exception e) {
+          LOGGER.log(Level.SEVERE, "Failed to notify activation dependent : " + dependent, e);
+        }
+      }
+    }
+
+    @Override
+    public ActivationEvent deserializeEvent(String serializedEvent) {
+      return new ActivationEvent(ActivationEvent.deserialize(serializedEvent));
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.extension;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.api.client.mvp.RegistrationHandler;
+import org.dominokit.domino.api.shared.extension.DominoEvent;
+import org.dominokit.domino.api.shared.extension.DominoEventListener;
+import org.dominokit.domino.api.shared.extension.GlobalDominoEventListener;
+
+/**
+ * A listeners repository that indexes the listeners by the event class and keeps a {@link
+ * ListenersChain} per event type.
+ *
+ * <p>Firing an event only reads the immutable snapshot array of the chain, which is rebuilt once
+ * after listeners are added or removed, this makes firing cheap and safe against listeners being
+ * added or removed while the event is being dispatched. Listeners are compared by identity and the
+ * handler returned when adding a listener removes it in constant time.
+ *
+ * <p>Updates and snapshot reads are synchronized so the repository can be used from runners that
+ * dispatch events on multiple threads.
+ */
+public class ClassIndexedDominoEventsListenerRepository implements DominoEventsListenersRepository {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(ClassIndexedDominoEventsListenerRepository.class.getName());
+
+  private final Map<Class<? extends DominoEvent>, ListenersChain> listeners = new HashMap<>();
+
+  @Override
+  public synchronized RegistrationHandler addListener(
+      Class<? extends DominoEvent> dominoEvent, DominoEventListener dominoEventListener) {
+    ListenersChain chain = listeners.computeIfAbsent(dominoEvent, k -> new ListenersChain());
+    ListenersChain.Node node = chain.add(dominoEventListener);
+    return () -> removeNode(dominoEvent, chain, node);
+  }
+
+  @Override
+  public RegistrationHandler addGlobalListener(
+      Class<? extends DominoEvent> dominoEvent, GlobalDominoEventListener dominoEventListener) {
+    return addListener(dominoEvent, dominoEventListener);
+  }
+
+  @Override
+  public synchronized Set<DominoEventListener> getEventListeners(
+      Class<? extends DominoEvent> dominoEvent) {
+    ListenersChain chain = listeners.get(dominoEvent);
+    if (isNull(chain)) {
+      return new LinkedHashSet<>();
+    }
+    return new LinkedHashSet<>(Arrays.asList(chain.snapshot()));
+  }
+
+  @Override
+  public synchronized void removeListener(
+      Class<? extends DominoEvent> event, DominoEventListener listener) {
+    ListenersChain chain = listeners.get(event);
+    if (isNull(chain)) {
+      return;
+    }
+    ListenersChain.Node node = chain.find(listener);
+    if (nonNull(node)) {
+      removeNode(event, chain, node);
+    }
+  }
+
+  @Override
+  public void removeGlobalListener(
+      Class<? extends DominoEvent> event, GlobalDominoEventListener listener) {
+    removeListener(event, listener);
+  }
+
+  @Override
+  public void fireEvent(Class<? extends DominoEvent> eventType, DominoEvent dominoEvent) {
+    DominoEventListener[] snapshot = snapshotOf(eventType);
+    if (isNull(snapshot)) {
+      return;
+    }
+    ClientApp.make().getAsyncRunner().runAsync(() -> dispatch(snapshot, dominoEvent));
+  }
+
+  private static void dispatch(DominoEventListener[] snapshot, DominoEvent dominoEvent) {
+    for (DominoEventListener listener : snapshot) {
+      try {
+        listener.onEventReceived(dominoEvent);
+      } catch (Exception e) {
+        LOGGER.log(Level.SEVERE, "Failed to dispatch event to listener : " + listener, e);
+      }
+    }
+  }
+
+  private synchronized DominoEventListener[] snapshotOf(Class<? extends DominoEvent> eventType) {
+    ListenersChain chain = listeners.get(eventType);
+    return isNull(chain) ? null : chain.snapshot();
+  }
+
+  private synchronized void removeNode(
+      Class<? extends DominoEvent> eventType, ListenersChain chain, ListenersChain.Node node) {
+    if (chain.remove(node) && chain.isEmpty() && listeners.get(eventType) == chain) {
+      listeners.remove(eventType);
+    }
+  }
+}
@@ -16,15 +16,20 @@
 package org.dominokit.domino.api.client.extension;
 
 import java.util.Set;
+import org.dominokit.domino.api.client.mvp.RegistrationHandler;
 import org.dominokit.domino.api.shared.extension.DominoEvent;
 import org.dominokit.domino.api.shared.extension.DominoEventListener;
 import org.dominokit.domino.api.shared.extension.GlobalDominoEventListener;
 
 public interface DominoEventsListenersRepository {
-  void addListener(
+  /**
+   * @return a handler that removes this specific registration, removing through the handler does
+   *     not need to search the registered listeners
+   */
+  RegistrationHandler addListener(
       Class<? extends DominoEvent> dominoEvent, DominoEventListener dominoEventListener);
 
-  void addGlobalListener(
+  RegistrationHandler addGlobalListener(
       Class<? extends DominoEvent> dominoEvent, GlobalDominoEventListener dominoEventListener);
 
   Set<DominoEventListener> getEventListeners(Class<? extends DominoEvent> dominoEvent);
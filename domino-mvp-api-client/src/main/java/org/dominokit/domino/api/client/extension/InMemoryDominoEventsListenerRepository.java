@@ -16,61 +16,64 @@
 package org.dominokit.domino.api.client.extension;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import java.util.*;
-import java.util.stream.Collectors;
 import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.api.client.mvp.RegistrationHandler;
 import org.dominokit.domino.api.shared.extension.DominoEvent;
 import org.dominokit.domino.api.shared.extension.DominoEventListener;
 import org.dominokit.domino.api.shared.extension.GlobalDominoEventListener;
 
 public class InMemoryDominoEventsListenerRepository implements DominoEventsListenersRepository {
 
-  private final Map<String, List<ListenerWrapper>> listeners = new HashMap<>();
+  private final Map<String, ListenersChain> listeners = new HashMap<>();
 
   @Override
-  public void addListener(
+  public RegistrationHandler addListener(
       Class<? extends DominoEvent> dominoEvent, DominoEventListener dominoEventListener) {
-    initializeEventListeners(dominoEvent);
-    listeners.get(dominoEvent.getCanonicalName()).add(new ListenerWrapper(dominoEventListener));
+    String key = dominoEvent.getCanonicalName();
+    ListenersChain chain = listeners.computeIfAbsent(key, k -> new ListenersChain());
+    ListenersChain.Node node = chain.add(dominoEventListener);
+    return () -> removeNode(key, chain, node);
   }
 
   @Override
-  public void addGlobalListener(
+  public RegistrationHandler addGlobalListener(
       Class<? extends DominoEvent> dominoEvent, GlobalDominoEventListener dominoEventListener) {
-    addListener(dominoEvent, dominoEventListener);
+    return addListener(dominoEvent, dominoEventListener);
   }
 
   @Override
   public Set<DominoEventListener> getEventListeners(Class<? extends DominoEvent> dominoEvent) {
-    initializeEventListeners(dominoEvent);
-    return listeners.get(dominoEvent.getCanonicalName()).stream()
-        .map(cw -> cw.dominoEventListener)
-        .collect(Collectors.toSet());
+    ListenersChain chain = listeners.get(dominoEvent.getCanonicalName());
+    if (isNull(chain)) {
+      return new HashSet<>();
+    }
+    return new LinkedHashSet<>(Arrays.asList(chain.snapshot()));
   }
 
   @Override
   public void fireEvent(Class<? extends DominoEvent> eventType, DominoEvent dominoEvent) {
-    getEventListeners(eventType)
-        .forEach(
-            listener ->
-                ClientApp.make()
-                    .getAsyncRunner()
-                    .runAsync(() -> listener.onEventReceived(dominoEvent)));
-  }
-
-  private List<ListenerWrapper> getEventListenersWrapper(Class<? extends DominoEvent> dominoEvent) {
-    initializeEventListeners(dominoEvent);
-    return listeners.get(dominoEvent.getCanonicalName());
+    ListenersChain chain = listeners.get(eventType.getCanonicalName());
+    if (isNull(chain)) {
+      return;
+    }
+    for (DominoEventListener listener : chain.snapshot()) {
+      ClientApp.make().getAsyncRunner().runAsync(() -> listener.onEventReceived(dominoEvent));
+    }
   }
 
   @Override
   public void removeListener(Class<? extends DominoEvent> event, DominoEventListener listener) {
-    List<ListenerWrapper> eventListeners = getEventListenersWrapper(event);
-    eventListeners.remove(new ListenerWrapper(listener));
-
-    if (eventListeners.isEmpty()) {
-      listeners.remove(event.getCanonicalName());
+    String key = event.getCanonicalName();
+    ListenersChain chain = listeners.get(key);
+    if (isNull(chain)) {
+      return;
+    }
+    ListenersChain.Node node = chain.find(listener);
+    if (nonNull(node)) {
+      removeNode(key, chain, node);
     }
   }
 
@@ -80,31 +83,9 @@ public class InMemoryDominoEventsListenerRepository implements DominoEventsListe
     removeListener(event, listener);
   }
 
-  private void initializeEventListeners(Class<? extends DominoEvent> extensionPoint) {
-    if (isNull(listeners.get(extensionPoint.getCanonicalName())))
-      listeners.put(extensionPoint.getCanonicalName(), new LinkedList<>());
-  }
-
-  private class ListenerWrapper {
-
-    private final DominoEventListener dominoEventListener;
-
-    public ListenerWrapper(DominoEventListener dominoEventListener) {
-      this.dominoEventListener = dominoEventListener;
-    }
-
-    @Override
-    public boolean equals(Object other) {
-      if (isNull(other)) return false;
-      return dominoEventListener
-          .getClass()
-          .getCanonicalName()
-          .equals(((ListenerWrapper) other).dominoEventListener.getClass().getCanonicalName());
-    }
-
-    @Override
-    public int hashCode() {
-      return dominoEventListener.getClass().getCanonicalName().hashCode();
+  private void removeNode(String key, ListenersChain chain, ListenersChain.Node node) {
+    if (chain.remove(node) && chain.isEmpty() && listeners.get(key) == chain) {
+      listeners.remove(key);
     }
   }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.extension;
+
+import static java.util.Objects.isNull;
+
+import org.dominokit.domino.api.shared.extension.DominoEventListener;
+
+/**
+ * An intrusive doubly linked list of the listeners of a single event type.
+ *
+ * <p>Adding a listener returns its {@link Node}, which can later be removed in constant time
+ * without searching the list. Listeners are compared by identity, registering the same listener
+ * instance twice creates two separate nodes.
+ *
+ * <p>The chain caches an array snapshot of its listeners that is rebuilt lazily after the chain
+ * changes, the returned snapshot is never modified so it can be safely iterated while listeners
+ * are being added or removed.
+ *
+ * <p>This class is not thread safe, repositories using it should guard it when needed.
+ */
+public final class ListenersChain {
+
+  private static final DominoEventListener[] EMPTY = new DominoEventListener[0];
+
+  private Node head;
+  private Node tail;
+  private int size;
+  private DominoEventListener[] snapshot = EMPTY;
+
+  public Node add(DominoEventListener listener) {
+    Node node = new Node(this, listener);
+    if (isNull(tail)) {
+      head = node;
+    } else {
+      tail.next = node;
+      node.previous = tail;
+    }
+    tail = node;
+    size++;
+    snapshot = null;
+    return node;
+  }
+
+  /** @return true if the node was part of this chain and got removed */
+  public boolean remove(Node node) {
+    if (node.chain != this) {
+      return false;
+    }
+    if (isNull(node.previous)) {
+      head = node.next;
+    } else {
+      node.previous.next = node.next;
+    }
+    if (isNull(node.next)) {
+      tail = node.previous;
+    } else {
+      node.next.previous = node.previous;
+    }
+    node.chain = null;
+    node.previous = null;
+    node.next = null;
+    size--;
+    snapshot = null;
+    return true;
+  }
+
+  /** @return the first node holding the same listener instance, or null */
+  public Node find(DominoEventListener listener) {
+    for (Node node = head; node != null; node = node.next) {
+      if (node.listener == listener) {
+        return node;
+      }
+    }
+    return null;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public DominoEventListener[] snapshot() {
+    if (isNull(snapshot)) {
+      DominoEventListener[] listeners = new DominoEventListener[size];
+      int index = 0;
+      for (Node node = head; node != null; node = node.next) {
+        listeners[index++] = node.listener;
+      }
+      snapshot = listeners;
+    }
+    return snapshot;
+  }
+
+  public static final class Node {
+    private final DominoEventListener listener;
+    private ListenersChain chain;
+    private Node previous;
+    private Node next;
+
+    private Node(ListenersChain chain, DominoEventListener listener) {
+      this.chain = chain;
+      this.listener = listener;
+    }
+
+    public DominoEventListener getListener() {
+      return listener;
+    }
+
+    /** @return true while the node is still part of a chain */
+    public boolean isAttached() {
+      return chain != null;
+    }
+  }
+}
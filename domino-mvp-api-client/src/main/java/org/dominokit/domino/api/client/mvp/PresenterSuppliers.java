@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.mvp;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Holds the presenter and view suppliers registered through the generated presenter configs of one
+ * {@link org.dominokit.domino.api.client.ClientApp}, so each application creates its own presenters
+ * and views, including its own singleton presenters.
+ */
+public class PresenterSuppliers {
+
+  private final Map<Class<?>, Supplier<?>> presenterSuppliers = new HashMap<>();
+  private final Map<Class<?>, Supplier<?>> viewSuppliers = new HashMap<>();
+
+  /**
+   * @param configType the generated config class of the presenter
+   * @param presenterSupplier the supplier creating the presenter
+   */
+  public synchronized void setPresenterSupplier(
+      Class<?> configType, Supplier<?> presenterSupplier) {
+    presenterSuppliers.put(configType, presenterSupplier);
+  }
+
+  /**
+   * @param configType the generated config class of the presenter
+   * @return the presenter supplier registered for the config, or null
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized <S extends Supplier<?>> S getPresenterSupplier(Class<?> configType) {
+    return (S) presenterSuppliers.get(configType);
+  }
+
+  /**
+   * @param configType the generated config class of the presenter
+   * @param viewSupplier the supplier creating the presenter view
+   */
+  public synchronized void setViewSupplier(Class<?> configType, Supplier<?> viewSupplier) {
+    viewSuppliers.put(configType, viewSupplier);
+  }
+
+  /**
+   * @param configType the generated config class of the presenter
+   * @return the view supplier registered for the config, or null
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized <S extends Supplier<?>> S getViewSupplier(Class<?> configType) {
+    return (S) viewSuppliers.get(configType);
+  }
+
+  /**
+   * Moves the suppliers registered here to the target, the suppliers the target already has for
+   * the same config are kept.
+   *
+   * @param target the suppliers receiving the registrations
+   */
+  public void moveTo(PresenterSuppliers target) {
+    Map<Class<?>, Supplier<?>> presenters;
+    Map<Class<?>, Supplier<?>> views;
+    synchronized (this) {
+      presenters = new HashMap<>(presenterSuppliers);
+      views = new HashMap<>(viewSuppliers);
+      presenterSuppliers.clear();
+      viewSuppliers.clear();
+    }
+    synchronized (target) {
+      presenters.forEach(target.presenterSuppliers::putIfAbsent);
+      views.forEach(target.viewSuppliers::putIfAbsent);
+    }
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.dominokit.domino.api.client.mvp.presenter;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import java.util.ArrayList;
@@ -24,10 +25,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.api.client.async.AsyncPriority;
 import org.dominokit.domino.api.client.async.AsyncRunner;
 import org.dominokit.domino.api.client.extension.DominoEvents;
 import org.dominokit.domino.api.client.mvp.RegistrationHandler;
 import org.dominokit.domino.api.client.startup.PresenterRoutingTask;
+import org.dominokit.domino.api.client.tracing.LifecycleEventType;
 import org.dominokit.domino.api.shared.extension.DominoEvent;
 import org.dominokit.domino.api.shared.extension.DominoEventListener;
 import org.dominokit.domino.api.shared.extension.GlobalDominoEventListener;
@@ -42,6 +45,7 @@ public abstract class AbstractPresenter extends DominoPresenter implements Prese
   private PresenterState state;
   protected boolean activated;
   private PresenterRoutingTask routingTask;
+  private boolean constructed;
 
   private final PresenterState initialized =
       () ->
@@ -52,12 +56,25 @@ public abstract class AbstractPresenter extends DominoPresenter implements Prese
 
   private Map<Class<? extends DominoEvent>, DominoEventListener> listeners;
   private Map<Class<? extends DominoEvent>, GlobalDominoEventListener> globalListeners;
+  private EventsDispatchTable<? extends AbstractPresenter> eventsDispatchTable;
+  private DominoEventListener[] eventsHooks;
   private final List<RegistrationHandler> storeRegisterations = new ArrayList<>();
+  private final List<RegistrationHandler> listenersRegistrations = new ArrayList<>();
 
   protected void initialize() {
-    postConstruct();
-    this.listeners = getListeners();
-    this.globalListeners = getGlobalListeners();
+    if (!constructed) {
+      constructed = true;
+      postConstruct();
+    }
+    this.eventsDispatchTable = getEventsDispatchTable();
+    if (nonNull(eventsDispatchTable)) {
+      if (isNull(eventsHooks)) {
+        this.eventsHooks = eventsDispatchTable.hooksFor(this);
+      }
+    } else {
+      this.listeners = getListeners();
+      this.globalListeners = getGlobalListeners();
+    }
     registerListeners();
     registerGlobalListeners();
     state = initialized;
@@ -66,9 +83,16 @@ public abstract class AbstractPresenter extends DominoPresenter implements Prese
     }
   }
 
+  /**
+   * Called once before the first initialization of this presenter, it is not called again when a
+   * pooled presenter is reused, use {@link ViewablePresenter#onReset()} to restore its state.
+   */
   protected void postConstruct() {}
 
   protected void activate() {
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.PRESENTER_ACTIVATED, getClass(), null);
     activated = true;
     fireStateEvent(true);
     registerByName();
@@ -96,20 +120,38 @@ public abstract class AbstractPresenter extends DominoPresenter implements Prese
   protected void fireActivationEvent(boolean state) {}
 
   private void registerListeners() {
-    listeners.forEach((key, value) -> ClientApp.make().registerEventListener(key, value));
+    if (nonNull(eventsDispatchTable)) {
+      for (int i = 0; i < eventsHooks.length; i++) {
+        if (eventsDispatchTable.isGlobal(i)) {
+          listenersRegistrations.add(
+              ClientApp.make()
+                  .registerGlobalEventListener(
+                      eventsDispatchTable.eventAt(i), (GlobalDominoEventListener) eventsHooks[i]));
+        } else {
+          listenersRegistrations.add(
+              ClientApp.make()
+                  .registerEventListener(eventsDispatchTable.eventAt(i), eventsHooks[i]));
+        }
+      }
+      return;
+    }
+    listeners.forEach(
+        (key, value) ->
+            listenersRegistrations.add(ClientApp.make().registerEventListener(key, value)));
   }
 
   private void registerGlobalListeners() {
+    if (nonNull(eventsDispatchTable)) {
+      return;
+    }
     globalListeners.forEach(
-        (key, value) -> ClientApp.make().registerGlobalEventListener(key, value));
+        (key, value) ->
+            listenersRegistrations.add(ClientApp.make().registerGlobalEventListener(key, value)));
   }
 
   private void removeListeners() {
-    listeners.forEach((key, value) -> ClientApp.make().removeEventListener(key, value));
-  }
-
-  private void removeGlobalListeners() {
-    globalListeners.forEach((key, value) -> ClientApp.make().removeGlobalEventListener(key, value));
+    listenersRegistrations.forEach(RegistrationHandler::remove);
+    listenersRegistrations.clear();
   }
 
   @Override
@@ -126,8 +168,10 @@ public abstract class AbstractPresenter extends DominoPresenter implements Prese
   }
 
   protected final void deActivate() {
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.PRESENTER_DEACTIVATED, getClass(), null);
     removeListeners();
-    removeGlobalListeners();
     activated = false;
     fireStateEvent(false);
     removeStores();
@@ -200,6 +244,14 @@ public abstract class AbstractPresenter extends DominoPresenter implements Prese
     return new HashMap<>();
   }
 
+  /**
+   * @return the generated events dispatch table of this presenter type, or null to fall back to
+   *     {@link #getListeners()} and {@link #getGlobalListeners()}
+   */
+  protected EventsDispatchTable<? extends AbstractPresenter> getEventsDispatchTable() {
+    return null;
+  }
+
   protected <E extends DominoEvent> void fireEvent(
       Class<E> extensionPointInterface, E extensionPoint) {
     DominoEvents.fire(extensionPointInterface, extensionPoint);
@@ -209,6 +261,10 @@ public abstract class AbstractPresenter extends DominoPresenter implements Prese
     ClientApp.make().getAsyncRunner().runAsync(asyncTask);
   }
 
+  protected void runAsync(AsyncPriority priority, AsyncRunner.AsyncTask asyncTask) {
+    ClientApp.make().getAsyncRunner().runAsync(priority, asyncTask);
+  }
+
   protected AppHistory history() {
     return ClientApp.make().getHistory();
   }
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.mvp.presenter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.dominokit.domino.api.shared.extension.DominoEvent;
+import org.dominokit.domino.api.shared.extension.DominoEventListener;
+import org.dominokit.domino.api.shared.extension.GlobalDominoEventListener;
+
+/**
+ * A static table of the events a presenter type listens to, generated once per presenter type by
+ * the presenters annotation processor.
+ *
+ * <p>The table holds one entry per listened event with a factory that creates the presenter hook,
+ * a presenter instance creates its hooks once and keeps them in an array in the same order as the
+ * table entries.
+ *
+ * @param <P> the presenter type
+ */
+public final class EventsDispatchTable<P extends AbstractPresenter> {
+
+  private final List<Entry<P>> entries = new ArrayList<>();
+
+  private EventsDispatchTable() {}
+
+  public static <P extends AbstractPresenter> EventsDispatchTable<P> create() {
+    return new EventsDispatchTable<>();
+  }
+
+  public EventsDispatchTable<P> listen(
+      Class<? extends DominoEvent> event, Function<P, ? extends DominoEventListener> hook) {
+    entries.add(new Entry<>(event, false, hook));
+    return this;
+  }
+
+  public EventsDispatchTable<P> listenGlobal(
+      Class<? extends DominoEvent> event,
+      Function<P, ? extends GlobalDominoEventListener> hook) {
+    entries.add(new Entry<>(event, true, hook));
+    return this;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public Class<? extends DominoEvent> eventAt(int index) {
+    return entries.get(index).event;
+  }
+
+  public boolean isGlobal(int index) {
+    return entries.get(index).global;
+  }
+
+  @SuppressWarnings("unchecked")
+  public DominoEventListener[] hooksFor(AbstractPresenter presenter) {
+    DominoEventListener[] hooks = new DominoEventListener[entries.size()];
+    for (int i = 0; i < hooks.length; i++) {
+      hooks[i] = entries.get(i).hook.apply((P) presenter);
+    }
+    return hooks;
+  }
+
+  private static final class Entry<P> {
+    private final Class<? extends DominoEvent> event;
+    private final boolean global;
+    private final Function<P, ? extends DominoEventListener> hook;
+
+    private Entry(
+        Class<? extends DominoEvent> event,
+        boolean global,
+        Function<P, ? extends DominoEventListener> hook) {
+      this.event = event;
+      this.global = global;
+      this.hook = hook;
+    }
+  }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.mvp.presenter;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.dominokit.domino.api.client.async.MonotonicClock;
+
+/**
+ * A keyed, size bounded, least recently used cache of presenter instances used by {@link
+ * PresenterSupplier} as a middle ground between singleton presenters and creating a new presenter
+ * for every request.
+ *
+ * <p>Presenters are keyed by the current history token by default, entries are evicted when the
+ * cache exceeds its max size or when they are not requested for longer than the max idle time.
+ * Revealed presenters are still in use and are never evicted, evicted presenters that are still
+ * activated are deactivated before the eviction handler is called.
+ *
+ * <p>Idle presenters are swept periodically when the async runner {@link
+ * AsyncRunner#supportsDelay() supports delays}, otherwise they are only evicted on the next {@link
+ * #get(String)} or {@link #put(String, Presentable)}. When every evictable entry is in use the
+ * cache grows past its max size, a warning is logged and the extra entries are evicted on the next
+ * access or sweep after they are no longer in use.
+ *
+ * @param <P> the presenter type
+ */
+public class PresenterCache<P extends Presentable> {
+
+  private static final Logger LOGGER = Logger.getLogger(PresenterCache.class.getName());
+
+  private final int maxSize;
+  private final double maxIdleMillis;
+  private final LinkedHashMap<String, CacheEntry<P>> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private Supplier<String> keyProvider =
+      () -> ClientApp.make().getHistory().currentToken().value();
+  private EvictionHandler<P> evictionHandler = (key, presenter) -> {};
+  private MonotonicClock clock = MonotonicClock.SYSTEM;
+  private Supplier<AsyncRunner> asyncRunner = () -> ClientApp.make().getAsyncRunner();
+  private boolean sweepScheduled = false;
+  private boolean overflowing = false;
+  private int hits;
+  private int misses;
+  private int evictions;
+
+  public PresenterCache(int maxSize) {
+    this(maxSize, -1);
+  }
+
+  /**
+   * @param maxSize the maximum number of cached presenters
+   * @param maxIdleMillis the time after which an unused presenter is evicted, a negative value
+   *     disables idle eviction
+   */
+  public PresenterCache(int maxSize, double maxIdleMillis) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Presenter cache max size must be at least 1");
+    }
+    this.maxSize = maxSize;
+    this.maxIdleMillis = maxIdleMillis;
+  }
+
+  public PresenterCache<P> setKeyProvider(Supplier<String> keyProvider) {
+    this.keyProvider = keyProvider;
+    return this;
+  }
+
+  public PresenterCache<P> onEvicted(EvictionHandler<P> evictionHandler) {
+    this.evictionHandler = evictionHandler;
+    return this;
+  }
+
+  public PresenterCache<P> setClock(MonotonicClock clock) {
+    this.clock = clock;
+    return this;
+  }
+
+  /**
+   * @param asyncRunner the runner used to sweep idle presenters, the application async runner is
+   *     used by default
+   * @return same cache instance
+   */
+  public PresenterCache<P> setAsyncRunner(AsyncRunner asyncRunner) {
+    this.asyncRunner = () -> asyncRunner;
+    return this;
+  }
+
+  /** @return the cache key of the presenter requested now */
+  public String currentKey() {
+    return keyProvider.get();
+  }
+
+  /**
+   * @param key the cache key
+   * @return the cached presenter of the key or {@code null} if it is not cached
+   */
+  public P get(String key) {
+    List<CacheEntry<P>> evicted;
+    P presenter = null;
+    synchronized (this) {
+      evicted = collectIdle();
+      collectOverflow(evicted, null);
+      CacheEntry<P> entry = entries.get(key);
+      if (isNull(entry)) {
+        misses++;
+      } else {
+        hits++;
+        entry.lastAccess = clock.now();
+        presenter = entry.presenter;
+      }
+    }
+    evict(evicted);
+    return presenter;
+  }
+
+  public void put(String key, P presenter) {
+    List<CacheEntry<P>> evicted;
+    synchronized (this) {
+      entries.put(key, new CacheEntry<>(key, presenter, clock.now()));
+      evicted = new ArrayList<>();
+      collectOverflow(evicted, key);
+    }
+    evict(evicted);
+    scheduleSweep();
+  }
+
+  /**
+   * Evicts the presenters that were not requested for longer than the max idle time and the least
+   * recently used presenters exceeding the max size that are no longer in use.
+   */
+  public void evictIdle() {
+    List<CacheEntry<P>> evicted;
+    synchronized (this) {
+      evicted = collectIdle();
+      collectOverflow(evicted, null);
+    }
+    evict(evicted);
+  }
+
+  /** Evicts all the cached presenters that are not in use. */
+  public void evictAll() {
+    List<CacheEntry<P>> evicted = new ArrayList<>();
+    synchronized (this) {
+      collect(evicted, entry -> true, Integer.MAX_VALUE);
+    }
+    evict(evicted);
+  }
+
+  private List<CacheEntry<P>> collectIdle() {
+    List<CacheEntry<P>> evicted = new ArrayList<>();
+    if (maxIdleMillis >= 0) {
+      double now = clock.now();
+      collect(evicted, entry -> now - entry.lastAccess > maxIdleMillis, Integer.MAX_VALUE);
+    }
+    return evicted;
+  }
+
+  private void collectOverflow(List<CacheEntry<P>> evicted, String addedKey) {
+    collect(
+        evicted, entry -> !entry.key.equals(addedKey), evicted.size() + entries.size() - maxSize);
+    boolean overflow = entries.size() > maxSize;
+    if (overflow && !overflowing) {
+      LOGGER.warning(
+          "Presenter cache exceeds its max size ["
+              + maxSize
+              + "] and holds ["
+              + entries.size()
+              + "] presenters because they are in use, they will be evicted once released");
+    }
+    overflowing = overflow;
+  }
+
+  private void collect(List<CacheEntry<P>> evicted, EntryFilter<P> filter, int limit) {
+    Iterator<CacheEntry<P>> iterator = entries.values().iterator();
+    while (evicted.size() < limit && iterator.hasNext()) {
+      CacheEntry<P> entry = iterator.next();
+      if (!isInUse(entry.presenter) && filter.accept(entry)) {
+        evicted.add(entry);
+        iterator.remove();
+        evictions++;
+      }
+    }
+  }
+
+  private void evict(List<CacheEntry<P>> evicted) {
+    for (CacheEntry<P> entry : evicted) {
+      P presenter = entry.presenter;
+      if (presenter instanceof AbstractPresenter
+          && ((AbstractPresenter) presenter).isActivated()) {
+        ((AbstractPresenter) presenter).deActivate();
+      }
+      evictionHandler.onEvicted(entry.key, presenter);
+    }
+  }
+
+  private void scheduleSweep() {
+    AsyncRunner runner;
+    double delay;
+    synchronized (this) {
+      runner = asyncRunner.get();
+      if (sweepScheduled
+          || maxIdleMillis < 0
+          || entries.isEmpty()
+          || isNull(runner)
+          || !runner.supportsDelay()) {
+        return;
+      }
+      sweepScheduled = true;
+      delay = maxIdleMillis;
+    }
+    runner.runDelayed(
+        delay,
+        () -> {
+          synchronized (this) {
+            sweepScheduled = false;
+          }
+          evictIdle();
+          scheduleSweep();
+        });
+  }
+
+  private boolean isInUse(P presenter) {
+    return presenter instanceof ViewablePresenter
+        && ((ViewablePresenter<?>) presenter).isActivated();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** @return true if the cache exceeds its max size because its presenters are in use. */
+  public synchronized boolean isOverflowing() {
+    return overflowing;
+  }
+
+  /** @return the number of requests served from the cache. */
+  public synchronized int getHits() {
+    return hits;
+  }
+
+  /** @return the number of requests that created a new presenter. */
+  public synchronized int getMisses() {
+    return misses;
+  }
+
+  /** @return the number of evicted presenters. */
+  public synchronized int getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Called after a presenter is evicted from the cache.
+   *
+   * @param <P> the presenter type
+   */
+  @FunctionalInterface
+  public interface EvictionHandler<P> {
+    void onEvicted(String key, P presenter);
+  }
+
+  @FunctionalInterface
+  private interface EntryFilter<P> {
+    boolean accept(CacheEntry<P> entry);
+  }
+
+  private static final class CacheEntry<P> {
+    private final String key;
+    private final P presenter;
+    private double lastAccess;
+
+    private CacheEntry(String key, P presenter, double lastAccess) {
+      this.key = key;
+      this.presenter = presenter;
+      this.lastAccess = lastAccess;
+    }
+  }
+}
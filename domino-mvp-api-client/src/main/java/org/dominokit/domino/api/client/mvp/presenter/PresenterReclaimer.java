@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.mvp.presenter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.dominokit.domino.api.client.async.MonotonicClock;
+
+/**
+ * Releases the views of presenters that are no longer revealed so long running applications do not
+ * keep the content of every presenter ever revealed in memory.
+ *
+ * <p>The reclaimer tracks the last reveal time of each revealed presenter, once a presenter is
+ * deactivated and exceeds the idle budget, or once more inactive presenters than the retained
+ * budget are tracked, its view is released through {@link
+ * org.dominokit.domino.api.client.mvp.view.BaseDominoView#release()} and rebuilt lazily the next
+ * time the presenter is revealed, singleton views keep their content. Reclamation is disabled until
+ * a budget is set.
+ *
+ * <p>Idle presenters are also swept periodically when the async runner {@link
+ * AsyncRunner#supportsDelay() supports delays}, otherwise they are only reclaimed on the next
+ * reveal.
+ */
+public class PresenterReclaimer {
+
+  private static final Logger LOGGER = Logger.getLogger(PresenterReclaimer.class.getName());
+
+  private final AsyncRunner asyncRunner;
+  private final MonotonicClock clock;
+  private final Map<ViewablePresenter<?>, Double> lastRevealed = new LinkedHashMap<>();
+  private double maxIdleMillis = -1;
+  private int maxRetained = -1;
+  private boolean sweepScheduled = false;
+  private int reclaimedCount;
+
+  public PresenterReclaimer(AsyncRunner asyncRunner) {
+    this(asyncRunner, MonotonicClock.SYSTEM);
+  }
+
+  public PresenterReclaimer(AsyncRunner asyncRunner, MonotonicClock clock) {
+    this.asyncRunner = asyncRunner;
+    this.clock = clock;
+  }
+
+  /**
+   * @param maxIdleMillis the time after the last reveal of an inactive presenter before its view is
+   *     released, a negative value disables idle reclamation
+   * @return same reclaimer instance
+   */
+  public synchronized PresenterReclaimer setMaxIdleMillis(double maxIdleMillis) {
+    this.maxIdleMillis = maxIdleMillis;
+    return this;
+  }
+
+  /**
+   * @param maxRetained the number of inactive presenters allowed to keep their views, the least
+   *     recently revealed are released first, a negative value disables the limit
+   * @return same reclaimer instance
+   */
+  public synchronized PresenterReclaimer setMaxRetained(int maxRetained) {
+    this.maxRetained = maxRetained;
+    return this;
+  }
+
+  /** @return true if an idle or retained budget is set. */
+  public synchronized boolean isEnabled() {
+    return maxIdleMillis >= 0 || maxRetained >= 0;
+  }
+
+  void onRevealed(ViewablePresenter<?> presenter) {
+    synchronized (this) {
+      if (!isEnabled()) {
+        return;
+      }
+      lastRevealed.remove(presenter);
+      lastRevealed.put(presenter, clock.now());
+    }
+    reclaim();
+    scheduleSweep();
+  }
+
+  /**
+   * Releases the views of the inactive presenters that exceed the budgets, this is called on every
+   * reveal and periodically while presenters are tracked if the async runner supports delays, and
+   * can be called when the application detects memory pressure.
+   *
+   * @return the number of presenters whose views were released
+   */
+  public int reclaim() {
+    List<ViewablePresenter<?>> reclaimable = new ArrayList<>();
+    synchronized (this) {
+      double now = clock.now();
+      int excess = maxRetained >= 0 ? countInactive() - maxRetained : 0;
+      Iterator<Map.Entry<ViewablePresenter<?>, Double>> iterator =
+          lastRevealed.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<ViewablePresenter<?>, Double> entry = iterator.next();
+        if (entry.getKey().isActivated()) {
+          continue;
+        }
+        boolean idle = maxIdleMillis >= 0 && now - entry.getValue() > maxIdleMillis;
+        if (excess > 0 || idle) {
+          reclaimable.add(entry.getKey());
+          iterator.remove();
+          excess--;
+        }
+      }
+    }
+    int reclaimed = 0;
+    for (ViewablePresenter<?> presenter : reclaimable) {
+      if (presenter.releaseView()) {
+        reclaimed++;
+      }
+    }
+    if (reclaimed > 0) {
+      synchronized (this) {
+        reclaimedCount += reclaimed;
+      }
+      LOGGER.fine("Released the views of [" + reclaimed + "] inactive presenters");
+    }
+    return reclaimed;
+  }
+
+  private int countInactive() {
+    int inactive = 0;
+    for (ViewablePresenter<?> presenter : lastRevealed.keySet()) {
+      if (!presenter.isActivated()) {
+        inactive++;
+      }
+    }
+    return inactive;
+  }
+
+  private void scheduleSweep() {
+    double delay;
+    synchronized (this) {
+      if (sweepScheduled
+          || maxIdleMillis < 0
+          || lastRevealed.isEmpty()
+          || !asyncRunner.supportsDelay()) {
+        return;
+      }
+      sweepScheduled = true;
+      delay = maxIdleMillis;
+    }
+    asyncRunner.runDelayed(
+        delay,
+        () -> {
+          synchronized (this) {
+            sweepScheduled = false;
+          }
+          reclaim();
+          scheduleSweep();
+        });
+  }
+
+  /** @return the number of revealed presenters currently tracked. */
+  public synchronized int getTrackedCount() {
+    return lastRevealed.size();
+  }
+
+  /** @return the total number of presenters whose views were released. */
+  public synchronized int getReclaimedCount() {
+    return reclaimedCount;
+  }
+}
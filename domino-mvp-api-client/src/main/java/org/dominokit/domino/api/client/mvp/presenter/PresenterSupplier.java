@@ -16,6 +16,7 @@
 package org.dominokit.domino.api.client.mvp.presenter;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import java.util.function.Supplier;
 
@@ -24,6 +25,8 @@ public class PresenterSupplier<P extends Presentable> implements Supplier<P> {
   protected P presenter;
   protected final boolean singleton;
   protected Supplier<P> presenterFactory;
+  private P prefetched;
+  private PresenterCache<P> cache;
 
   public PresenterSupplier(boolean singleton, Supplier<P> presenterFactory) {
     this.singleton = singleton;
@@ -32,13 +35,94 @@ public class PresenterSupplier<P extends Presentable> implements Supplier<P> {
 
   @Override
   public P get() {
+    if (nonNull(cache)) {
+      return getCached();
+    }
     if (isNull(presenter) || !singleton) {
-      presenter = presenterFactory.get();
-      onBeforeInitPresenter();
-      presenter.init();
+      createPresenter();
     }
     return presenter;
   }
 
+  private P getCached() {
+    String key = cache.currentKey();
+    P cached = cache.get(key);
+    if (isNull(cached)) {
+      cache.put(key, createPresenter());
+    } else {
+      presenter = cached;
+    }
+    return presenter;
+  }
+
+  private P createPresenter() {
+    presenter = nonNull(prefetched) ? takePrefetched() : newPresenter();
+    onBeforeInitPresenter();
+    presenter.init();
+    return presenter;
+  }
+
+  /**
+   * Keeps the presenters in a keyed LRU cache instead of using the singleton or always new
+   * instance modes.
+   *
+   * @param cache the presenters cache, or {@code null} to disable caching
+   * @return same supplier instance
+   */
+  public PresenterSupplier<P> setCache(PresenterCache<P> cache) {
+    this.cache = cache;
+    return this;
+  }
+
+  public PresenterCache<P> getCache() {
+    return cache;
+  }
+
+  /**
+   * Creates the presenter ahead of time without initializing it, the next call to {@link #get()}
+   * initializes and returns the prefetched instance instead of creating a new one. The presenter
+   * is obtained through {@link #newPresenter()} so suppliers that reuse presenters prefetch a
+   * reused one when available.
+   *
+   * @return true if a presenter was created, false if one is already prefetched or the singleton
+   *     presenter already exists.
+   */
+  public boolean prefetch() {
+    if (nonNull(prefetched) || (singleton && nonNull(presenter))) {
+      return false;
+    }
+    prefetched = newPresenter();
+    onPrefetched();
+    return true;
+  }
+
+  /** @return true if there is a prefetched presenter waiting to be used. */
+  public boolean isPrefetched() {
+    return nonNull(prefetched);
+  }
+
+  /** Releases the prefetched presenter if it was not used yet. */
+  public void discardPrefetched() {
+    if (nonNull(prefetched)) {
+      onDiscardPrefetched(takePrefetched());
+    }
+  }
+
+  private P takePrefetched() {
+    P result = prefetched;
+    prefetched = null;
+    return result;
+  }
+
+  /** @return a new presenter instance that is not initialized yet */
+  protected P newPresenter() {
+    return presenterFactory.get();
+  }
+
   protected void onBeforeInitPresenter() {}
+
+  protected void onPrefetched() {}
+
+  /** @param discarded the prefetched presenter that will not be used */
+  protected void onDiscardPrefetched(P discarded) {}
 }
@@ -24,6 +24,9 @@ import java.util.logging.Logger;
 import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.domino.api.client.mvp.slots.*;
 import org.dominokit.domino.api.client.mvp.view.*;
+import org.dominokit.domino.api.client.tracing.LifecycleEventType;
+import org.dominokit.domino.api.client.tracing.RevealStage;
+import org.dominokit.domino.api.client.tracing.RevealTrace;
 
 public abstract class ViewablePresenter<V extends View> extends AbstractPresenter {
 
@@ -32,6 +35,8 @@ public abstract class ViewablePresenter<V extends View> extends AbstractPresente
   protected V view;
   private Supplier<V> viewSupplier;
   private boolean revealed = false;
+  private Runnable releaseHandler;
+  private RevealTrace revealTrace;
 
   @Override
   protected void initialize() {
@@ -51,22 +56,31 @@ public abstract class ViewablePresenter<V extends View> extends AbstractPresente
   }
 
   private void revealInSlot(String key) {
-    try {
-      if (view instanceof HasContent) {
-        onBeforeReveal();
-        ClientApp.make().slotsManager().revealView(key, (HasContent) view, this::registerSlots);
-      } else {
-        throw new RevealViewWithNoContentException(view.getClass().getCanonicalName());
-      }
-    } catch (InvalidSlotException e) {
-      LOGGER.log(
-          Level.SEVERE,
-          "Slot ["
-              + key
-              + "] not found, required by presenter : ["
-              + this.getClass().getCanonicalName()
-              + "]");
+    if (view instanceof HasContent) {
+      markRevealStage(RevealStage.PRESENTER);
+      onBeforeReveal();
+      markRevealStage(RevealStage.BEFORE_REVEAL);
+      ClientApp.make()
+          .slotsManager()
+          .revealView(
+              key, (HasContent) view, this::registerSlots, error -> onRevealFailed(key, error));
+    } else {
+      throw new RevealViewWithNoContentException(view.getClass().getCanonicalName());
+    }
+  }
+
+  private void onRevealFailed(String key, RuntimeException error) {
+    revealTrace = null;
+    if (!(error instanceof InvalidSlotException)) {
+      throw error;
     }
+    LOGGER.log(
+        Level.SEVERE,
+        "Slot ["
+            + key
+            + "] not found, required by presenter : ["
+            + this.getClass().getCanonicalName()
+            + "]");
   }
 
   public void reveal() {
@@ -79,13 +93,39 @@ public abstract class ViewablePresenter<V extends View> extends AbstractPresente
 
   protected void onBeforeReveal() {}
 
+  /**
+   * Attaches the trace of the navigation that requested this presenter, the trace is completed
+   * when the presenter view is revealed.
+   *
+   * @param revealTrace the navigation trace
+   */
+  public void setRevealTrace(RevealTrace revealTrace) {
+    this.revealTrace = revealTrace;
+  }
+
+  private void markRevealStage(RevealStage stage) {
+    if (nonNull(revealTrace)) {
+      revealTrace.mark(stage);
+    }
+  }
+
+  private void completeRevealTrace() {
+    if (nonNull(revealTrace)) {
+      revealTrace.mark(RevealStage.SLOT_REVEAL);
+      revealTrace.complete(getName().orElse(getClass().getCanonicalName()));
+      revealTrace = null;
+    }
+  }
+
   private DominoView.RevealedHandler getViewRevealHandler() {
     return () -> {
       RevealedHandler revealHandler = getRevealHandler();
       if (nonNull(revealHandler)) {
         revealHandler.onRevealed();
       }
+      completeRevealTrace();
       activate();
+      ClientApp.make().presenterReclaimer().onRevealed(this);
     };
   }
 
@@ -101,12 +141,9 @@ public abstract class ViewablePresenter<V extends View> extends AbstractPresente
           .getSlots()
           .forEach(
               (key, slot) -> {
-                LOGGER.info(
-                    "Presenter ["
-                        + this.getClass().getCanonicalName()
-                        + "] is registering slot ["
-                        + key
-                        + "]");
+                ClientApp.make()
+                    .lifecycleTracer()
+                    .trace(LifecycleEventType.SLOT_REGISTERED, getClass(), key);
                 ClientApp.make().slotsManager().registerSlot(key, slot);
               });
     }
@@ -144,12 +181,9 @@ public abstract class ViewablePresenter<V extends View> extends AbstractPresente
             .getSlots()
             .forEach(
                 (key, slot) -> {
-                  LOGGER.info(
-                      "Presenter ["
-                          + this.getClass().getCanonicalName()
-                          + "] is removing slot ["
-                          + key
-                          + "]");
+                  ClientApp.make()
+                      .lifecycleTracer()
+                      .trace(LifecycleEventType.SLOT_REMOVED, getClass(), key);
                   ClientApp.make().slotsManager().removeSlot(key);
                 });
       }
@@ -159,6 +193,9 @@ public abstract class ViewablePresenter<V extends View> extends AbstractPresente
       }
       deActivate();
       getName().ifPresent(name -> ClientApp.make().namedPresenters().removePresenter(name));
+      if (nonNull(releaseHandler)) {
+        releaseHandler.run();
+      }
     };
   }
 
@@ -174,6 +211,42 @@ public abstract class ViewablePresenter<V extends View> extends AbstractPresente
     this.viewSupplier = viewSupplier;
   }
 
+  /**
+   * Called before a pooled presenter is reused for a new request, restore the initial state of the
+   * presenter here, the presenter is initialized again right after this call without calling
+   * {@link #postConstruct()} again.
+   */
+  protected void onReset() {}
+
+  /**
+   * Releases the view content so it is created again the next time this presenter is revealed,
+   * singleton views keep their content.
+   *
+   * @return true if the view was released
+   */
+  boolean releaseView() {
+    return !isActivated() && view instanceof BaseDominoView && ((BaseDominoView<?>) view).release();
+  }
+
+  void setReleaseHandler(Runnable releaseHandler) {
+    this.releaseHandler = releaseHandler;
+  }
+
+  /**
+   * Resets this presenter and its view for reuse, the view is kept if it is a {@link
+   * ResettableView} otherwise the next initialization creates a new one.
+   *
+   * @return the view to reuse, or {@code null} if a new view should be created
+   */
+  V recycle() {
+    onReset();
+    if (view instanceof ResettableView) {
+      ((ResettableView) view).reset();
+      return view;
+    }
+    return null;
+  }
+
   @FunctionalInterface
   public interface RevealedHandler {
     void onRevealed();
@@ -15,24 +15,170 @@
  */
 package org.dominokit.domino.api.client.mvp.presenter;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.LinkedList;
 import java.util.function.Supplier;
+import org.dominokit.domino.api.client.mvp.view.ResettableView;
 import org.dominokit.domino.api.client.mvp.view.View;
 
 public class ViewablePresenterSupplier<P extends ViewablePresenter<V>, V extends View>
     extends PresenterSupplier<P> {
 
   private Supplier<V> viewSupplier;
+  private V prefetchedView;
+  private V recycledView;
+  private final LinkedList<P> pool = new LinkedList<>();
+  private int maxPoolSize = 0;
+  private int poolHits;
+  private int poolMisses;
 
   public ViewablePresenterSupplier(boolean singleton, Supplier<P> presenterFactory) {
     super(singleton, presenterFactory);
   }
 
+  @Override
+  protected P newPresenter() {
+    if (!isPooling()) {
+      return super.newPresenter();
+    }
+    P pooled;
+    synchronized (pool) {
+      pooled = pool.pollFirst();
+      if (nonNull(pooled)) {
+        poolHits++;
+      } else {
+        poolMisses++;
+      }
+    }
+    if (nonNull(pooled)) {
+      recycledView = pooled.recycle();
+      return pooled;
+    }
+    P created = super.newPresenter();
+    created.setReleaseHandler(() -> release(created));
+    return created;
+  }
+
+  private boolean isPooling() {
+    return maxPoolSize > 0 && !singleton && isNull(getCache());
+  }
+
+  private void release(P released) {
+    synchronized (pool) {
+      if (isPooling() && pool.size() < maxPoolSize && !pool.contains(released)) {
+        pool.addLast(released);
+      }
+    }
+  }
+
   @Override
   protected void onBeforeInitPresenter() {
-    presenter.setViewSupplier(viewSupplier);
+    V preparedView = takePreparedView();
+    if (nonNull(preparedView)) {
+      presenter.setViewSupplier(new PreparedViewSupplier<>(preparedView, viewSupplier));
+    } else {
+      presenter.setViewSupplier(viewSupplier);
+    }
+  }
+
+  private V takePreparedView() {
+    V view;
+    if (nonNull(recycledView)) {
+      view = recycledView;
+      recycledView = null;
+    } else {
+      view = prefetchedView;
+      prefetchedView = null;
+    }
+    return view;
+  }
+
+  @Override
+  protected void onPrefetched() {
+    if (nonNull(viewSupplier) && isNull(prefetchedView) && isNull(recycledView)) {
+      prefetchedView = viewSupplier.get();
+    }
+  }
+
+  @Override
+  protected void onDiscardPrefetched(P discarded) {
+    prefetchedView = null;
+    recycledView = null;
+    release(discarded);
   }
 
   public void setViewSupplier(Supplier<V> viewSupplier) {
     this.viewSupplier = viewSupplier;
   }
+
+  /**
+   * Keeps up to {@code maxPoolSize} presenters released when their views are removed and reuses
+   * them for the next requests and prefetches instead of creating new presenters, reused presenters
+   * are reset through {@link ViewablePresenter#onReset()} and keep their view when it is a {@link
+   * ResettableView}. Pooling only applies to non singleton presenters that are not cached.
+   *
+   * @param maxPoolSize the maximum number of pooled presenters, {@code 0} to disable pooling
+   * @return same supplier instance
+   */
+  public ViewablePresenterSupplier<P, V> setPoolSize(int maxPoolSize) {
+    synchronized (pool) {
+      this.maxPoolSize = maxPoolSize;
+      while (pool.size() > maxPoolSize) {
+        pool.removeLast();
+      }
+    }
+    return this;
+  }
+
+  /** @return the number of presenters waiting in the pool to be reused. */
+  public int getPooledCount() {
+    synchronized (pool) {
+      return pool.size();
+    }
+  }
+
+  /** @return the number of requests served by a pooled presenter. */
+  public int getPoolHits() {
+    synchronized (pool) {
+      return poolHits;
+    }
+  }
+
+  /** @return the number of requests that created a new presenter while pooling is enabled. */
+  public int getPoolMisses() {
+    synchronized (pool) {
+      return poolMisses;
+    }
+  }
+
+  /** @return the ratio of pooled requests served by a reused presenter, between 0 and 1. */
+  public double getPoolHitRate() {
+    synchronized (pool) {
+      int requests = poolHits + poolMisses;
+      return requests == 0 ? 0 : (double) poolHits / requests;
+    }
+  }
+
+  /** Supplies a prefetched or recycled view once then falls back to creating new views. */
+  private static final class PreparedViewSupplier<V> implements Supplier<V> {
+    private V view;
+    private final Supplier<V> viewSupplier;
+
+    private PreparedViewSupplier(V view, Supplier<V> viewSupplier) {
+      this.view = view;
+      this.viewSupplier = viewSupplier;
+    }
+
+    @Override
+    public V get() {
+      if (nonNull(view)) {
+        V result = view;
+        view = null;
+        return result;
+      }
+      return viewSupplier.get();
+    }
+  }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.mvp.slots;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.dominokit.domino.api.client.mvp.view.HasContent;
+
+/**
+ * A {@link SlotsManager} decorator that queues the slots operations requested within the same tick
+ * and applies them to the decorated manager in one pass, so revealing a parent and its nested
+ * children mutates the DOM once per frame instead of once per presenter.
+ *
+ * <p>Operations are applied in the order they were requested, operations requested while the batch
+ * is being applied, such as the slots registered by the create handler of a revealed view, are
+ * applied immediately to keep the same ordering as without batching. A reveal that is overwritten
+ * by a later reveal in the same slot with no other operation queued in between is not attached, its
+ * view content is still created and its create handler, such as the slots registration of a
+ * presenter, still runs. A reveal is dropped when the same view is revealed again in the same slot
+ * later in the batch, the later reveal creates the content and runs its create handler.
+ *
+ * <p>Errors are reported when the batch is applied instead of when the reveal is requested, they
+ * are passed to the failed handler of the reveal, see {@link #revealView(String, HasContent,
+ * HasContent.CreateHandler, RevealFailedHandler)}, or logged, and do not prevent the other
+ * operations of the batch from being applied.
+ */
+public class BatchingSlotsManager implements SlotsManager {
+
+  private static final Logger LOGGER = Logger.getLogger(BatchingSlotsManager.class.getName());
+
+  private final SlotsManager delegate;
+  private final FlushScheduler scheduler;
+  private List<Operation> pending = new ArrayList<>();
+  private boolean flushScheduled = false;
+  private boolean flushing = false;
+  private int applied;
+  private int deduplicated;
+  private int flushes;
+
+  /**
+   * @param delegate the slots manager that applies the operations
+   * @param scheduler schedules applying the queued operations, for example on the next animation
+   *     frame
+   */
+  public BatchingSlotsManager(SlotsManager delegate, FlushScheduler scheduler) {
+    this.delegate = delegate;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public void registerSlot(String key, IsSlot<?> slot) {
+    enqueue(new Operation(OperationType.REGISTER, key, slot, null, null, null));
+  }
+
+  @Override
+  public void removeSlot(String key) {
+    enqueue(new Operation(OperationType.REMOVE, key, null, null, null, null));
+  }
+
+  @Override
+  public void revealView(String slotKey, HasContent view, HasContent.CreateHandler createHandler) {
+    revealView(slotKey, view, createHandler, null);
+  }
+
+  @Override
+  public void revealView(
+      String slotKey,
+      HasContent view,
+      HasContent.CreateHandler createHandler,
+      RevealFailedHandler failedHandler) {
+    enqueue(
+        new Operation(OperationType.REVEAL, slotKey, null, view, createHandler, failedHandler));
+  }
+
+  private void enqueue(Operation operation) {
+    if (flushing) {
+      apply(operation);
+      return;
+    }
+    if (operation.type == OperationType.REVEAL) {
+      dropOverwritten(operation);
+    }
+    pending.add(operation);
+    if (!flushScheduled) {
+      flushScheduled = true;
+      scheduler.schedule(this::flush);
+    }
+  }
+
+  private void dropOverwritten(Operation reveal) {
+    for (int i = pending.size() - 1; i >= 0; i--) {
+      Operation operation = pending.get(i);
+      if (operation.isRevealOf(reveal.view, reveal.key)) {
+        pending.remove(i);
+        deduplicated++;
+        break;
+      }
+    }
+    int last = pending.size() - 1;
+    if (last >= 0 && pending.get(last).overwrittenBy(reveal)) {
+      Operation overwritten = pending.remove(last);
+      if (nonNull(overwritten.createHandler)) {
+        pending.add(overwritten.withoutAttach());
+      }
+      deduplicated++;
+    }
+  }
+
+  /** Applies the queued operations now. */
+  public void flush() {
+    if (flushing) {
+      return;
+    }
+    flushScheduled = false;
+    List<Operation> batch = pending;
+    pending = new ArrayList<>();
+    flushing = true;
+    try {
+      for (Operation operation : batch) {
+        if (apply(operation)) {
+          applied++;
+        }
+      }
+      flushes++;
+    } finally {
+      flushing = false;
+    }
+  }
+
+  private boolean apply(Operation operation) {
+    try {
+      operation.apply(delegate);
+      return true;
+    } catch (RuntimeException e) {
+      if (nonNull(operation.failedHandler)) {
+        try {
+          operation.failedHandler.onRevealFailed(e);
+        } catch (RuntimeException handlerError) {
+          log(operation, handlerError);
+        }
+      } else {
+        log(operation, e);
+      }
+      return false;
+    }
+  }
+
+  private void log(Operation operation, RuntimeException error) {
+    LOGGER.log(
+        Level.SEVERE,
+        "Failed to apply slot operation [" + operation.type + "] on slot [" + operation.key + "]",
+        error);
+  }
+
+  /** @return the number of operations waiting for the next flush. */
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  /** @return the number of operations applied by the batches. */
+  public int getAppliedCount() {
+    return applied;
+  }
+
+  /**
+   * @return the number of reveals dropped or not attached because they were overwritten in the same
+   *     batch.
+   */
+  public int getDeduplicatedCount() {
+    return deduplicated;
+  }
+
+  /** @return the number of applied batches. */
+  public int getFlushCount() {
+    return flushes;
+  }
+
+  /** Schedules applying the queued slots operations. */
+  @FunctionalInterface
+  public interface FlushScheduler {
+    void schedule(Runnable flush);
+  }
+
+  private enum OperationType {
+    REGISTER,
+    REMOVE,
+    REVEAL,
+    CREATE
+  }
+
+  private static final class Operation {
+    private final OperationType type;
+    private final String key;
+    private final IsSlot<?> slot;
+    private final HasContent view;
+    private final HasContent.CreateHandler createHandler;
+    private final RevealFailedHandler failedHandler;
+
+    private Operation(
+        OperationType type,
+        String key,
+        IsSlot<?> slot,
+        HasContent view,
+        HasContent.CreateHandler createHandler,
+        RevealFailedHandler failedHandler) {
+      this.type = type;
+      this.key = key;
+      this.slot = slot;
+      this.view = view;
+      this.createHandler = createHandler;
+      this.failedHandler = failedHandler;
+    }
+
+    private boolean isRevealOf(HasContent revealed, String slotKey) {
+      return (type == OperationType.REVEAL || type == OperationType.CREATE)
+          && view == revealed
+          && key.equalsIgnoreCase(slotKey);
+    }
+
+    private boolean overwrittenBy(Operation reveal) {
+      return type == OperationType.REVEAL && key.equalsIgnoreCase(reveal.key);
+    }
+
+    /** @return an operation that creates the view content without attaching it to the slot. */
+    private Operation withoutAttach() {
+      return new Operation(OperationType.CREATE, key, null, view, createHandler, failedHandler);
+    }
+
+    private void apply(SlotsManager slotsManager) {
+      switch (type) {
+        case REGISTER:
+          slotsManager.registerSlot(key, slot);
+          break;
+        case REMOVE:
+          slotsManager.removeSlot(key);
+          break;
+        case CREATE:
+          view.getContent(createHandler);
+          break;
+        default:
+          slotsManager.revealView(key, view, createHandler);
+      }
+    }
+  }
+}
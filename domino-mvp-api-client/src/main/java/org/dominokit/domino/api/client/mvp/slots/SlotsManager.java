@@ -23,4 +23,26 @@ public interface SlotsManager {
   void removeSlot(String key);
 
   void revealView(String slotKey, HasContent view, HasContent.CreateHandler createHandler);
+
+  /**
+   * Reveals the view like {@link #revealView(String, HasContent, HasContent.CreateHandler)} and
+   * reports the errors to the failed handler instead of throwing them, slots managers that apply
+   * the reveal later report the errors when the reveal is applied.
+   */
+  default void revealView(
+      String slotKey,
+      HasContent view,
+      HasContent.CreateHandler createHandler,
+      RevealFailedHandler failedHandler) {
+    try {
+      revealView(slotKey, view, createHandler);
+    } catch (RuntimeException e) {
+      failedHandler.onRevealFailed(e);
+    }
+  }
+
+  @FunctionalInterface
+  interface RevealFailedHandler {
+    void onRevealFailed(RuntimeException error);
+  }
 }
@@ -22,6 +22,7 @@ import org.dominokit.domino.api.shared.extension.Content;
 public abstract class BaseDominoView<T> implements DominoView<T>, HasContent {
 
   private boolean initialized = false;
+  private boolean recycled = false;
   protected RevealedHandler revealHandler;
   protected RemovedHandler removeHandler;
 
@@ -50,8 +51,11 @@ public abstract class BaseDominoView<T> implements DominoView<T>, HasContent {
   @Override
   public Content getContent(CreateHandler createHandler) {
     if (!initialized || !isSingleton()) {
-      root = init();
-      initRoot(root);
+      if (!recycled) {
+        root = init();
+        initRoot(root);
+      }
+      recycled = false;
       if (nonNull(createHandler)) {
         createHandler.onCreated();
       }
@@ -67,6 +71,38 @@ public abstract class BaseDominoView<T> implements DominoView<T>, HasContent {
   @Override
   public void clear() {}
 
+  /**
+   * Keeps the root of the view so the next {@link #getContent(CreateHandler)} reveals it again
+   * instead of creating a new one, the handlers registered on the root by {@link #initRoot(Object)}
+   * stay in place. Views are only reused by pooled presenters when they implement {@link
+   * ResettableView}, such views should restore their content in {@link #onReset()}.
+   */
+  public void reset() {
+    recycled = nonNull(root);
+    onReset();
+  }
+
+  /** Called when the view is reset to be reused, restore the state of the root content here. */
+  protected void onReset() {}
+
+  /**
+   * Clears the view and drops its root so the memory can be reclaimed, the root is created again by
+   * the next {@link #getContent(CreateHandler)}. Singleton views are initialized only once so they
+   * keep their root and are not released.
+   *
+   * @return true if the view was released
+   */
+  public boolean release() {
+    if (isSingleton()) {
+      return false;
+    }
+    clear();
+    root = null;
+    initialized = false;
+    recycled = false;
+    return true;
+  }
+
   @Override
   public void setRevealHandler(RevealedHandler revealHandler) {
     this.revealHandler = revealHandler;
@@ -0,0 +1,30 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.mvp.view;
+
+/**
+ * A view that can be reset and reused by a pooled presenter instead of creating a new view, see
+ * {@link org.dominokit.domino.api.client.mvp.presenter.ViewablePresenterSupplier#setPoolSize(int)}.
+ *
+ * <p>Views are not reused unless they implement this interface, views extending {@link
+ * BaseDominoView} opt in by implementing it and restoring their content in {@link
+ * BaseDominoView#onReset()}.
+ */
+public interface ResettableView extends View {
+
+  /** Restores the initial state of the view so it can be revealed again by a recycled presenter. */
+  void reset();
+}
@@ -22,6 +22,7 @@ import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.domino.api.client.mvp.PresenterConfig;
 import org.dominokit.domino.api.client.mvp.ViewablePresenterConfig;
 import org.dominokit.domino.api.client.mvp.presenter.Presentable;
+import org.dominokit.domino.api.client.mvp.presenter.PresenterSupplier;
 import org.dominokit.domino.api.client.mvp.presenter.ViewablePresenterSupplier;
 import org.dominokit.rest.shared.request.BaseRequest;
 import org.dominokit.rest.shared.request.RequestState;
@@ -55,6 +56,24 @@ public abstract class PresenterCommand<P extends Presentable> extends BaseReques
     return this;
   }
 
+  /**
+   * Creates the presenter of this command ahead of time if its supplier supports it, see {@link
+   * PresenterSupplier#prefetch()}.
+   *
+   * @return true if a presenter was prefetched
+   */
+  public boolean prefetch() {
+    return presenterSupplier instanceof PresenterSupplier
+        && ((PresenterSupplier<P>) presenterSupplier).prefetch();
+  }
+
+  /** Releases the prefetched presenter of this command if it was not used yet. */
+  public void discardPrefetched() {
+    if (presenterSupplier instanceof PresenterSupplier) {
+      ((PresenterSupplier<P>) presenterSupplier).discardPrefetched();
+    }
+  }
+
   protected P getRequestPresenter() {
     return presenterSupplier.get();
   }
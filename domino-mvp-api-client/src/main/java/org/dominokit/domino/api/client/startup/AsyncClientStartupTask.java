@@ -15,10 +15,25 @@
  */
 package org.dominokit.domino.api.client.startup;
 
+import java.util.Collection;
 import org.dominokit.domino.api.shared.extension.ContextAggregator;
 
 public abstract class AsyncClientStartupTask<T> extends ContextAggregator.ContextWait<T>
     implements ClientStartupTask {
 
   public abstract int order();
+
+  /**
+   * The startup tasks that must complete before this task is executed, the task is executed as soon
+   * as all of them are completed regardless of their {@link #order()}.
+   *
+   * <p>Returning {@code null} - the default - keeps the {@link #order()} behavior and the task
+   * waits for all the tasks of the previous order, returning an empty collection executes the task
+   * immediately when the application starts.
+   *
+   * @return the types of the tasks this task depends on, or {@code null} to depend on the order.
+   */
+  public Collection<Class<? extends AsyncClientStartupTask>> dependsOn() {
+    return null;
+  }
 }
@@ -21,20 +21,24 @@ import static java.util.Objects.nonNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.logging.Logger;
 import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.domino.api.client.events.BaseRoutingAggregator;
 import org.dominokit.domino.api.client.mvp.presenter.AbstractPresenter;
+import org.dominokit.domino.api.client.mvp.presenter.ViewablePresenter;
+import org.dominokit.domino.api.client.request.PresenterCommand;
+import org.dominokit.domino.api.client.tracing.LifecycleEventType;
+import org.dominokit.domino.api.client.tracing.RevealStage;
+import org.dominokit.domino.api.client.tracing.RevealTrace;
+import org.dominokit.domino.history.AppHistory;
 import org.dominokit.domino.history.DominoHistory;
 import org.dominokit.domino.history.TokenFilter;
 
 public abstract class BaseRoutingStartupTask implements ClientStartupTask, PresenterRoutingTask {
 
-  private static final Logger LOGGER = Logger.getLogger(BaseRoutingStartupTask.class.getName());
-
   protected List<BaseRoutingAggregator> aggregators = new ArrayList<>();
   protected boolean enabled = true;
   protected AbstractPresenter presenter;
+  private RevealTrace revealTrace;
 
   public BaseRoutingStartupTask(List<? extends BaseRoutingAggregator> aggregators) {
     this.aggregators.addAll(aggregators);
@@ -42,10 +46,14 @@ public abstract class BaseRoutingStartupTask implements ClientStartupTask, Prese
         aggregator ->
             aggregator.init(
                 state -> {
+                  markRevealStage(RevealStage.AGGREGATORS);
                   boolean present = getParent().isPresent();
-                  LOGGER.info(
-                      "Presenter parent info : "
-                          + (present ? (present + " : " + getParent().get()) : present));
+                  ClientApp.make()
+                      .lifecycleTracer()
+                      .trace(
+                          LifecycleEventType.ROUTING_PARENT_RESOLVED,
+                          getClass(),
+                          getParent().orElse(null));
                   if (present) {
                     ClientApp.make()
                         .namedPresenters()
@@ -57,10 +65,22 @@ public abstract class BaseRoutingStartupTask implements ClientStartupTask, Prese
   }
 
   private void applyState(DominoHistory.State state) {
-    onStateReady(state);
+    markRevealStage(RevealStage.PARENT);
+    if (!ClientApp.make().navigationCoalescer().cancelIfSuperseded(state)) {
+      onStateReady(state);
+      ClientApp.make().routePrefetcher().onRouted(state, getRouteKey());
+    } else {
+      revealTrace = null;
+    }
     resetRouting();
   }
 
+  private void markRevealStage(RevealStage stage) {
+    if (nonNull(revealTrace)) {
+      revealTrace.mark(stage);
+    }
+  }
+
   private void resetRouting() {
     aggregators.forEach(BaseRoutingAggregator::resetRoutingState);
   }
@@ -68,6 +88,10 @@ public abstract class BaseRoutingStartupTask implements ClientStartupTask, Prese
   protected void bindPresenter(AbstractPresenter presenter) {
     presenter.setRoutingTask(this);
     this.presenter = presenter;
+    if (nonNull(revealTrace) && presenter instanceof ViewablePresenter) {
+      ((ViewablePresenter<?>) presenter).setRevealTrace(revealTrace);
+    }
+    revealTrace = null;
   }
 
   protected Optional<String> getParent() {
@@ -76,28 +100,37 @@ public abstract class BaseRoutingStartupTask implements ClientStartupTask, Prese
 
   @Override
   public void execute() {
-    ClientApp.make()
-        .getHistory()
-        .listen(
-            getTokenFilter(),
-            state -> {
-              if (isNull(presenter) || !presenter.isActivated()) {
-                doRoutingIfEnabled(state);
-              } else {
-                if (isReRouteActivated()) {
-                  doRoutingIfEnabled(state);
-                } else {
-                  presenter.setState(state);
-                  presenter.onTokenChanged(state);
-                }
-              }
-            },
-            isRoutingOnce())
-        .onDirectUrl(getStartupTokenFilter());
+    AppHistory history = ClientApp.make().getHistory();
+    DominoHistory.StateListener stateListener =
+        ClientApp.make().navigationCoalescer().listener(this::onStateChanged);
+    if (ClientApp.make().dominoOptions().isRoutingIndexEnabled()) {
+      RoutingIndex routingIndex = ClientApp.make().routingIndex();
+      routingIndex.register(getRoutingToken(), getTokenFilter(), stateListener, isRoutingOnce());
+      routingIndex.onDirectUrl(getStartupTokenFilter(), stateListener);
+    } else {
+      history
+          .listen(getTokenFilter(), stateListener, isRoutingOnce())
+          .onDirectUrl(getStartupTokenFilter());
+    }
+    ClientApp.make().routePrefetcher().register(getRouteKey(), this::createPresenterCommand);
+  }
+
+  private void onStateChanged(DominoHistory.State state) {
+    if (isNull(presenter) || !presenter.isActivated()) {
+      doRoutingIfEnabled(state);
+    } else {
+      if (isReRouteActivated()) {
+        doRoutingIfEnabled(state);
+      } else {
+        presenter.setState(state);
+        presenter.onTokenChanged(state);
+      }
+    }
   }
 
   protected void doRoutingIfEnabled(DominoHistory.State state) {
     if (enabled) {
+      revealTrace = ClientApp.make().revealLatency().start(getRouteKey());
       aggregators.forEach(aggregator -> aggregator.completeRoutingState(state));
     } else {
       if (nonNull(presenter)) {
@@ -110,6 +143,36 @@ public abstract class BaseRoutingStartupTask implements ClientStartupTask, Prese
 
   protected abstract TokenFilter getTokenFilter();
 
+  /**
+   * The route of this task used to index it in the {@link RoutingIndex}, the route should only be
+   * provided when the {@link #getTokenFilter()} matches the tokens by their path suffix.
+   *
+   * @return the route token, or {@code null} to evaluate the token filter on every state change.
+   */
+  protected String getRoutingToken() {
+    return null;
+  }
+
+  /**
+   * The key of this task route in the {@link RoutePrefetcher}, it must be unique per routing task.
+   *
+   * @return the route key, defaults to the task class name, the generated tasks return the class
+   *     name of their presenter.
+   */
+  protected String getRouteKey() {
+    return getClass().getName();
+  }
+
+  /**
+   * Creates the command of the presenter routed by this task, used by the {@link RoutePrefetcher}
+   * to create the presenter before the route is navigated to.
+   *
+   * @return a new command, or {@code null} if the presenter of this task cannot be prefetched.
+   */
+  protected PresenterCommand<?> createPresenterCommand() {
+    return null;
+  }
+
   protected TokenFilter getStartupTokenFilter() {
     return getTokenFilter();
   }
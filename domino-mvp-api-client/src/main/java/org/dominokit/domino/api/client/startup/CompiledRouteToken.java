@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * A route token compiled by the annotation processor into its path and fragment segments, used by
+ * the generated presenters to read the path and fragment parameters by their segment index instead
+ * of normalizing the token for every parameter.
+ *
+ * <p>Parameter segments are represented by {@code null}, the token is split once and the parameters
+ * are only read by index when the token has the same number of segments as the route and all the
+ * literal segments are equal, otherwise the match reports the segments as not matched and the
+ * normalized token of the state should be used instead.
+ */
+public final class CompiledRouteToken {
+
+  private static final String[] EMPTY = new String[0];
+
+  private final String[] path;
+  private final String[] fragment;
+
+  public CompiledRouteToken(String[] path, String[] fragment) {
+    this.path = path;
+    this.fragment = fragment;
+  }
+
+  /**
+   * @param token the history token value
+   * @return the match of the token against the route
+   */
+  public Match match(String token) {
+    int queryIndex = token.indexOf('?');
+    int fragmentIndex = token.indexOf('#');
+    int pathEnd = token.length();
+    if (queryIndex >= 0) {
+      pathEnd = queryIndex;
+    }
+    if (fragmentIndex >= 0 && fragmentIndex < pathEnd) {
+      pathEnd = fragmentIndex;
+    }
+    String[] tokenPath = split(token, 0, pathEnd);
+    String[] tokenFragment =
+        fragmentIndex >= 0 ? split(token, fragmentIndex + 1, token.length()) : EMPTY;
+    return new Match(
+        tokenPath, matches(path, tokenPath), tokenFragment, matches(fragment, tokenFragment));
+  }
+
+  private static boolean matches(String[] route, String[] segments) {
+    if (route.length != segments.length) {
+      return false;
+    }
+    for (int i = 0; i < route.length; i++) {
+      if (nonNull(route[i]) && !route[i].equals(segments[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String[] split(String token, int start, int end) {
+    int count = 0;
+    int segmentStart = start;
+    for (int i = start; i <= end; i++) {
+      if (i == end || token.charAt(i) == '/') {
+        if (i > segmentStart) {
+          count++;
+        }
+        segmentStart = i + 1;
+      }
+    }
+    if (count == 0) {
+      return EMPTY;
+    }
+    String[] segments = new String[count];
+    int index = 0;
+    segmentStart = start;
+    for (int i = start; i <= end; i++) {
+      if (i == end || token.charAt(i) == '/') {
+        if (i > segmentStart) {
+          segments[index++] = token.substring(segmentStart, i);
+        }
+        segmentStart = i + 1;
+      }
+    }
+    return segments;
+  }
+
+  public static final class Match {
+    private final String[] path;
+    private final boolean pathMatched;
+    private final String[] fragment;
+    private final boolean fragmentMatched;
+
+    private Match(String[] path, boolean pathMatched, String[] fragment, boolean fragmentMatched) {
+      this.path = path;
+      this.pathMatched = pathMatched;
+      this.fragment = fragment;
+      this.fragmentMatched = fragmentMatched;
+    }
+
+    /** @return true if the token path segments can be read by the route segments indexes. */
+    public boolean isPathMatched() {
+      return pathMatched;
+    }
+
+    /** @return true if the token fragment segments can be read by the route segments indexes. */
+    public boolean isFragmentMatched() {
+      return fragmentMatched;
+    }
+
+    public String pathSegment(int index) {
+      return path[index];
+    }
+
+    public String fragmentSegment(int index) {
+      return fragment[index];
+    }
+  }
+}
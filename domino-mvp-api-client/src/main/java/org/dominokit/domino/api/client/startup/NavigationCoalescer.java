@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.dominokit.domino.api.client.HasDominoOptions;
+import org.dominokit.domino.api.client.async.AsyncPriority;
+import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.dominokit.domino.history.DominoHistory;
+import org.dominokit.domino.history.HistoryToken;
+import org.dominokit.domino.history.NormalizedToken;
+
+/**
+ * Collapses history states that arrive in quick succession into the last one before they reach the
+ * routing tasks.
+ *
+ * <p>When coalescing is enabled in the options, states received by the routing tasks are queued and
+ * dispatched on the next {@link AsyncRunner} tick, or after the configured window, and only the
+ * routings of the most recent state are dispatched. Routings of an older state that were already
+ * dispatched and are still waiting for their activation events or parent presenter are cancelled
+ * before they reveal anything, see {@link #cancelIfSuperseded(DominoHistory.State)}.
+ */
+public class NavigationCoalescer {
+
+  private final AsyncRunner asyncRunner;
+  private final HasDominoOptions options;
+  private final List<PendingRouting> pending = new ArrayList<>();
+  private DominoHistory.State lastState;
+  private int generation;
+  private boolean flushScheduled;
+  private int coalescedCount;
+  private int cancelledCount;
+
+  public NavigationCoalescer(AsyncRunner asyncRunner, HasDominoOptions options) {
+    this.asyncRunner = asyncRunner;
+    this.options = options;
+  }
+
+  /** @return true if the navigation coalescing window is enabled in the options. */
+  public boolean isEnabled() {
+    return nonNull(options) && options.getNavigationCoalescingWindow() >= 0;
+  }
+
+  /**
+   * Wraps a routing listener so the states it receives go through this coalescer when it is
+   * enabled.
+   *
+   * @param listener the routing listener
+   * @return the listener to register in the history
+   */
+  public DominoHistory.StateListener listener(DominoHistory.StateListener listener) {
+    return state -> {
+      if (isEnabled()) {
+        submit(listener, state);
+      } else {
+        listener.onPopState(state);
+      }
+    };
+  }
+
+  /**
+   * Checks if a routing state has been replaced by a newer navigation, routing tasks call this
+   * before applying the state and skip it when it returns true.
+   *
+   * @param state the state about to be applied
+   * @return true if the state belongs to an older navigation and should not be applied
+   */
+  public synchronized boolean cancelIfSuperseded(DominoHistory.State state) {
+    if (state instanceof CoalescedState && ((CoalescedState) state).generation != generation) {
+      cancelledCount++;
+      return true;
+    }
+    return false;
+  }
+
+  /** @return the number of routings dropped because a newer state arrived before dispatching. */
+  public synchronized int getCoalescedCount() {
+    return coalescedCount;
+  }
+
+  /** @return the number of dispatched routings cancelled before applying their state. */
+  public synchronized int getCancelledCount() {
+    return cancelledCount;
+  }
+
+  private synchronized void submit(
+      DominoHistory.StateListener listener, DominoHistory.State state) {
+    DominoHistory.State source =
+        state instanceof CoalescedState ? ((CoalescedState) state).delegate : state;
+    if (source != lastState) {
+      lastState = source;
+      generation++;
+    }
+    pending.add(
+        new PendingRouting(
+            listener, new CoalescedState(source, state.normalizedToken(), generation)));
+    if (!flushScheduled) {
+      flushScheduled = true;
+      double window = options.getNavigationCoalescingWindow();
+      if (window > 0) {
+        asyncRunner.runDelayed(window, this::flush);
+      } else {
+        asyncRunner.runAsync(AsyncPriority.ROUTING, this::flush);
+      }
+    }
+  }
+
+  private void flush() {
+    List<PendingRouting> batch;
+    int current;
+    synchronized (this) {
+      flushScheduled = false;
+      batch = new ArrayList<>(pending);
+      pending.clear();
+      current = generation;
+    }
+    for (PendingRouting routing : batch) {
+      if (routing.state.generation == current) {
+        routing.listener.onPopState(routing.state);
+      } else {
+        synchronized (this) {
+          coalescedCount++;
+        }
+      }
+    }
+  }
+
+  private static final class PendingRouting {
+    private final DominoHistory.StateListener listener;
+    private final CoalescedState state;
+
+    private PendingRouting(DominoHistory.StateListener listener, CoalescedState state) {
+      this.listener = listener;
+      this.state = state;
+    }
+  }
+
+  /**
+   * A state that keeps the normalized token it was routed with, the history state is shared by all
+   * the listeners and its normalized token is replaced for each one of them.
+   */
+  private static final class CoalescedState implements DominoHistory.State {
+    private final DominoHistory.State delegate;
+    private final int generation;
+    private NormalizedToken normalizedToken;
+
+    private CoalescedState(
+        DominoHistory.State delegate, NormalizedToken normalizedToken, int generation) {
+      this.delegate = delegate;
+      this.normalizedToken = normalizedToken;
+      this.generation = generation;
+    }
+
+    @Override
+    public String rootPath() {
+      return delegate.rootPath();
+    }
+
+    @Override
+    public HistoryToken token() {
+      return delegate.token();
+    }
+
+    @Override
+    public Optional<String> data() {
+      return delegate.data();
+    }
+
+    @Override
+    public String title() {
+      return delegate.title();
+    }
+
+    @Override
+    public NormalizedToken normalizedToken() {
+      return normalizedToken;
+    }
+
+    @Override
+    public void setNormalizedToken(NormalizedToken normalizedToken) {
+      this.normalizedToken = normalizedToken;
+    }
+  }
+}
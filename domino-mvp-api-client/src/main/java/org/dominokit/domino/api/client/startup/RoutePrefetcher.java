@@ -0,0 +1,312 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.dominokit.domino.api.client.HasDominoOptions;
+import org.dominokit.domino.api.client.async.AsyncPriority;
+import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.dominokit.domino.api.client.request.PresenterCommand;
+import org.dominokit.domino.history.DominoHistory;
+
+/**
+ * Creates the presenters and views of the routes the user is likely to navigate to next while the
+ * application is idle, so the next navigation does not pay for constructing them.
+ *
+ * <p>Predictions come from the hints declared with {@link #hint(Class, Class[])} followed by the
+ * routes most frequently navigated to from the current route. Prefetching runs in the {@link
+ * AsyncPriority#BACKGROUND} lane, pending prefetches are cancelled and unused prefetched presenters
+ * are released when the user navigates to a route that does not predict them, and at most {@link
+ * #setMaxPrefetched(int)} presenters are kept prefetched at any time.
+ *
+ * <p>Routes are identified by their route key, which is the presenter class name for the generated
+ * routing tasks, the routing tasks register their routes when they are executed and report every
+ * state they route. All the routes routed for the same history token belong to the same navigation,
+ * such as a parent and its child presenter, the last one routed - the deepest presenter - is the
+ * route the transitions are learned from and the predictions are made for, and the presenters
+ * prefetched for any of them are kept until the navigation settles.
+ */
+public class RoutePrefetcher {
+
+  private static final Logger LOGGER = Logger.getLogger(RoutePrefetcher.class.getName());
+
+  public static final int DEFAULT_MAX_PREFETCHED = 3;
+  public static final int DEFAULT_MAX_PREDICTIONS = 2;
+
+  private final AsyncRunner asyncRunner;
+  private final HasDominoOptions options;
+  private final Map<String, Supplier<? extends PresenterCommand<?>>> routes = new HashMap<>();
+  private final Map<String, List<String>> hints = new HashMap<>();
+  private final Map<String, Map<String, Integer>> transitions = new HashMap<>();
+  private final LinkedList<PrefetchedRoute> prefetched = new LinkedList<>();
+  private final List<String> routed = new ArrayList<>();
+  private int maxPrefetched = DEFAULT_MAX_PREFETCHED;
+  private int maxPredictions = DEFAULT_MAX_PREDICTIONS;
+  private String navigationToken;
+  private String previousRoute;
+  private boolean settleScheduled;
+  private int generation;
+  private int hits;
+  private int discarded;
+  private int cancelled;
+
+  public RoutePrefetcher(AsyncRunner asyncRunner, HasDominoOptions options) {
+    this.asyncRunner = asyncRunner;
+    this.options = options;
+  }
+
+  /** @return true if route prefetching is enabled in the options. */
+  public boolean isEnabled() {
+    return nonNull(options) && options.isRoutePrefetchEnabled();
+  }
+
+  /**
+   * Registers a route that can be prefetched.
+   *
+   * @param route the route key
+   * @param commandFactory creates the command of the route presenter
+   */
+  public synchronized void register(
+      String route, Supplier<? extends PresenterCommand<?>> commandFactory) {
+    routes.put(route, commandFactory);
+  }
+
+  /**
+   * Declares the presenters that are usually navigated to from a presenter, hints are predicted
+   * before the observed navigation frequency.
+   *
+   * @param from the current presenter
+   * @param to the presenters usually navigated to next
+   * @return same prefetcher instance
+   */
+  public synchronized RoutePrefetcher hint(Class<?> from, Class<?>... to) {
+    List<String> routeHints = hints.computeIfAbsent(from.getName(), route -> new ArrayList<>());
+    Arrays.stream(to)
+        .map(Class::getName)
+        .filter(route -> !routeHints.contains(route))
+        .forEach(routeHints::add);
+    return this;
+  }
+
+  public synchronized RoutePrefetcher setMaxPrefetched(int maxPrefetched) {
+    this.maxPrefetched = maxPrefetched;
+    trim();
+    return this;
+  }
+
+  public synchronized RoutePrefetcher setMaxPredictions(int maxPredictions) {
+    this.maxPredictions = maxPredictions;
+    return this;
+  }
+
+  /**
+   * Records that a route was routed for a history state, a state with a different token than the
+   * previous one starts a new navigation. Prefetching the routes predicted from the navigation is
+   * scheduled once, after the routes of the same state are routed.
+   *
+   * @param state the routed history state
+   * @param route the key of the routed route
+   */
+  public void onRouted(DominoHistory.State state, String route) {
+    if (!isEnabled()) {
+      return;
+    }
+    int scheduledGeneration;
+    synchronized (this) {
+      String token = state.token().value();
+      if (!token.equals(navigationToken)) {
+        completeNavigation();
+        navigationToken = token;
+        generation++;
+        settleScheduled = false;
+      }
+      if (!routed.contains(route)) {
+        routed.add(route);
+      }
+      Iterator<PrefetchedRoute> iterator = prefetched.iterator();
+      while (iterator.hasNext()) {
+        if (iterator.next().route.equals(route)) {
+          iterator.remove();
+          hits++;
+        }
+      }
+      if (settleScheduled) {
+        return;
+      }
+      settleScheduled = true;
+      scheduledGeneration = generation;
+    }
+    asyncRunner.runAsync(AsyncPriority.BACKGROUND, () -> settle(scheduledGeneration));
+  }
+
+  private void completeNavigation() {
+    if (routed.isEmpty()) {
+      return;
+    }
+    String route = routed.get(routed.size() - 1);
+    if (nonNull(previousRoute) && !previousRoute.equals(route)) {
+      transitions
+          .computeIfAbsent(previousRoute, from -> new HashMap<>())
+          .merge(route, 1, Integer::sum);
+    }
+    previousRoute = route;
+    routed.clear();
+  }
+
+  private void settle(int scheduledGeneration) {
+    List<String> toPrefetch = new ArrayList<>();
+    synchronized (this) {
+      if (scheduledGeneration != generation) {
+        return;
+      }
+      settleScheduled = false;
+      List<String> predictions = predict(routed.get(routed.size() - 1));
+      Iterator<PrefetchedRoute> iterator = prefetched.iterator();
+      while (iterator.hasNext()) {
+        PrefetchedRoute entry = iterator.next();
+        if (!predictions.contains(entry.route)) {
+          iterator.remove();
+          entry.discard();
+        }
+      }
+      for (String prediction : predictions) {
+        if (!routed.contains(prediction) && !isPrefetched(prediction)) {
+          toPrefetch.add(prediction);
+        }
+      }
+    }
+    toPrefetch.forEach(
+        prediction ->
+            asyncRunner.runAsync(
+                AsyncPriority.BACKGROUND, () -> prefetch(prediction, scheduledGeneration)));
+  }
+
+  /**
+   * @param route the current route key
+   * @return the registered routes predicted to be navigated to next from the route, most likely
+   *     first
+   */
+  public synchronized List<String> predict(String route) {
+    List<String> predictions = new ArrayList<>();
+    List<String> routeHints = hints.get(route);
+    if (nonNull(routeHints)) {
+      routeHints.forEach(hint -> addPrediction(predictions, route, hint));
+    }
+    Map<String, Integer> counts = transitions.get(route);
+    if (nonNull(counts) && predictions.size() < maxPredictions) {
+      List<Map.Entry<String, Integer>> frequent = new ArrayList<>(counts.entrySet());
+      frequent.sort((a, b) -> Integer.compare(b.getValue(), a.getValue()));
+      frequent.forEach(entry -> addPrediction(predictions, route, entry.getKey()));
+    }
+    return predictions;
+  }
+
+  private void addPrediction(List<String> predictions, String current, String route) {
+    if (predictions.size() < maxPredictions
+        && !route.equals(current)
+        && routes.containsKey(route)
+        && !predictions.contains(route)) {
+      predictions.add(route);
+    }
+  }
+
+  private void prefetch(String route, int scheduledGeneration) {
+    PresenterCommand<?> command;
+    synchronized (this) {
+      if (scheduledGeneration != generation || routed.contains(route) || isPrefetched(route)) {
+        cancelled++;
+        return;
+      }
+      Supplier<? extends PresenterCommand<?>> commandFactory = routes.get(route);
+      command = isNull(commandFactory) ? null : commandFactory.get();
+    }
+    if (isNull(command)) {
+      return;
+    }
+    try {
+      if (command.prefetch()) {
+        synchronized (this) {
+          prefetched.addLast(new PrefetchedRoute(route, command));
+          trim();
+        }
+      }
+    } catch (Exception e) {
+      LOGGER.log(Level.WARNING, "Failed to prefetch route : " + route, e);
+    }
+  }
+
+  private boolean isPrefetched(String route) {
+    for (PrefetchedRoute entry : prefetched) {
+      if (entry.route.equals(route)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void trim() {
+    while (prefetched.size() > maxPrefetched) {
+      prefetched.removeFirst().discard();
+    }
+  }
+
+  /** @return the number of presenters currently prefetched. */
+  public synchronized int getPrefetchedCount() {
+    return prefetched.size();
+  }
+
+  /** @return the number of routed routes that were prefetched. */
+  public synchronized int getHits() {
+    return hits;
+  }
+
+  /** @return the number of prefetched presenters released without being used. */
+  public synchronized int getDiscarded() {
+    return discarded;
+  }
+
+  /** @return the number of scheduled prefetches cancelled by a newer navigation. */
+  public synchronized int getCancelled() {
+    return cancelled;
+  }
+
+  private final class PrefetchedRoute {
+    private final String route;
+    private final PresenterCommand<?> command;
+
+    private PrefetchedRoute(String route, PresenterCommand<?> command) {
+      this.route = route;
+      this.command = command;
+    }
+
+    private void discard() {
+      command.discardPrefetched();
+      discarded++;
+    }
+  }
+}
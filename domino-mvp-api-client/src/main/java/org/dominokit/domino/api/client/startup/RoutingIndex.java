@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.dominokit.domino.api.client.mvp.RegistrationHandler;
+import org.dominokit.domino.history.AppHistory;
+import org.dominokit.domino.history.DominoHistory;
+import org.dominokit.domino.history.TokenFilter;
+
+/**
+ * Dispatches history state changes to the routing tasks using a trie of the routes path segments
+ * instead of evaluating the token filter of every routing task.
+ *
+ * <p>The trie is built from the routes segments in reverse order, so walking the segments of the
+ * token from the last one yields every route the token path ends with, this matches the default
+ * {@link TokenFilter#endsWithPathFilter(String)} routing filter and the stricter {@link
+ * TokenFilter#exactPathFilter(String)}. Parameter segments such as {@code :id} or {@code {id}}
+ * match any segment and a {@code *} segment matches any number of segments. The index only narrows
+ * down the candidates, the token filter of each candidate is still evaluated and used to normalize
+ * the token before the route listener is called, so routes are dispatched with the same semantics
+ * they have when they listen to the history directly.
+ *
+ * <p>Routes registered without a token, or with a token filter that does not match by the path
+ * suffix, should be registered with a {@code null} route and are evaluated on every state change.
+ */
+public class RoutingIndex {
+
+  private static final Logger LOGGER = Logger.getLogger(RoutingIndex.class.getName());
+
+  private final AppHistory history;
+  private final Node root = new Node();
+  private final List<Route> unindexed = new ArrayList<>();
+  private int routesCount;
+  private int sequence;
+  private boolean attached;
+  private DominoHistory.DirectState directState;
+  private DominoHistory.StateListener directUrlListener;
+
+  public RoutingIndex(AppHistory history) {
+    this.history = history;
+  }
+
+  /**
+   * Registers a route listener in the index, the index starts listening to the history when the
+   * first route is registered.
+   *
+   * @param route the route token, usually the {@code @AutoRoute} token, or {@code null} to
+   *     evaluate the token filter on every state change
+   * @param tokenFilter the token filter that decides if the route matches a token
+   * @param listener the listener to call when a state matches the route
+   * @param once remove the route after it is dispatched for the first time
+   * @return a handler to remove the route from the index
+   */
+  public RegistrationHandler register(
+      String route, TokenFilter tokenFilter, DominoHistory.StateListener listener, boolean once) {
+    Route entry = new Route(sequence++, tokenFilter, listener, once);
+    List<String> segments = isNull(route) ? null : pathSegments(route);
+    if (isNull(segments)) {
+      unindexed.add(entry);
+      entry.owner = unindexed;
+    } else {
+      Node node = root;
+      for (int i = segments.size() - 1; i >= 0; i--) {
+        String segment = segments.get(i);
+        if ("*".equals(segment)) {
+          break;
+        }
+        node = node.child(segment);
+      }
+      node.routes.add(entry);
+      entry.owner = node.routes;
+    }
+    routesCount++;
+    attach();
+    return entry::remove;
+  }
+
+  /**
+   * Calls the listener with the state the application was opened with when the startup token
+   * filter matches it, like {@link DominoHistory.DirectState#onDirectUrl(TokenFilter)} does for a
+   * listener registered on the history, without registering a history listener per route.
+   *
+   * @param startupTokenFilter the token filter that decides if the opened url matches the route
+   * @param listener the listener to call with the opened state
+   */
+  public void onDirectUrl(TokenFilter startupTokenFilter, DominoHistory.StateListener listener) {
+    attach();
+    if (isNull(directState)) {
+      return;
+    }
+    directUrlListener = listener;
+    try {
+      directState.onDirectUrl(startupTokenFilter);
+    } finally {
+      directUrlListener = null;
+    }
+  }
+
+  /** @return the number of routes registered in the index. */
+  public int size() {
+    return routesCount;
+  }
+
+  /**
+   * Dispatches the state to the matching routes in their registration order.
+   *
+   * @param state the new history state
+   */
+  public void dispatch(DominoHistory.State state) {
+    for (Route route : match(state.token().value())) {
+      try {
+        route.dispatch(state);
+      } catch (Exception e) {
+        LOGGER.log(Level.SEVERE, "Failed to dispatch routing state : " + state.token().value(), e);
+      }
+    }
+  }
+
+  /**
+   * @param token the history token
+   * @return the routes that might match the token in registration order, the token filters of the
+   *     returned routes are not evaluated.
+   */
+  List<Route> match(String token) {
+    List<Route> candidates = new ArrayList<>(unindexed);
+    List<String> segments = pathSegments(token);
+    collect(root, segments, segments.size() - 1, candidates);
+    if (candidates.size() > 1) {
+      candidates.sort((a, b) -> Integer.compare(a.sequence, b.sequence));
+    }
+    return candidates;
+  }
+
+  private void collect(Node node, List<String> segments, int index, List<Route> candidates) {
+    candidates.addAll(node.routes);
+    if (index < 0) {
+      return;
+    }
+    Node literal = node.literals.get(segments.get(index));
+    if (nonNull(literal)) {
+      collect(literal, segments, index - 1, candidates);
+    }
+    if (nonNull(node.parameter)) {
+      collect(node.parameter, segments, index - 1, candidates);
+    }
+  }
+
+  private void attach() {
+    if (!attached && nonNull(history)) {
+      attached = true;
+      directState = history.listen(TokenFilter.any(), this::onPopState);
+    }
+  }
+
+  private void onPopState(DominoHistory.State state) {
+    if (nonNull(directUrlListener)) {
+      directUrlListener.onPopState(state);
+    } else {
+      dispatch(state);
+    }
+  }
+
+  private static List<String> pathSegments(String token) {
+    String path = token;
+    int fragmentIndex = path.indexOf('#');
+    if (fragmentIndex >= 0) {
+      path = path.substring(0, fragmentIndex);
+    }
+    int queryIndex = path.indexOf('?');
+    if (queryIndex >= 0) {
+      path = path.substring(0, queryIndex);
+    }
+    List<String> segments = new ArrayList<>();
+    int start = 0;
+    for (int i = 0; i <= path.length(); i++) {
+      if (i == path.length() || path.charAt(i) == '/') {
+        if (i > start) {
+          segments.add(path.substring(start, i));
+        }
+        start = i + 1;
+      }
+    }
+    return segments;
+  }
+
+  private static boolean isParameter(String segment) {
+    return segment.startsWith(":") || (segment.startsWith("{") && segment.endsWith("}"));
+  }
+
+  private static final class Node {
+    private final Map<String, Node> literals = new HashMap<>();
+    private final List<Route> routes = new ArrayList<>();
+    private Node parameter;
+
+    private Node child(String segment) {
+      if (isParameter(segment)) {
+        if (isNull(parameter)) {
+          parameter = new Node();
+        }
+        return parameter;
+      }
+      return literals.computeIfAbsent(segment, key -> new Node());
+    }
+  }
+
+  final class Route {
+    private final int sequence;
+    private final TokenFilter tokenFilter;
+    private final DominoHistory.StateListener listener;
+    private final boolean once;
+    private List<Route> owner;
+
+    private Route(
+        int sequence,
+        TokenFilter tokenFilter,
+        DominoHistory.StateListener listener,
+        boolean once) {
+      this.sequence = sequence;
+      this.tokenFilter = tokenFilter;
+      this.listener = listener;
+      this.once = once;
+    }
+
+    private void dispatch(DominoHistory.State state) {
+      if (isNull(owner) || !tokenFilter.filter(state.token())) {
+        return;
+      }
+      if (once) {
+        remove();
+      }
+      state.setNormalizedToken(tokenFilter.normalizeToken(state.rootPath(), state.token().value()));
+      listener.onPopState(state);
+    }
+
+    private void remove() {
+      if (nonNull(owner) && owner.remove(this)) {
+        owner = null;
+        routesCount--;
+      }
+    }
+  }
+}
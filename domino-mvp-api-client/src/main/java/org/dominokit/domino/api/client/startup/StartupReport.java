@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The timings of the asynchronous startup tasks collected by {@link StartupTasksScheduler}, times
+ * are in milliseconds relative to the moment the scheduler started executing the tasks.
+ */
+public class StartupReport {
+
+  private final double totalDuration;
+  private final List<TaskTiming> timings;
+  private final List<TaskTiming> criticalPath;
+
+  StartupReport(double totalDuration, List<TaskTiming> timings, List<TaskTiming> criticalPath) {
+    this.totalDuration = totalDuration;
+    this.timings = Collections.unmodifiableList(timings);
+    this.criticalPath = Collections.unmodifiableList(criticalPath);
+  }
+
+  /** @return the time from executing the first task until the last task completed. */
+  public double getTotalDuration() {
+    return totalDuration;
+  }
+
+  /** @return the timings of all the tasks in registration order. */
+  public List<TaskTiming> getTimings() {
+    return timings;
+  }
+
+  /**
+   * @return the chain of tasks that determined the startup duration, starting from a task without
+   *     dependencies and ending with the last completed task, each task in the chain was waiting
+   *     for the previous one.
+   */
+  public List<TaskTiming> getCriticalPath() {
+    return criticalPath;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("Startup tasks completed in ").append(totalDuration).append("ms\n");
+    for (TaskTiming timing : timings) {
+      sb.append("  ").append(timing).append("\n");
+    }
+    sb.append("Critical path :");
+    for (TaskTiming timing : criticalPath) {
+      sb.append("\n  -> ").append(timing.getTaskName()).append(" ");
+      sb.append(timing.getDuration()).append("ms");
+    }
+    return sb.toString();
+  }
+
+  public static class TaskTiming {
+    private final String taskName;
+    private final int order;
+    private final List<String> dependencies;
+    private final double startedAt;
+    private final double completedAt;
+
+    TaskTiming(
+        String taskName,
+        int order,
+        List<String> dependencies,
+        double startedAt,
+        double completedAt) {
+      this.taskName = taskName;
+      this.order = order;
+      this.dependencies = Collections.unmodifiableList(new ArrayList<>(dependencies));
+      this.startedAt = startedAt;
+      this.completedAt = completedAt;
+    }
+
+    public String getTaskName() {
+      return taskName;
+    }
+
+    public int getOrder() {
+      return order;
+    }
+
+    /** @return the names of the tasks this task waited for before it was executed. */
+    public List<String> getDependencies() {
+      return dependencies;
+    }
+
+    public double getStartedAt() {
+      return startedAt;
+    }
+
+    public double getCompletedAt() {
+      return completedAt;
+    }
+
+    public double getDuration() {
+      return completedAt - startedAt;
+    }
+
+    @Override
+    public String toString() {
+      return taskName
+          + " [order "
+          + order
+          + "] started at "
+          + startedAt
+          + "ms, completed at "
+          + completedAt
+          + "ms, took "
+          + getDuration()
+          + "ms, depends on "
+          + dependencies;
+    }
+  }
+}
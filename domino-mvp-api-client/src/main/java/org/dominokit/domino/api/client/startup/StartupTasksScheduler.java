@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import org.dominokit.domino.api.client.async.MonotonicClock;
+import org.dominokit.domino.api.shared.extension.ContextAggregator;
+
+/**
+ * Executes the asynchronous startup tasks as a dependency graph, each task is executed as soon as
+ * all the tasks it depends on are completed instead of waiting for every task with a lower {@link
+ * AsyncClientStartupTask#order()}.
+ *
+ * <p>Tasks that do not declare dependencies in {@link AsyncClientStartupTask#dependsOn()} depend on
+ * all the tasks of the previous order, which keeps the behavior of executing the orders one after
+ * the other. Once all tasks are completed a {@link StartupReport} with the tasks timings and the
+ * critical path is available.
+ */
+public class StartupTasksScheduler {
+
+  private static final Logger LOGGER = Logger.getLogger(StartupTasksScheduler.class.getName());
+
+  private final MonotonicClock clock;
+  private final List<TaskNode> nodes = new ArrayList<>();
+  private int remaining;
+  private double startedAt;
+  private Runnable onCompleted = () -> {};
+  private StartupReport report;
+  private StartupTimeline timeline;
+
+  public StartupTasksScheduler(List<AsyncClientStartupTask> tasks) {
+    this(tasks, MonotonicClock.SYSTEM);
+  }
+
+  public StartupTasksScheduler(List<AsyncClientStartupTask> tasks, MonotonicClock clock) {
+    this.clock = clock;
+    tasks.forEach(task -> nodes.add(new TaskNode(task)));
+    linkDependencies();
+    checkForCycles();
+    this.remaining = nodes.size();
+  }
+
+  /**
+   * Records each task execution as a {@link StartupTimeline.Category#TASK} entry in the timeline.
+   *
+   * @param timeline the timeline to record the tasks in
+   * @return same scheduler instance
+   */
+  public StartupTasksScheduler setTimeline(StartupTimeline timeline) {
+    this.timeline = timeline;
+    return this;
+  }
+
+  /**
+   * Executes all the tasks that do not have dependencies, the rest of the tasks are executed when
+   * their dependencies complete.
+   *
+   * @param onCompleted called once after all the tasks are completed.
+   */
+  public void execute(Runnable onCompleted) {
+    this.onCompleted = onCompleted;
+    this.startedAt = clock.now();
+    if (nodes.isEmpty()) {
+      complete();
+      return;
+    }
+    List<TaskNode> ready = new ArrayList<>();
+    for (TaskNode node : nodes) {
+      if (node.pending == 0) {
+        ready.add(node);
+      }
+    }
+    ready.forEach(TaskNode::execute);
+  }
+
+  /** @return the startup report, or {@code null} if the tasks are not completed yet. */
+  public StartupReport getReport() {
+    return report;
+  }
+
+  private void linkDependencies() {
+    Map<Class<?>, List<TaskNode>> byType = new HashMap<>();
+    Map<Integer, List<TaskNode>> byOrder = new TreeMap<>();
+    for (TaskNode node : nodes) {
+      byType.computeIfAbsent(node.task.getClass(), type -> new ArrayList<>()).add(node);
+      byOrder.computeIfAbsent(node.task.order(), order -> new ArrayList<>()).add(node);
+    }
+
+    List<TaskNode> previousOrder = new ArrayList<>();
+    for (List<TaskNode> sameOrder : byOrder.values()) {
+      for (TaskNode node : sameOrder) {
+        Collection<Class<? extends AsyncClientStartupTask>> declared = node.task.dependsOn();
+        if (isNull(declared)) {
+          previousOrder.forEach(node::dependOn);
+        } else {
+          for (Class<? extends AsyncClientStartupTask> type : declared) {
+            List<TaskNode> dependencies = byType.get(type);
+            if (isNull(dependencies)) {
+              LOGGER.warning(
+                  "Startup task ["
+                      + node.name()
+                      + "] depends on a task that is not registered : "
+                      + type.getName());
+            } else {
+              dependencies.forEach(node::dependOn);
+            }
+          }
+        }
+      }
+      previousOrder = sameOrder;
+    }
+  }
+
+  private void checkForCycles() {
+    Map<TaskNode, Integer> pending = new HashMap<>();
+    LinkedList<TaskNode> ready = new LinkedList<>();
+    for (TaskNode node : nodes) {
+      pending.put(node, node.pending);
+      if (node.pending == 0) {
+        ready.add(node);
+      }
+    }
+    int visited = 0;
+    while (!ready.isEmpty()) {
+      TaskNode node = ready.removeFirst();
+      visited++;
+      for (TaskNode dependent : node.dependents) {
+        int count = pending.get(dependent) - 1;
+        pending.put(dependent, count);
+        if (count == 0) {
+          ready.add(dependent);
+        }
+      }
+    }
+    if (visited < nodes.size()) {
+      List<String> cycle = new ArrayList<>();
+      pending.forEach(
+          (node, count) -> {
+            if (count > 0) {
+              cycle.add(node.name());
+            }
+          });
+      throw new IllegalStateException("Startup tasks have cyclic dependencies : " + cycle);
+    }
+  }
+
+  private void onTaskCompleted(TaskNode node) {
+    if (node.completed) {
+      return;
+    }
+    node.completed = true;
+    node.completedAt = clock.now();
+    if (nonNull(node.timelineEntry)) {
+      node.timelineEntry.end();
+    }
+    remaining--;
+    for (TaskNode dependent : node.dependents) {
+      dependent.pending--;
+      if (dependent.pending == 0) {
+        dependent.execute();
+      }
+    }
+    if (remaining == 0) {
+      complete();
+    }
+  }
+
+  private void complete() {
+    report = createReport();
+    onCompleted.run();
+  }
+
+  private StartupReport createReport() {
+    Map<TaskNode, StartupReport.TaskTiming> timings = new HashMap<>();
+    List<StartupReport.TaskTiming> allTimings = new ArrayList<>();
+    TaskNode last = null;
+    for (TaskNode node : nodes) {
+      StartupReport.TaskTiming timing = node.timing();
+      timings.put(node, timing);
+      allTimings.add(timing);
+      if (isNull(last) || node.completedAt > last.completedAt) {
+        last = node;
+      }
+    }
+
+    LinkedList<StartupReport.TaskTiming> criticalPath = new LinkedList<>();
+    TaskNode current = last;
+    while (nonNull(current)) {
+      criticalPath.addFirst(timings.get(current));
+      current = current.lastCompletedDependency();
+    }
+
+    double totalDuration = isNull(last) ? 0 : last.completedAt - startedAt;
+    return new StartupReport(totalDuration, allTimings, criticalPath);
+  }
+
+  private final class TaskNode {
+    private final AsyncClientStartupTask task;
+    private final List<TaskNode> dependencies = new ArrayList<>();
+    private final List<TaskNode> dependents = new ArrayList<>();
+    private int pending;
+    private boolean executed;
+    private boolean completed;
+    private double executedAt;
+    private double completedAt;
+    private StartupTimeline.Entry timelineEntry;
+
+    private TaskNode(AsyncClientStartupTask task) {
+      this.task = task;
+    }
+
+    private void dependOn(TaskNode dependency) {
+      if (dependency != this && !dependencies.contains(dependency)) {
+        dependencies.add(dependency);
+        dependency.dependents.add(this);
+        pending++;
+      }
+    }
+
+    private void execute() {
+      if (executed) {
+        return;
+      }
+      executed = true;
+      executedAt = clock.now();
+      if (nonNull(timeline)) {
+        timelineEntry = timeline.begin(StartupTimeline.Category.TASK, name());
+      }
+      ContextAggregator.waitFor(task).onReady(() -> onTaskCompleted(this));
+      task.execute();
+    }
+
+    private TaskNode lastCompletedDependency() {
+      TaskNode result = null;
+      for (TaskNode dependency : dependencies) {
+        if (isNull(result) || dependency.completedAt > result.completedAt) {
+          result = dependency;
+        }
+      }
+      return result;
+    }
+
+    private String name() {
+      return task.getClass().getName();
+    }
+
+    private StartupReport.TaskTiming timing() {
+      List<String> dependencyNames = new ArrayList<>();
+      dependencies.forEach(dependency -> dependencyNames.add(dependency.name()));
+      return new StartupReport.TaskTiming(
+          name(),
+          task.order(),
+          dependencyNames,
+          executedAt - startedAt,
+          completedAt - startedAt);
+    }
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.dominokit.domino.api.client.async.MonotonicClock;
+
+/**
+ * Records the time spent in each phase, module and task while the application is starting, from
+ * {@link org.dominokit.domino.api.client.ClientApp#run()} until the application start handler is
+ * called.
+ *
+ * <p>Times are in milliseconds relative to the moment the timeline was started, entries are kept in
+ * the order they were started and can be read with {@link #getEntries()} or printed with {@link
+ * #dump()}.
+ */
+public class StartupTimeline {
+
+  public enum Category {
+    PHASE,
+    MODULE,
+    TASK
+  }
+
+  private final MonotonicClock clock;
+  private final List<Entry> entries = new ArrayList<>();
+  private double origin;
+  private double completedAt = -1;
+
+  public StartupTimeline() {
+    this(MonotonicClock.SYSTEM);
+  }
+
+  public StartupTimeline(MonotonicClock clock) {
+    this.clock = clock;
+    this.origin = clock.now();
+  }
+
+  /** Resets the timeline and starts measuring from now. */
+  public synchronized void start() {
+    entries.clear();
+    origin = clock.now();
+    completedAt = -1;
+  }
+
+  /** Marks the application as started, the total duration is measured until this moment. */
+  public synchronized void complete() {
+    completedAt = elapsed();
+  }
+
+  /**
+   * Starts a new entry, the entry is measured until {@link Entry#end()} is called.
+   *
+   * @param category the category of the entry
+   * @param name the name of the entry, usually the module or task class name
+   * @return the started entry
+   */
+  public synchronized Entry begin(Category category, String name) {
+    Entry entry = new Entry(category, name, elapsed());
+    entries.add(entry);
+    return entry;
+  }
+
+  /** Runs the {@link Runnable} and records the time it took as a new entry. */
+  public void record(Category category, String name, Runnable runnable) {
+    Entry entry = begin(category, name);
+    try {
+      runnable.run();
+    } finally {
+      entry.end();
+    }
+  }
+
+  /** @return all the entries in the order they were started. */
+  public synchronized List<Entry> getEntries() {
+    return Collections.unmodifiableList(new ArrayList<>(entries));
+  }
+
+  /** @return the entries of the specified category in the order they were started. */
+  public synchronized List<Entry> getEntries(Category category) {
+    List<Entry> result = new ArrayList<>();
+    for (Entry entry : entries) {
+      if (entry.category == category) {
+        result.add(entry);
+      }
+    }
+    return result;
+  }
+
+  /** @return the entries of the specified category sorted by duration, the slowest first. */
+  public List<Entry> getSlowest(Category category) {
+    List<Entry> result = getEntries(category);
+    result.sort((a, b) -> Double.compare(b.getDuration(), a.getDuration()));
+    return result;
+  }
+
+  public synchronized boolean isCompleted() {
+    return completedAt >= 0;
+  }
+
+  /**
+   * @return the time from starting the timeline until the application started, or until now if the
+   *     application is not started yet.
+   */
+  public synchronized double getTotalDuration() {
+    return isCompleted() ? completedAt : elapsed();
+  }
+
+  /** @return a human readable representation of the timeline, one line per entry. */
+  public synchronized String dump() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("Startup timeline ")
+        .append(isCompleted() ? "completed in " : "running for ")
+        .append(getTotalDuration())
+        .append("ms");
+    for (Entry entry : entries) {
+      sb.append("\n  ").append(entry);
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public String toString() {
+    return dump();
+  }
+
+  private double elapsed() {
+    return clock.now() - origin;
+  }
+
+  public final class Entry {
+    private final Category category;
+    private final String name;
+    private final double start;
+    private double end = -1;
+
+    private Entry(Category category, String name, double start) {
+      this.category = category;
+      this.name = name;
+      this.start = start;
+    }
+
+    /** Ends the entry, calling this more than once has no effect. */
+    public void end() {
+      synchronized (StartupTimeline.this) {
+        if (end < 0) {
+          end = elapsed();
+        }
+      }
+    }
+
+    public Category getCategory() {
+      return category;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public double getStart() {
+      return start;
+    }
+
+    /** @return the end time of the entry, or {@code -1} if it is not ended yet. */
+    public double getEnd() {
+      return end;
+    }
+
+    public boolean isEnded() {
+      return end >= 0;
+    }
+
+    /** @return the duration of the entry, or the time since it started if it is not ended yet. */
+    public double getDuration() {
+      return (isEnded() ? end : elapsed()) - start;
+    }
+
+    @Override
+    public String toString() {
+      return "["
+          + category
+          + "] "
+          + name
+          + " at "
+          + start
+          + "ms took "
+          + getDuration()
+          + "ms"
+          + (isEnded() ? "" : " (running)");
+    }
+  }
+}
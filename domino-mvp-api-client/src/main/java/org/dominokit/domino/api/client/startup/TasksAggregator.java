@@ -20,6 +20,11 @@ import static java.util.Objects.nonNull;
 import java.util.List;
 import org.dominokit.domino.api.shared.extension.ContextAggregator;
 
+/**
+ * @deprecated async startup tasks are executed as a dependency graph by {@link
+ *     StartupTasksScheduler}, this class is no longer used and will be removed.
+ */
+@Deprecated
 public class TasksAggregator extends ContextAggregator.ContextWait<Void>
     implements Comparable<TasksAggregator> {
   private ContextAggregator contextAggregator;
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.tracing;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent latency samples in a fixed size ring and computes percentiles over them,
+ * the total count, mean and max cover all the recorded samples.
+ */
+public class LatencySamples {
+
+  public static final int DEFAULT_CAPACITY = 256;
+
+  private final double[] samples;
+  private int next;
+  private int size;
+  private long count;
+  private double sum;
+  private double max;
+
+  public LatencySamples() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public LatencySamples(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Latency samples capacity must be at least 1");
+    }
+    this.samples = new double[capacity];
+  }
+
+  public synchronized void add(double latency) {
+    samples[next] = latency;
+    next = (next + 1) % samples.length;
+    size = Math.min(size + 1, samples.length);
+    count++;
+    sum += latency;
+    max = Math.max(max, latency);
+  }
+
+  /**
+   * @param percentile the percentile between 0 and 100
+   * @return the nearest rank percentile of the retained samples, or 0 if there are no samples
+   */
+  public synchronized double percentile(double percentile) {
+    return percentile(sorted(), percentile);
+  }
+
+  /** @return a summary of the samples with the common percentiles. */
+  public synchronized LatencySummary summary() {
+    double[] sorted = sorted();
+    return new LatencySummary(
+        count,
+        count == 0 ? 0 : sum / count,
+        percentile(sorted, 50),
+        percentile(sorted, 90),
+        percentile(sorted, 99),
+        max);
+  }
+
+  public synchronized long getCount() {
+    return count;
+  }
+
+  public synchronized void clear() {
+    next = 0;
+    size = 0;
+    count = 0;
+    sum = 0;
+    max = 0;
+  }
+
+  private double[] sorted() {
+    double[] sorted = Arrays.copyOf(samples, size);
+    Arrays.sort(sorted);
+    return sorted;
+  }
+
+  private static double percentile(double[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+    return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+  }
+}
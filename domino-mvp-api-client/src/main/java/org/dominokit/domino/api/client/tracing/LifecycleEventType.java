@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.tracing;
+
+/** The presenters and slots lifecycle events recorded by the {@link LifecycleTracer}. */
+public enum LifecycleEventType {
+  SLOT_REGISTERED,
+  SLOT_REMOVED,
+  PRESENTER_ACTIVATED,
+  PRESENTER_DEACTIVATED,
+  PRESENTER_NAME_REGISTERED,
+  PRESENTER_NAME_REMOVED,
+  PRESENTER_NAME_PUBLISHED,
+  PRESENTER_NAME_REMOVAL_PUBLISHED,
+  PRESENTER_NAME_RECEIVED,
+  PRESENTER_NAME_REMOVAL_RECEIVED,
+  PARENT_PRESENT,
+  PARENT_AWAITED,
+  ROUTING_PARENT_RESOLVED
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.tracing;
+
+/** Receives the lifecycle events recorded by the {@link LifecycleTracer}. */
+@FunctionalInterface
+public interface LifecycleSink {
+
+  /**
+   * @param type the event type
+   * @param time the event time in milliseconds
+   * @param source the class or object that reported the event
+   * @param detail the event detail such as the slot key or the presenter name, may be null
+   */
+  void onEvent(LifecycleEventType type, double time, Object source, String detail);
+}
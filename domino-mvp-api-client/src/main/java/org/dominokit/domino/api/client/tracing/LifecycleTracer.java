@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.tracing;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Arrays;
+import org.dominokit.domino.api.client.async.MonotonicClock;
+
+/**
+ * Records the presenters and slots lifecycle events into a preallocated ring buffer and forwards
+ * them to the registered {@link LifecycleSink}s.
+ *
+ * <p>Events are typed and carry their source and detail as references, so tracing an event does
+ * not build any message or allocate, messages are only formatted by the sinks that need them or
+ * when the buffer is dumped. The tracer is disabled by default and the disabled path is a single
+ * flag check, the ring buffer is allocated the first time the tracer is enabled.
+ */
+public class LifecycleTracer {
+
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private static final LifecycleSink[] NO_SINKS = new LifecycleSink[0];
+
+  private final MonotonicClock clock;
+  private final int capacity;
+  private boolean enabled = false;
+  private LifecycleEventType[] types;
+  private double[] times;
+  private Object[] sources;
+  private String[] details;
+  private int next;
+  private long count;
+  private LifecycleSink[] sinks = NO_SINKS;
+
+  public LifecycleTracer() {
+    this(DEFAULT_CAPACITY, MonotonicClock.SYSTEM);
+  }
+
+  public LifecycleTracer(int capacity, MonotonicClock clock) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Lifecycle tracer capacity must be at least 1");
+    }
+    this.capacity = capacity;
+    this.clock = clock;
+  }
+
+  public synchronized LifecycleTracer setEnabled(boolean enabled) {
+    if (enabled && isNull(types)) {
+      types = new LifecycleEventType[capacity];
+      times = new double[capacity];
+      sources = new Object[capacity];
+      details = new String[capacity];
+    }
+    this.enabled = enabled;
+    return this;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public synchronized LifecycleTracer addSink(LifecycleSink sink) {
+    LifecycleSink[] updated = Arrays.copyOf(sinks, sinks.length + 1);
+    updated[sinks.length] = sink;
+    sinks = updated;
+    return this;
+  }
+
+  public synchronized LifecycleTracer removeSink(LifecycleSink sink) {
+    for (int i = 0; i < sinks.length; i++) {
+      if (sinks[i] == sink) {
+        LifecycleSink[] updated = new LifecycleSink[sinks.length - 1];
+        System.arraycopy(sinks, 0, updated, 0, i);
+        System.arraycopy(sinks, i + 1, updated, i, sinks.length - i - 1);
+        sinks = updated;
+        return this;
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Records an event if the tracer is enabled.
+   *
+   * @param type the event type
+   * @param source the class or object reporting the event, prefer classes to avoid retaining
+   *     instances in the buffer
+   * @param detail the event detail such as the slot key or the presenter name, may be null
+   */
+  public void trace(LifecycleEventType type, Object source, String detail) {
+    if (!enabled) {
+      return;
+    }
+    double time = clock.now();
+    LifecycleSink[] currentSinks;
+    synchronized (this) {
+      int index = next;
+      types[index] = type;
+      times[index] = time;
+      sources[index] = source;
+      details[index] = detail;
+      next = (index + 1) % capacity;
+      count++;
+      currentSinks = sinks;
+    }
+    for (LifecycleSink sink : currentSinks) {
+      sink.onEvent(type, time, source, detail);
+    }
+  }
+
+  /**
+   * Replays the buffered events, oldest first, to the visitor.
+   *
+   * @param visitor receives the buffered events
+   */
+  public synchronized void forEach(LifecycleSink visitor) {
+    if (isNull(types)) {
+      return;
+    }
+    int size = (int) Math.min(count, capacity);
+    int start = (next - size + capacity) % capacity;
+    for (int i = 0; i < size; i++) {
+      int index = (start + i) % capacity;
+      visitor.onEvent(types[index], times[index], sources[index], details[index]);
+    }
+  }
+
+  /** @return the total number of events traced since the tracer was created or cleared. */
+  public synchronized long getCount() {
+    return count;
+  }
+
+  public synchronized void clear() {
+    if (nonNull(types)) {
+      Arrays.fill(types, null);
+      Arrays.fill(sources, null);
+      Arrays.fill(details, null);
+    }
+    next = 0;
+    count = 0;
+  }
+
+  /** @return the buffered events as readable lines, oldest first. */
+  public synchronized String dump() {
+    StringBuilder sb = new StringBuilder("Lifecycle events");
+    forEach(
+        (type, time, source, detail) ->
+            sb.append("\n  ").append(format(type, time, source, detail)));
+    return sb.toString();
+  }
+
+  @Override
+  public String toString() {
+    return dump();
+  }
+
+  static String format(LifecycleEventType type, double time, Object source, String detail) {
+    String sourceName =
+        source instanceof Class ? ((Class<?>) source).getCanonicalName() : String.valueOf(source);
+    return time + "ms " + type + " [" + sourceName + "]" + (nonNull(detail) ? " : " + detail : "");
+  }
+}
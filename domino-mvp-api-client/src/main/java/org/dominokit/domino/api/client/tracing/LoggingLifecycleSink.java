@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.tracing;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link LifecycleSink} that writes the lifecycle events to a {@link Logger}, the message is only
+ * built when the logger accepts the level.
+ */
+public class LoggingLifecycleSink implements LifecycleSink {
+
+  private final Logger logger;
+  private final Level level;
+
+  public LoggingLifecycleSink() {
+    this(Logger.getLogger(LifecycleTracer.class.getName()), Level.INFO);
+  }
+
+  public LoggingLifecycleSink(Logger logger, Level level) {
+    this.logger = logger;
+    this.level = level;
+  }
+
+  @Override
+  public void onEvent(LifecycleEventType type, double time, Object source, String detail) {
+    if (logger.isLoggable(level)) {
+      logger.log(level, LifecycleTracer.format(type, time, source, detail));
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.tracing;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.dominokit.domino.api.client.async.MonotonicClock;
+
+/**
+ * Aggregates the route to reveal timings of the presenters, each navigation is traced through the
+ * {@link RevealStage}s from the history state change until the presenter reveal handler activates
+ * the presenter, and the stage durations are kept per presenter as percentiles that can be queried
+ * at runtime to find slow screens.
+ */
+public class RevealLatencyTracker {
+
+  private final MonotonicClock clock;
+  private final Map<String, PresenterLatency> presenters = new LinkedHashMap<>();
+  private boolean enabled = true;
+  private int sampleSize = LatencySamples.DEFAULT_CAPACITY;
+
+  public RevealLatencyTracker() {
+    this(MonotonicClock.SYSTEM);
+  }
+
+  public RevealLatencyTracker(MonotonicClock clock) {
+    this.clock = clock;
+  }
+
+  public synchronized RevealLatencyTracker setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  public synchronized boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param sampleSize the number of most recent samples kept per presenter and stage to compute the
+   *     percentiles, applies to presenters recorded after the call
+   * @return same tracker instance
+   */
+  public synchronized RevealLatencyTracker setSampleSize(int sampleSize) {
+    this.sampleSize = sampleSize;
+    return this;
+  }
+
+  /**
+   * Starts tracing a navigation.
+   *
+   * @param route the route being navigated to
+   * @return the trace of the navigation, or {@code null} if tracing is disabled
+   */
+  public RevealTrace start(String route) {
+    return isEnabled() ? new RevealTrace(this, route, now()) : null;
+  }
+
+  double now() {
+    return clock.now();
+  }
+
+  synchronized void record(String presenter, RevealTrace trace) {
+    PresenterLatency latency = presenters.get(presenter);
+    if (isNull(latency)) {
+      latency = new PresenterLatency(sampleSize);
+      presenters.put(presenter, latency);
+    }
+    latency.add(trace);
+  }
+
+  /** @return the names of the presenters that have recorded reveals. */
+  public synchronized List<String> getPresenters() {
+    return new ArrayList<>(presenters.keySet());
+  }
+
+  /**
+   * @param presenter the presenter name
+   * @param stage the reveal stage
+   * @return the latency summary of the stage, or {@code null} if the presenter was not revealed
+   */
+  public synchronized LatencySummary getSummary(String presenter, RevealStage stage) {
+    PresenterLatency latency = presenters.get(presenter);
+    return isNull(latency) ? null : latency.stages[stage.ordinal()].summary();
+  }
+
+  /**
+   * @param presenter the presenter name
+   * @return the latency summary from the state change to the reveal, or {@code null} if the
+   *     presenter was not revealed
+   */
+  public synchronized LatencySummary getTotalSummary(String presenter) {
+    PresenterLatency latency = presenters.get(presenter);
+    return isNull(latency) ? null : latency.total.summary();
+  }
+
+  /**
+   * @param limit the maximum number of presenters to return
+   * @return the presenters with the highest 90th percentile total reveal latency, slowest first
+   */
+  public synchronized List<String> getSlowest(int limit) {
+    return presenters.entrySet().stream()
+        .sorted(
+            (a, b) ->
+                Double.compare(
+                    b.getValue().total.percentile(90), a.getValue().total.percentile(90)))
+        .limit(limit)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+  }
+
+  public synchronized void clear() {
+    presenters.clear();
+  }
+
+  /** @return a readable report of the reveal latencies of all presenters. */
+  public synchronized String dump() {
+    StringBuilder sb = new StringBuilder("Reveal latency");
+    presenters.forEach(
+        (presenter, latency) -> {
+          sb.append("\n  ").append(presenter).append(" : ").append(latency.total.summary());
+          for (RevealStage stage : RevealStage.values()) {
+            sb.append("\n    ")
+                .append(stage)
+                .append(" : ")
+                .append(latency.stages[stage.ordinal()].summary());
+          }
+        });
+    return sb.toString();
+  }
+
+  @Override
+  public String toString() {
+    return dump();
+  }
+
+  private static final class PresenterLatency {
+    private final LatencySamples total;
+    private final LatencySamples[] stages = new LatencySamples[RevealStage.values().length];
+
+    private PresenterLatency(int sampleSize) {
+      total = new LatencySamples(sampleSize);
+      for (int i = 0; i < stages.length; i++) {
+        stages[i] = new LatencySamples(sampleSize);
+      }
+    }
+
+    private void add(RevealTrace trace) {
+      total.add(trace.getTotalDuration());
+      for (RevealStage stage : RevealStage.values()) {
+        stages[stage.ordinal()].add(trace.getDuration(stage));
+      }
+    }
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.tracing;
+
+/** The stages of the path from a history state change to a revealed presenter. */
+public enum RevealStage {
+  /** Waiting for the routing aggregators events after the state change. */
+  AGGREGATORS,
+  /** Waiting for the parent presenter to be present. */
+  PARENT,
+  /** Routing the presenter command and creating or initializing the presenter. */
+  PRESENTER,
+  /** Running the presenter {@code onBeforeReveal}. */
+  BEFORE_REVEAL,
+  /** Revealing the view in its slot until the presenter is activated. */
+  SLOT_REVEAL
+}
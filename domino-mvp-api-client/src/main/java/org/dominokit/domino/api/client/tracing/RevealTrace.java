@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.tracing;
+
+/**
+ * The timings of a single navigation to a presenter, created by {@link
+ * RevealLatencyTracker#start(String)} when the routing starts and completed when the presenter is
+ * revealed.
+ */
+public class RevealTrace {
+
+  private final RevealLatencyTracker tracker;
+  private final String route;
+  private final double start;
+  private final double[] durations = new double[RevealStage.values().length];
+  private double last;
+
+  RevealTrace(RevealLatencyTracker tracker, String route, double start) {
+    this.tracker = tracker;
+    this.route = route;
+    this.start = start;
+    this.last = start;
+  }
+
+  /**
+   * Ends the stage, its duration is the time since the previous stage ended.
+   *
+   * @param stage the ended stage
+   */
+  public void mark(RevealStage stage) {
+    double now = tracker.now();
+    durations[stage.ordinal()] += now - last;
+    last = now;
+  }
+
+  /**
+   * Records the trace timings for the revealed presenter.
+   *
+   * @param presenter the name of the revealed presenter
+   */
+  public void complete(String presenter) {
+    tracker.record(presenter, this);
+  }
+
+  public String getRoute() {
+    return route;
+  }
+
+  public double getDuration(RevealStage stage) {
+    return durations[stage.ordinal()];
+  }
+
+  public double getTotalDuration() {
+    return last - start;
+  }
+}
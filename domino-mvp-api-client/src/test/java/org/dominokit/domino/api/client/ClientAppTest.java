@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+import org.dominokit.domino.api.client.tracing.LifecycleTracer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClientAppTest {
+
+  private ClientAppScope previousScope;
+
+  @Before
+  public void setUp() throws Exception {
+    previousScope = ClientApp.getScope();
+    ClientApp.resetDefault();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    ClientApp.setScope(previousScope);
+    ClientApp.resetDefault();
+  }
+
+  @Test
+  public void givenThreadLocalScope_whenBindingAppsOnTwoThreads_ShouldResolveEachThreadOwnApp()
+      throws Exception {
+    ClientApp.setScope(new ThreadLocalClientAppScope());
+    ClientApp first = buildIsolated();
+    ClientApp second = buildIsolated();
+    ClientApp[] resolved = new ClientApp[2];
+
+    Thread thread =
+        new Thread(
+            () -> {
+              ClientApp.getScope().bind(second);
+              resolved[1] = ClientApp.make();
+            });
+    first.runInContext(
+        () -> {
+          thread.start();
+          try {
+            thread.join();
+          } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+          }
+          resolved[0] = ClientApp.make();
+        });
+
+    assertThat(resolved[0]).isSameAs(first);
+    assertThat(resolved[1]).isSameAs(second);
+    assertThat(ClientApp.getScope().current()).isNull();
+  }
+
+  @Test
+  public void givenAppBoundToScope_whenRunningInContext_ShouldRestorePreviousApp()
+      throws Exception {
+    ClientApp.setScope(new ThreadLocalClientAppScope());
+    ClientApp outer = buildIsolated();
+    ClientApp inner = buildIsolated();
+    ClientApp[] resolved = new ClientApp[2];
+
+    outer.runInContext(
+        () -> {
+          inner.runInContext(() -> resolved[0] = ClientApp.make());
+          resolved[1] = ClientApp.make();
+        });
+
+    assertThat(resolved[0]).isSameAs(inner);
+    assertThat(resolved[1]).isSameAs(outer);
+  }
+
+  @Test
+  public void givenRegistrationsOnPlaceholder_whenBuildingApp_ShouldAdoptThem() throws Exception {
+    ClientApp placeholder = ClientApp.make("placeholder");
+    Supplier<Object> presenterSupplier = Object::new;
+    Supplier<Object> viewSupplier = Object::new;
+    placeholder.presenterSuppliers().setPresenterSupplier(ClientAppTest.class, presenterSupplier);
+    placeholder.presenterSuppliers().setViewSupplier(ClientAppTest.class, viewSupplier);
+    LifecycleTracer tracer = placeholder.lifecycleTracer();
+
+    ClientApp clientApp = builder().build();
+
+    assertThat(ClientApp.make()).isSameAs(clientApp);
+    assertThat(clientApp.getName()).isEqualTo("placeholder");
+    assertThat(clientApp.lifecycleTracer()).isSameAs(tracer);
+    assertThat(presenterSupplier(clientApp)).isSameAs(presenterSupplier);
+    assertThat(viewSupplier(clientApp)).isSameAs(viewSupplier);
+    assertThat(presenterSupplier(placeholder)).isNull();
+  }
+
+  @Test
+  public void givenBuiltDefaultApp_whenAnotherAppBecomesDefault_ShouldNotAdoptItsSuppliers()
+      throws Exception {
+    ClientApp first = builder().build();
+    Supplier<Object> presenterSupplier = Object::new;
+    first.presenterSuppliers().setPresenterSupplier(ClientAppTest.class, presenterSupplier);
+
+    ClientApp second = builder().build();
+
+    assertThat(ClientApp.make()).isSameAs(second);
+    assertThat(presenterSupplier(second)).isNull();
+    assertThat(presenterSupplier(first)).isSameAs(presenterSupplier);
+  }
+
+  @Test
+  public void givenAppBoundToScope_whenBuildingApp_ShouldNotBecomeDefault() throws Exception {
+    ClientApp.setScope(new ThreadLocalClientAppScope());
+    ClientApp bound = buildIsolated();
+    ClientApp[] built = new ClientApp[1];
+
+    bound.runInContext(() -> built[0] = builder().build());
+
+    assertThat(built[0]).isNotSameAs(bound);
+    assertThat(ClientApp.make()).isNotSameAs(built[0]);
+    assertThat(ClientApp.make()).isNotSameAs(bound);
+  }
+
+  private static Supplier<?> presenterSupplier(ClientApp clientApp) {
+    return clientApp.presenterSuppliers().getPresenterSupplier(ClientAppTest.class);
+  }
+
+  private static Supplier<?> viewSupplier(ClientApp clientApp) {
+    return clientApp.presenterSuppliers().getViewSupplier(ClientAppTest.class);
+  }
+
+  private static ClientApp buildIsolated() {
+    return builder().buildIsolated();
+  }
+
+  private static ClientApp.CanBuildClientApp builder() {
+    return ClientApp.ClientAppBuilder.clientRouter(null)
+        .eventsBus(null)
+        .eventsListenersRepository(null)
+        .history(null)
+        .asyncRunner(null)
+        .dominoOptions(null)
+        .slotsManager(null)
+        .presentersNamesRegistry(null);
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PriorityAsyncRunnerTest {
+
+  private List<Runnable> ticks;
+  private List<String> executed;
+  private double time;
+
+  @Before
+  public void setUp() throws Exception {
+    ticks = new ArrayList<>();
+    executed = new ArrayList<>();
+    time = 0;
+  }
+
+  @Test
+  public void givenTasksInDifferentLanes_whenTickRuns_ShouldRunHigherLanesFirst() throws Exception {
+    PriorityAsyncRunner runner = runner(100);
+    runner.runAsync(AsyncPriority.BACKGROUND, recording("background"));
+    runner.runAsync(recording("data"));
+    runner.runAsync(AsyncPriority.USER_INPUT, recording("input"));
+    runner.runAsync(AsyncPriority.ROUTING, recording("routing"));
+
+    assertThat(ticks).hasSize(1);
+    runTicks();
+
+    assertThat(executed).containsExactly("input", "routing", "data", "background");
+    assertThat(runner.getTicks()).isEqualTo(1L);
+  }
+
+  @Test
+  public void givenTickExceedingItsBudget_whenRunning_ShouldYieldToNextTick() throws Exception {
+    PriorityAsyncRunner runner = runner(100);
+    runner.runAsync(recording("first", 5));
+    runner.runAsync(recording("second", 5));
+    runner.runAsync(recording("third", 5));
+
+    runNextTick();
+
+    assertThat(executed).containsExactly("first", "second");
+    assertThat(ticks).hasSize(1);
+
+    runNextTick();
+
+    assertThat(executed).containsExactly("first", "second", "third");
+    assertThat(ticks).isEmpty();
+    assertThat(runner.getTicks()).isEqualTo(2L);
+    assertThat(runner.getYields()).isEqualTo(1L);
+  }
+
+  @Test
+  public void givenBackgroundTask_whenHigherTasksKeepComing_ShouldRunItOnceAged() throws Exception {
+    PriorityAsyncRunner runner = runner(100);
+    runner.runAsync(AsyncPriority.BACKGROUND, recording("background"));
+    runner.runAsync(AsyncPriority.USER_INPUT, resubmitting(runner, 60));
+
+    runTicks();
+
+    assertThat(executed).contains("background");
+    assertThat(executed.indexOf("background")).isEqualTo(40);
+    assertThat(runner.getStats(AsyncPriority.BACKGROUND).getMaxWait()).isEqualTo(400D);
+  }
+
+  @Test
+  public void givenAgingDisabled_whenHigherTasksKeepComing_ShouldKeepLanesStrictlyOrdered()
+      throws Exception {
+    PriorityAsyncRunner runner = runner(-1);
+    runner.runAsync(AsyncPriority.BACKGROUND, recording("background"));
+    runner.runAsync(AsyncPriority.USER_INPUT, resubmitting(runner, 60));
+
+    runTicks();
+
+    assertThat(executed.indexOf("background")).isEqualTo(60);
+  }
+
+  @Test
+  public void givenFailingTask_whenRunning_ShouldReportFailureAndRunNextTasks() throws Exception {
+    PriorityAsyncRunner runner = runner(100);
+    List<Throwable> failures = new ArrayList<>();
+    runner.runAsync(
+        new AsyncRunner.AsyncTask() {
+          @Override
+          public void onSuccess() {
+            throw new IllegalStateException("failed");
+          }
+
+          @Override
+          public void onFailed(Throwable error) {
+            failures.add(error);
+          }
+        });
+    runner.runAsync(recording("next"));
+
+    runTicks();
+
+    assertThat(failures).hasSize(1);
+    assertThat(failures.get(0).getMessage()).isEqualTo("failed");
+    assertThat(executed).containsExactly("next");
+  }
+
+  @Test
+  public void givenExecutedTasks_whenGettingStats_ShouldReportQueueDepthAndWaitTimes()
+      throws Exception {
+    PriorityAsyncRunner runner = runner(100);
+    runner.runAsync(recording("first", 2));
+    runner.runAsync(recording("second", 2));
+    runner.runAsync(recording("third", 2));
+
+    runTicks();
+
+    PriorityAsyncRunner.LaneStats stats = runner.getStats(AsyncPriority.DATA);
+    assertThat(stats.getQueueDepth()).isEqualTo(0);
+    assertThat(stats.getMaxQueueDepth()).isEqualTo(3);
+    assertThat(stats.getExecuted()).isEqualTo(3L);
+    assertThat(stats.getAverageWait()).isEqualTo(2D);
+    assertThat(stats.getMaxWait()).isEqualTo(4D);
+
+    runner.resetStats();
+
+    assertThat(runner.getStats(AsyncPriority.DATA).getExecuted()).isEqualTo(0L);
+    assertThat(runner.getTicks()).isEqualTo(0L);
+  }
+
+  private PriorityAsyncRunner runner(double agingThreshold) {
+    return new PriorityAsyncRunner(ticks::add, () -> time, 8, AsyncPriority.DATA, agingThreshold);
+  }
+
+  private void runNextTick() {
+    ticks.remove(0).run();
+  }
+
+  private void runTicks() {
+    while (!ticks.isEmpty()) {
+      runNextTick();
+    }
+  }
+
+  private AsyncRunner.AsyncTask recording(String name) {
+    return recording(name, 0);
+  }
+
+  private AsyncRunner.AsyncTask recording(String name, double duration) {
+    return () -> {
+      executed.add(name);
+      time += duration;
+    };
+  }
+
+  /** A user input task that takes 10ms and submits another one until it ran the given times. */
+  private AsyncRunner.AsyncTask resubmitting(PriorityAsyncRunner runner, int times) {
+    return () -> {
+      executed.add("input");
+      time += 10;
+      if (times > 1) {
+        runner.runAsync(AsyncPriority.USER_INPUT, resubmitting(runner, times - 1));
+      }
+    };
+  }
+}
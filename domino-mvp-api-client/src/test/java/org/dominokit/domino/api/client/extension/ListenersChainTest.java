@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.api.shared.extension.DominoEventListener;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ListenersChainTest {
+
+  private ListenersChain chain;
+  private List<String> received;
+
+  @Before
+  public void setUp() throws Exception {
+    chain = new ListenersChain();
+    received = new ArrayList<>();
+  }
+
+  @Test
+  public void givenEmptyChain_whenTakingSnapshot_ShouldReturnEmptyArray() throws Exception {
+    assertThat(chain.isEmpty()).isTrue();
+    assertThat(chain.snapshot()).isEmpty();
+  }
+
+  @Test
+  public void givenListeners_whenTakingSnapshot_ShouldKeepRegistrationOrder() throws Exception {
+    DominoEventListener first = recording("first");
+    DominoEventListener second = recording("second");
+    chain.add(first);
+    chain.add(second);
+
+    assertThat(chain.size()).isEqualTo(2);
+    assertThat(chain.snapshot()).containsExactly(first, second);
+  }
+
+  @Test
+  public void givenSameListenerAddedTwice_whenRemovingOneNode_ShouldKeepTheOther()
+      throws Exception {
+    DominoEventListener listener = recording("listener");
+    ListenersChain.Node first = chain.add(listener);
+    chain.add(listener);
+
+    assertThat(chain.remove(first)).isTrue();
+    assertThat(chain.size()).isEqualTo(1);
+    assertThat(chain.snapshot()).containsExactly(listener);
+  }
+
+  @Test
+  public void givenMiddleNode_whenRemoved_ShouldRelinkNeighbours() throws Exception {
+    DominoEventListener first = recording("first");
+    DominoEventListener second = recording("second");
+    DominoEventListener third = recording("third");
+    chain.add(first);
+    ListenersChain.Node node = chain.add(second);
+    chain.add(third);
+
+    assertThat(chain.remove(node)).isTrue();
+    assertThat(node.isAttached()).isFalse();
+    assertThat(chain.snapshot()).containsExactly(first, third);
+    assertThat(chain.find(second)).isNull();
+  }
+
+  @Test
+  public void givenRemovedNode_whenRemovedAgain_ShouldReturnFalse() throws Exception {
+    ListenersChain.Node node = chain.add(recording("listener"));
+    chain.remove(node);
+
+    assertThat(chain.remove(node)).isFalse();
+    assertThat(chain.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void givenNodeOfAnotherChain_whenRemoved_ShouldReturnFalse() throws Exception {
+    ListenersChain other = new ListenersChain();
+    ListenersChain.Node node = other.add(recording("listener"));
+
+    assertThat(chain.remove(node)).isFalse();
+    assertThat(node.isAttached()).isTrue();
+    assertThat(other.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenListenerRemovingEarlierListener_whenDispatchingAgain_ShouldSkipRemovedListener()
+      throws Exception {
+    ListenersChain.Node first = chain.add(recording("first"));
+    chain.add(
+        event -> {
+          received.add("remover");
+          chain.remove(first);
+        });
+    chain.add(recording("last"));
+
+    dispatch();
+
+    assertThat(received).containsExactly("first", "remover", "last");
+    received.clear();
+
+    dispatch();
+
+    assertThat(received).containsExactly("remover", "last");
+  }
+
+  @Test
+  public void givenListenerRemovingNextListener_whenDispatching_ShouldStillNotifyIt()
+      throws Exception {
+    ListenersChain.Node[] next = new ListenersChain.Node[1];
+    chain.add(
+        event -> {
+          received.add("remover");
+          chain.remove(next[0]);
+        });
+    next[0] = chain.add(recording("removed"));
+
+    dispatch();
+
+    assertThat(received).containsExactly("remover", "removed");
+    assertThat(chain.snapshot()).hasSize(1);
+  }
+
+  @Test
+  public void givenListenerAddedDuringDispatch_whenDispatching_ShouldNotifyItNextTime()
+      throws Exception {
+    chain.add(
+        event -> {
+          received.add("adder");
+          if (chain.size() == 1) {
+            chain.add(recording("added"));
+          }
+        });
+
+    dispatch();
+
+    assertThat(received).containsExactly("adder");
+    received.clear();
+
+    dispatch();
+
+    assertThat(received).containsExactly("adder", "added");
+  }
+
+  private void dispatch() {
+    for (DominoEventListener listener : chain.snapshot()) {
+      listener.onEventReceived(null);
+    }
+  }
+
+  private DominoEventListener recording(String name) {
+    return event -> received.add(name);
+  }
+}
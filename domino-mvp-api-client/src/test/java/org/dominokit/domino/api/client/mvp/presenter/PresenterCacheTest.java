@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.mvp.presenter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.dominokit.domino.api.client.mvp.view.View;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PresenterCacheTest {
+
+  private double time;
+  private List<AsyncRunner.AsyncTask> delayed;
+  private List<String> evicted;
+
+  @Before
+  public void setUp() throws Exception {
+    time = 0;
+    delayed = new ArrayList<>();
+    evicted = new ArrayList<>();
+  }
+
+  @Test
+  public void givenCachedPresenter_whenRequestedAgain_ShouldReturnIt() throws Exception {
+    PresenterCache<TestPresenter> cache = cache(2, -1);
+    TestPresenter presenter = new TestPresenter();
+    cache.put("a", presenter);
+
+    assertThat(cache.get("a")).isSameAs(presenter);
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenFullCache_whenAddingPresenter_ShouldEvictLeastRecentlyUsed() throws Exception {
+    PresenterCache<TestPresenter> cache = cache(2, -1);
+    cache.put("a", new TestPresenter());
+    cache.put("b", new TestPresenter());
+    cache.get("a");
+
+    cache.put("c", new TestPresenter());
+
+    assertThat(evicted).containsExactly("b");
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.isOverflowing()).isFalse();
+  }
+
+  @Test
+  public void givenPresentersInUse_whenAddingPresenter_ShouldOverflowUntilTheyAreNoLongerInUse()
+      throws Exception {
+    PresenterCache<TestPresenter> cache = cache(1, -1);
+    TestPresenter inUse = new TestPresenter();
+    inUse.activate();
+    cache.put("a", inUse);
+
+    cache.put("b", new TestPresenter());
+
+    assertThat(evicted).isEmpty();
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.isOverflowing()).isTrue();
+
+    inUse.deActivate();
+    cache.get("b");
+
+    assertThat(evicted).containsExactly("a");
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.isOverflowing()).isFalse();
+  }
+
+  @Test
+  public void givenIdlePresenter_whenSweepRuns_ShouldEvictItWithoutFurtherRequests()
+      throws Exception {
+    PresenterCache<TestPresenter> cache = cache(5, 100);
+    cache.put("a", new TestPresenter());
+
+    assertThat(delayed).hasSize(1);
+    time = 150;
+    runDelayed();
+
+    assertThat(evicted).containsExactly("a");
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(delayed).isEmpty();
+  }
+
+  @Test
+  public void givenRecentlyUsedPresenter_whenSweepRuns_ShouldKeepItAndSweepAgain()
+      throws Exception {
+    PresenterCache<TestPresenter> cache = cache(5, 100);
+    cache.put("a", new TestPresenter());
+    cache.put("b", new TestPresenter());
+
+    assertThat(delayed).hasSize(1);
+    time = 80;
+    cache.get("a");
+    time = 150;
+    runDelayed();
+
+    assertThat(evicted).containsExactly("b");
+    assertThat(delayed).hasSize(1);
+  }
+
+  @Test
+  public void givenIdlePresenterInUse_whenSweepRuns_ShouldNotEvictIt() throws Exception {
+    PresenterCache<TestPresenter> cache = cache(5, 100);
+    TestPresenter inUse = new TestPresenter();
+    inUse.activate();
+    cache.put("a", inUse);
+
+    time = 150;
+    runDelayed();
+
+    assertThat(evicted).isEmpty();
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenRunnerWithoutDelays_whenAddingPresenter_ShouldEvictIdleOnNextAccess()
+      throws Exception {
+    PresenterCache<TestPresenter> cache =
+        new PresenterCache<TestPresenter>(5, 100)
+            .setClock(() -> time)
+            .setAsyncRunner(AsyncRunner.AsyncTask::onSuccess)
+            .onEvicted((key, presenter) -> evicted.add(key));
+    cache.put("a", new TestPresenter());
+
+    time = 150;
+    assertThat(evicted).isEmpty();
+    cache.get("b");
+
+    assertThat(evicted).containsExactly("a");
+  }
+
+  private PresenterCache<TestPresenter> cache(int maxSize, double maxIdleMillis) {
+    return new PresenterCache<TestPresenter>(maxSize, maxIdleMillis)
+        .setClock(() -> time)
+        .setAsyncRunner(new DelayingAsyncRunner())
+        .onEvicted((key, presenter) -> evicted.add(key));
+  }
+
+  private void runDelayed() {
+    List<AsyncRunner.AsyncTask> tasks = new ArrayList<>(delayed);
+    delayed.clear();
+    tasks.forEach(AsyncRunner.AsyncTask::onSuccess);
+  }
+
+  private class DelayingAsyncRunner implements AsyncRunner {
+    @Override
+    public void runAsync(AsyncTask asyncTask) {
+      asyncTask.onSuccess();
+    }
+
+    @Override
+    public void runDelayed(double delayMillis, AsyncTask asyncTask) {
+      delayed.add(asyncTask);
+    }
+
+    @Override
+    public boolean supportsDelay() {
+      return true;
+    }
+  }
+
+  private static class TestPresenter extends ViewablePresenter<View> {}
+}
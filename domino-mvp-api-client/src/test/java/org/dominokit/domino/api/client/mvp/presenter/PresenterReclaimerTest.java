@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.mvp.presenter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.dominokit.domino.api.client.mvp.view.BaseDominoView;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PresenterReclaimerTest {
+
+  private PresenterReclaimer reclaimer;
+  private ViewablePresenterSupplier<TestPresenter, TestView> supplier;
+  private boolean singletonViews;
+  private double time;
+
+  @Before
+  public void setUp() throws Exception {
+    time = 0;
+    singletonViews = false;
+    reclaimer = new PresenterReclaimer(AsyncRunner.AsyncTask::onSuccess, () -> time);
+    supplier = new ViewablePresenterSupplier<>(false, TestPresenter::new);
+    supplier.setViewSupplier(() -> new TestView(singletonViews));
+  }
+
+  @Test
+  public void givenIdleInactivePresenter_whenReclaiming_ShouldReleaseItsView() throws Exception {
+    reclaimer.setMaxIdleMillis(100);
+    TestPresenter presenter = reveal();
+    presenter.deactivate();
+
+    time = 150;
+
+    assertThat(reclaimer.reclaim()).isEqualTo(1);
+    assertThat(presenter.getView().isInitialized()).isFalse();
+    assertThat(reclaimer.getReclaimedCount()).isEqualTo(1);
+    assertThat(reclaimer.getTrackedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void givenPresenterNotIdleYet_whenReclaiming_ShouldKeepItsView() throws Exception {
+    reclaimer.setMaxIdleMillis(100);
+    TestPresenter presenter = reveal();
+    presenter.deactivate();
+
+    time = 50;
+
+    assertThat(reclaimer.reclaim()).isEqualTo(0);
+    assertThat(presenter.getView().isInitialized()).isTrue();
+    assertThat(reclaimer.getTrackedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenActivePresenter_whenReclaiming_ShouldKeepItsView() throws Exception {
+    reclaimer.setMaxIdleMillis(100);
+    TestPresenter presenter = reveal();
+
+    time = 150;
+
+    assertThat(reclaimer.reclaim()).isEqualTo(0);
+    assertThat(presenter.getView().isInitialized()).isTrue();
+    assertThat(reclaimer.getTrackedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenRetainedBudget_whenMoreInactivePresentersRevealed_ShouldReleaseOldest()
+      throws Exception {
+    reclaimer.setMaxRetained(1);
+    TestPresenter first = reveal();
+    first.deactivate();
+    time = 10;
+    TestPresenter second = reveal();
+    second.deactivate();
+    time = 20;
+
+    reveal();
+
+    assertThat(first.getView().isInitialized()).isFalse();
+    assertThat(second.getView().isInitialized()).isTrue();
+    assertThat(reclaimer.getReclaimedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenReclaimedPresenter_whenRevealedAgain_ShouldCreateNewContent() throws Exception {
+    reclaimer.setMaxIdleMillis(100);
+    TestPresenter presenter = reveal();
+    TestView view = presenter.getView();
+    presenter.deactivate();
+    time = 150;
+    reclaimer.reclaim();
+
+    int[] created = new int[1];
+    view.getContent(() -> created[0]++);
+
+    assertThat(view.inits).isEqualTo(2);
+    assertThat(created[0]).isEqualTo(1);
+    assertThat(view.isInitialized()).isTrue();
+  }
+
+  @Test
+  public void givenSingletonView_whenReclaimed_ShouldKeepItsContentAndNotInitAgain()
+      throws Exception {
+    singletonViews = true;
+    reclaimer.setMaxIdleMillis(100);
+    TestPresenter presenter = reveal();
+    TestView view = presenter.getView();
+    Object root = view.getContent().get();
+    presenter.deactivate();
+    time = 150;
+
+    assertThat(reclaimer.reclaim()).isEqualTo(0);
+
+    int[] created = new int[1];
+    Object revealedRoot = view.getContent(() -> created[0]++).get();
+
+    assertThat(revealedRoot).isSameAs(root);
+    assertThat(view.inits).isEqualTo(1);
+    assertThat(created[0]).isEqualTo(0);
+    assertThat(reclaimer.getReclaimedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void givenNoBudget_whenPresenterRevealed_ShouldNotTrackIt() throws Exception {
+    reveal();
+
+    assertThat(reclaimer.isEnabled()).isFalse();
+    assertThat(reclaimer.getTrackedCount()).isEqualTo(0);
+  }
+
+  /** Creates the view content the way the slots manager does and reports the reveal. */
+  private TestPresenter reveal() {
+    TestPresenter presenter = supplier.get();
+    presenter.getView().getContent(null);
+    presenter.activated = true;
+    reclaimer.onRevealed(presenter);
+    return presenter;
+  }
+
+  private static class TestPresenter extends ViewablePresenter<TestView> {
+    private TestView getView() {
+      return view;
+    }
+
+    private void deactivate() {
+      activated = false;
+    }
+  }
+
+  private static class TestView extends BaseDominoView<Object> {
+    private final boolean singleton;
+    private int inits;
+
+    private TestView(boolean singleton) {
+      this.singleton = singleton;
+    }
+
+    @Override
+    public boolean isSingleton() {
+      return singleton;
+    }
+
+    @Override
+    protected Object init() {
+      inits++;
+      return new Object();
+    }
+
+    @Override
+    protected void initRoot(Object root) {}
+  }
+}
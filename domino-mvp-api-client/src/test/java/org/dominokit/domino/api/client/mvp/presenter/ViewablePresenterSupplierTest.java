@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.mvp.presenter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.dominokit.domino.api.client.mvp.view.DominoView;
+import org.dominokit.domino.api.client.mvp.view.ResettableView;
+import org.dominokit.domino.api.shared.extension.Content;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ViewablePresenterSupplierTest {
+
+  private ViewablePresenterSupplier<TestPresenter, TestView> supplier;
+  private int createdViews;
+  private boolean resettableViews;
+
+  @Before
+  public void setUp() throws Exception {
+    createdViews = 0;
+    resettableViews = false;
+    supplier = new ViewablePresenterSupplier<>(false, TestPresenter::new);
+    supplier.setViewSupplier(this::createView);
+  }
+
+  @Test
+  public void givenNoPoolSize_whenPresenterReleased_ShouldCreateNewPresenter() throws Exception {
+    TestPresenter first = supplier.get();
+    first.remove();
+
+    assertThat(supplier.get()).isNotSameAs(first);
+    assertThat(supplier.getPooledCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void givenPoolSize_whenPresenterReleased_ShouldReuseItForNextRequest() throws Exception {
+    supplier.setPoolSize(2);
+    TestPresenter first = supplier.get();
+    first.remove();
+
+    assertThat(supplier.getPooledCount()).isEqualTo(1);
+    assertThat(supplier.get()).isSameAs(first);
+    assertThat(supplier.getPooledCount()).isEqualTo(0);
+    assertThat(supplier.getPoolHits()).isEqualTo(1);
+    assertThat(supplier.getPoolMisses()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenFullPool_whenPresenterReleased_ShouldNotKeepIt() throws Exception {
+    supplier.setPoolSize(1);
+    TestPresenter first = supplier.get();
+    TestPresenter second = supplier.get();
+    first.remove();
+    second.remove();
+
+    assertThat(supplier.getPooledCount()).isEqualTo(1);
+    assertThat(supplier.get()).isSameAs(first);
+  }
+
+  @Test
+  public void givenPooledPresenter_whenReused_ShouldResetWithoutCallingPostConstructAgain()
+      throws Exception {
+    supplier.setPoolSize(1);
+    TestPresenter presenter = supplier.get();
+    presenter.remove();
+
+    supplier.get();
+
+    assertThat(presenter.resets).isEqualTo(1);
+    assertThat(presenter.postConstructs).isEqualTo(1);
+  }
+
+  @Test
+  public void givenResettableView_whenPresenterReused_ShouldResetAndKeepTheView() throws Exception {
+    resettableViews = true;
+    supplier.setPoolSize(1);
+    TestPresenter presenter = supplier.get();
+    TestView view = presenter.getView();
+    presenter.remove();
+
+    supplier.get();
+
+    assertThat(presenter.getView()).isSameAs(view);
+    assertThat(view.resets).isEqualTo(1);
+    assertThat(createdViews).isEqualTo(1);
+  }
+
+  @Test
+  public void givenNonResettableView_whenPresenterReused_ShouldCreateNewView() throws Exception {
+    supplier.setPoolSize(1);
+    TestPresenter presenter = supplier.get();
+    TestView view = presenter.getView();
+    presenter.remove();
+
+    supplier.get();
+
+    assertThat(presenter.getView()).isNotSameAs(view);
+    assertThat(createdViews).isEqualTo(2);
+  }
+
+  @Test
+  public void givenPooledPresenter_whenPrefetching_ShouldPrefetchThePooledPresenter()
+      throws Exception {
+    resettableViews = true;
+    supplier.setPoolSize(1);
+    TestPresenter presenter = supplier.get();
+    presenter.remove();
+
+    assertThat(supplier.prefetch()).isTrue();
+
+    assertThat(supplier.getPooledCount()).isEqualTo(0);
+    assertThat(supplier.get()).isSameAs(presenter);
+    assertThat(createdViews).isEqualTo(1);
+  }
+
+  @Test
+  public void givenPrefetchedPresenter_whenReleased_ShouldReturnToThePool() throws Exception {
+    supplier.setPoolSize(1);
+    supplier.prefetch();
+    TestPresenter presenter = supplier.get();
+
+    presenter.remove();
+
+    assertThat(supplier.getPooledCount()).isEqualTo(1);
+    assertThat(supplier.get()).isSameAs(presenter);
+  }
+
+  @Test
+  public void givenPrefetchedPooledPresenter_whenDiscarded_ShouldReturnToThePool()
+      throws Exception {
+    supplier.setPoolSize(1);
+    TestPresenter presenter = supplier.get();
+    presenter.remove();
+    supplier.prefetch();
+
+    supplier.discardPrefetched();
+
+    assertThat(supplier.isPrefetched()).isFalse();
+    assertThat(supplier.getPooledCount()).isEqualTo(1);
+    assertThat(supplier.get()).isSameAs(presenter);
+  }
+
+  private TestView createView() {
+    createdViews++;
+    return resettableViews ? new TestResettableView() : new TestView();
+  }
+
+  private static class TestPresenter extends ViewablePresenter<TestView> {
+    private int postConstructs;
+    private int resets;
+
+    @Override
+    protected void postConstruct() {
+      postConstructs++;
+    }
+
+    @Override
+    protected void onReset() {
+      resets++;
+    }
+
+    private TestView getView() {
+      return view;
+    }
+
+    private void remove() {
+      view.removeHandler.onRemoved();
+    }
+  }
+
+  private static class TestView implements DominoView<Object> {
+    private RemovedHandler removeHandler;
+    private int resets;
+
+    @Override
+    public boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public void setInitialized(boolean initialized) {}
+
+    @Override
+    public boolean isSingleton() {
+      return false;
+    }
+
+    @Override
+    public void clear() {}
+
+    @Override
+    public Content getContent() {
+      return null;
+    }
+
+    @Override
+    public void setRemoveHandler(RemovedHandler removeHandler) {
+      this.removeHandler = removeHandler;
+    }
+  }
+
+  private static class TestResettableView extends TestView implements ResettableView {
+    @Override
+    public void reset() {
+      super.resets++;
+    }
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.mvp.slots;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.api.client.mvp.view.HasContent;
+import org.dominokit.domino.api.shared.extension.Content;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BatchingSlotsManagerTest {
+
+  private static final HasContent.CreateHandler NO_HANDLER = null;
+
+  private List<String> applied;
+  private List<Runnable> scheduled;
+  private BatchingSlotsManager slotsManager;
+  private IsSlot<?> slot;
+
+  @Before
+  public void setUp() throws Exception {
+    applied = new ArrayList<>();
+    scheduled = new ArrayList<>();
+    slotsManager = new BatchingSlotsManager(new RecordingSlotsManager(), scheduled::add);
+    slot = view -> {};
+  }
+
+  @Test
+  public void givenOperations_whenRequested_ShouldWaitForTheFlush() throws Exception {
+    slotsManager.registerSlot("content", slot);
+    slotsManager.revealView("content", view("home"), NO_HANDLER);
+
+    assertThat(applied).isEmpty();
+    assertThat(scheduled).hasSize(1);
+    assertThat(slotsManager.getPendingCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void givenOperations_whenFlushed_ShouldApplyThemInRequestOrder() throws Exception {
+    slotsManager.registerSlot("content", slot);
+    slotsManager.revealView("content", view("home"), () -> {});
+    slotsManager.removeSlot("menu");
+    slotsManager.revealView("header", view("title"), NO_HANDLER);
+
+    flush();
+
+    assertThat(applied)
+        .containsExactly(
+            "register content", "reveal content home", "remove menu", "reveal header title");
+    assertThat(slotsManager.getPendingCount()).isEqualTo(0);
+    assertThat(slotsManager.getAppliedCount()).isEqualTo(4);
+    assertThat(slotsManager.getFlushCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenFlushedBatch_whenNewOperationRequested_ShouldScheduleAnotherFlush()
+      throws Exception {
+    slotsManager.revealView("content", view("home"), NO_HANDLER);
+    flush();
+
+    slotsManager.revealView("content", view("about"), NO_HANDLER);
+
+    assertThat(scheduled).hasSize(1);
+    flush();
+    assertThat(applied).containsExactly("reveal content home", "reveal content about");
+    assertThat(slotsManager.getFlushCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void givenRevealWithoutHandler_whenOverwrittenInSameSlot_ShouldBeDropped()
+      throws Exception {
+    slotsManager.revealView("content", view("home"), NO_HANDLER);
+    slotsManager.revealView("Content", view("about"), NO_HANDLER);
+
+    flush();
+
+    assertThat(applied).containsExactly("reveal Content about");
+    assertThat(slotsManager.getDeduplicatedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenRevealWithoutHandler_whenOtherSlotRevealedInBetween_ShouldNotBeDropped()
+      throws Exception {
+    slotsManager.revealView("content", view("home"), NO_HANDLER);
+    slotsManager.revealView("header", view("title"), NO_HANDLER);
+    slotsManager.revealView("content", view("about"), NO_HANDLER);
+
+    flush();
+
+    assertThat(applied)
+        .containsExactly("reveal content home", "reveal header title", "reveal content about");
+    assertThat(slotsManager.getDeduplicatedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void givenRevealWithoutHandler_whenSameViewRevealedAgainLater_ShouldDropTheFirstReveal()
+      throws Exception {
+    HasContent home = view("home");
+    slotsManager.revealView("content", home, NO_HANDLER);
+    slotsManager.registerSlot("menu", slot);
+    slotsManager.revealView("content", home, NO_HANDLER);
+
+    flush();
+
+    assertThat(applied).containsExactly("register menu", "reveal content home");
+    assertThat(slotsManager.getDeduplicatedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenRevealWithHandler_whenOverwrittenInSameSlot_ShouldRunHandlerWithoutAttaching()
+      throws Exception {
+    List<String> created = new ArrayList<>();
+    slotsManager.revealView("content", view("home"), () -> created.add("home"));
+    slotsManager.revealView("content", view("about"), () -> created.add("about"));
+
+    flush();
+
+    assertThat(applied).containsExactly("create home", "reveal content about");
+    assertThat(created).containsExactly("home", "about");
+    assertThat(slotsManager.getAppliedCount()).isEqualTo(2);
+    assertThat(slotsManager.getDeduplicatedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenRevealWithHandler_whenSameViewRevealedAgainLater_ShouldDropTheFirstReveal()
+      throws Exception {
+    HasContent home = view("home");
+    slotsManager.revealView("content", home, () -> {});
+    slotsManager.revealView("content", view("about"), () -> {});
+    slotsManager.revealView("content", home, () -> {});
+
+    flush();
+
+    assertThat(applied).containsExactly("create about", "reveal content home");
+    assertThat(slotsManager.getDeduplicatedCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void givenCreateHandlerRegisteringSlots_whenFlushed_ShouldApplyThemImmediately()
+      throws Exception {
+    slotsManager.revealView(
+        "content",
+        view("shell"),
+        () -> {
+          slotsManager.registerSlot("menu", slot);
+          slotsManager.revealView("menu", view("items"), NO_HANDLER);
+        });
+    slotsManager.revealView("header", view("title"), NO_HANDLER);
+
+    flush();
+
+    assertThat(applied)
+        .containsExactly(
+            "reveal content shell", "register menu", "reveal menu items", "reveal header title");
+    assertThat(slotsManager.getPendingCount()).isEqualTo(0);
+    assertThat(scheduled).isEmpty();
+  }
+
+  @Test
+  public void givenFailingOperation_whenFlushed_ShouldApplyTheOtherOperations() throws Exception {
+    slotsManager.revealView("broken", view("home"), NO_HANDLER);
+    slotsManager.revealView("content", view("about"), NO_HANDLER);
+
+    flush();
+
+    assertThat(applied).containsExactly("reveal content about");
+    assertThat(slotsManager.getAppliedCount()).isEqualTo(1);
+    assertThat(slotsManager.getFlushCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenFailingReveal_whenFlushed_ShouldPassTheErrorToTheFailedHandler()
+      throws Exception {
+    List<RuntimeException> errors = new ArrayList<>();
+    slotsManager.revealView("broken", view("home"), () -> {}, errors::add);
+    slotsManager.revealView("content", view("about"), NO_HANDLER);
+
+    assertThat(errors).isEmpty();
+    flush();
+
+    assertThat(errors).hasSize(1);
+    assertThat(errors.get(0)).hasMessageContaining("broken");
+    assertThat(applied).containsExactly("reveal content about");
+  }
+
+  @Test
+  public void givenFailingNestedReveal_whenFlushed_ShouldPassTheErrorToTheFailedHandler()
+      throws Exception {
+    List<RuntimeException> errors = new ArrayList<>();
+    slotsManager.revealView(
+        "content",
+        view("shell"),
+        () -> slotsManager.revealView("broken", view("items"), NO_HANDLER, errors::add));
+
+    flush();
+
+    assertThat(errors).hasSize(1);
+    assertThat(applied).containsExactly("reveal content shell");
+  }
+
+  private void flush() {
+    List<Runnable> current = new ArrayList<>(scheduled);
+    scheduled.clear();
+    current.forEach(Runnable::run);
+  }
+
+  private HasContent view(String name) {
+    return new HasContent() {
+      @Override
+      public Content getContent() {
+        return null;
+      }
+
+      @Override
+      public Content getContent(CreateHandler createHandler) {
+        applied.add("create " + name);
+        if (createHandler != null) {
+          createHandler.onCreated();
+        }
+        return null;
+      }
+
+      @Override
+      public String toString() {
+        return name;
+      }
+    };
+  }
+
+  private class RecordingSlotsManager implements SlotsManager {
+    @Override
+    public void registerSlot(String key, IsSlot<?> slot) {
+      applied.add("register " + key);
+    }
+
+    @Override
+    public void removeSlot(String key) {
+      applied.add("remove " + key);
+    }
+
+    @Override
+    public void revealView(
+        String slotKey, HasContent view, HasContent.CreateHandler createHandler) {
+      if ("broken".equals(slotKey)) {
+        throw new IllegalStateException("Slot not found : " + slotKey);
+      }
+      applied.add("reveal " + slotKey + " " + view);
+      if (createHandler != null) {
+        createHandler.onCreated();
+      }
+    }
+  }
+}
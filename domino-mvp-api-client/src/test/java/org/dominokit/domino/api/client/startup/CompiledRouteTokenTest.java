@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class CompiledRouteTokenTest {
+
+  private static final String[] NO_SEGMENTS = new String[0];
+
+  @Test
+  public void givenLiteralRoute_whenTokenIsEqual_ShouldMatchPath() throws Exception {
+    CompiledRouteToken route = route(new String[] {"users", "list"}, NO_SEGMENTS);
+
+    CompiledRouteToken.Match match = route.match("users/list");
+
+    assertThat(match.isPathMatched()).isTrue();
+    assertThat(match.isFragmentMatched()).isTrue();
+  }
+
+  @Test
+  public void givenLiteralRoute_whenSegmentDiffers_ShouldNotMatchPath() throws Exception {
+    CompiledRouteToken route = route(new String[] {"users", "list"}, NO_SEGMENTS);
+
+    assertThat(route.match("users/edit").isPathMatched()).isFalse();
+    assertThat(route.match("orders/list").isPathMatched()).isFalse();
+  }
+
+  @Test
+  public void givenRoute_whenTokenHasDifferentSegmentsCount_ShouldNotMatchPath() throws Exception {
+    CompiledRouteToken route = route(new String[] {"users", null}, NO_SEGMENTS);
+
+    assertThat(route.match("users").isPathMatched()).isFalse();
+    assertThat(route.match("users/10/details").isPathMatched()).isFalse();
+    assertThat(route.match("app/users/10").isPathMatched()).isFalse();
+  }
+
+  @Test
+  public void givenParameterRoute_whenMatched_ShouldReadParameterByIndex() throws Exception {
+    CompiledRouteToken route = route(new String[] {"users", null, "details"}, NO_SEGMENTS);
+
+    CompiledRouteToken.Match match = route.match("users/10/details");
+
+    assertThat(match.isPathMatched()).isTrue();
+    assertThat(match.pathSegment(1)).isEqualTo("10");
+  }
+
+  @Test
+  public void givenToken_whenItHasEmptySegments_ShouldIgnoreThem() throws Exception {
+    CompiledRouteToken route = route(new String[] {"users", null}, NO_SEGMENTS);
+
+    CompiledRouteToken.Match match = route.match("/users//10/");
+
+    assertThat(match.isPathMatched()).isTrue();
+    assertThat(match.pathSegment(1)).isEqualTo("10");
+  }
+
+  @Test
+  public void givenTokenWithQuery_whenMatching_ShouldIgnoreTheQuery() throws Exception {
+    CompiledRouteToken route = route(new String[] {"users", null}, NO_SEGMENTS);
+
+    CompiledRouteToken.Match match = route.match("users/10?tab=details/all");
+
+    assertThat(match.isPathMatched()).isTrue();
+    assertThat(match.pathSegment(1)).isEqualTo("10");
+    assertThat(match.isFragmentMatched()).isTrue();
+  }
+
+  @Test
+  public void givenFragmentRoute_whenMatched_ShouldReadFragmentParameterByIndex() throws Exception {
+    CompiledRouteToken route = route(new String[] {"users"}, new String[] {"tab", null});
+
+    CompiledRouteToken.Match match = route.match("users?page=2#tab/details");
+
+    assertThat(match.isPathMatched()).isTrue();
+    assertThat(match.isFragmentMatched()).isTrue();
+    assertThat(match.fragmentSegment(1)).isEqualTo("details");
+  }
+
+  @Test
+  public void givenFragmentRoute_whenTokenHasNoFragment_ShouldNotMatchFragment() throws Exception {
+    CompiledRouteToken route = route(new String[] {"users"}, new String[] {null});
+
+    CompiledRouteToken.Match match = route.match("users");
+
+    assertThat(match.isPathMatched()).isTrue();
+    assertThat(match.isFragmentMatched()).isFalse();
+  }
+
+  @Test
+  public void givenRouteWithoutFragment_whenTokenHasFragment_ShouldNotMatchFragment()
+      throws Exception {
+    CompiledRouteToken route = route(new String[] {"users"}, NO_SEGMENTS);
+
+    CompiledRouteToken.Match match = route.match("users#details");
+
+    assertThat(match.isPathMatched()).isTrue();
+    assertThat(match.isFragmentMatched()).isFalse();
+  }
+
+  @Test
+  public void givenEncodedSegment_whenMatched_ShouldReturnTheRawSegment() throws Exception {
+    CompiledRouteToken route = route(new String[] {"users", null}, new String[] {null});
+
+    CompiledRouteToken.Match match = route.match("users/john%20doe#tab%3Dall");
+
+    assertThat(match.isPathMatched()).isTrue();
+    assertThat(match.pathSegment(1)).isEqualTo("john%20doe");
+    assertThat(match.fragmentSegment(0)).isEqualTo("tab%3Dall");
+  }
+
+  @Test
+  public void givenEncodedSlash_whenMatching_ShouldNotSplitTheSegment() throws Exception {
+    CompiledRouteToken route = route(new String[] {"files", null}, NO_SEGMENTS);
+
+    CompiledRouteToken.Match match = route.match("files/docs%2Freadme.md");
+
+    assertThat(match.isPathMatched()).isTrue();
+    assertThat(match.pathSegment(1)).isEqualTo("docs%2Freadme.md");
+  }
+
+  @Test
+  public void givenEncodedLiteral_whenRouteLiteralIsDecoded_ShouldNotMatchPath() throws Exception {
+    CompiledRouteToken route = route(new String[] {"john doe", null}, NO_SEGMENTS);
+
+    assertThat(route.match("john%20doe/10").isPathMatched()).isFalse();
+  }
+
+  private static CompiledRouteToken route(String[] path, String[] fragment) {
+    return new CompiledRouteToken(path, fragment);
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.api.client.ApplicationStartHandler;
+import org.dominokit.domino.api.client.HasDominoOptions;
+import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.dominokit.domino.history.DominoHistory;
+import org.dominokit.domino.history.NormalizedToken;
+import org.dominokit.domino.history.TokenFilter;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NavigationCoalescerTest {
+
+  private List<AsyncRunner.AsyncTask> tasks;
+  private List<Double> delays;
+  private double window;
+  private NavigationCoalescer coalescer;
+  private List<DominoHistory.State> received;
+
+  @Before
+  public void setUp() throws Exception {
+    tasks = new ArrayList<>();
+    delays = new ArrayList<>();
+    window = 0;
+    received = new ArrayList<>();
+    coalescer = new NavigationCoalescer(new ManualAsyncRunner(), new TestOptions());
+  }
+
+  @Test
+  public void givenDisabledCoalescing_whenStateArrives_ShouldDispatchItImmediately()
+      throws Exception {
+    window = -1;
+    DominoHistory.StateListener listener = coalescer.listener(received::add);
+    TestState state = new TestState("users");
+
+    listener.onPopState(state);
+
+    assertThat(coalescer.isEnabled()).isFalse();
+    assertThat(tasks).isEmpty();
+    assertThat(received).containsExactly(state);
+  }
+
+  @Test
+  public void givenEnabledCoalescing_whenStateArrives_ShouldDispatchItOnNextTick()
+      throws Exception {
+    DominoHistory.StateListener listener = coalescer.listener(received::add);
+
+    listener.onPopState(new TestState("users"));
+
+    assertThat(received).isEmpty();
+    assertThat(tasks).hasSize(1);
+    assertThat(delays).isEmpty();
+
+    tick();
+
+    assertThat(received).hasSize(1);
+    assertThat(received.get(0).token().value()).isEqualTo("users");
+  }
+
+  @Test
+  public void givenCoalescingWindow_whenStateArrives_ShouldDispatchItAfterTheWindow()
+      throws Exception {
+    window = 50;
+    DominoHistory.StateListener listener = coalescer.listener(received::add);
+
+    listener.onPopState(new TestState("users"));
+
+    assertThat(delays).containsExactly(50D);
+  }
+
+  @Test
+  public void givenSeveralStatesBeforeTick_whenFlushed_ShouldOnlyDispatchTheLatestState()
+      throws Exception {
+    DominoHistory.StateListener listener = coalescer.listener(received::add);
+
+    listener.onPopState(new TestState("users"));
+    listener.onPopState(new TestState("orders"));
+    listener.onPopState(new TestState("products"));
+
+    assertThat(tasks).hasSize(1);
+
+    tick();
+
+    assertThat(received).hasSize(1);
+    assertThat(received.get(0).token().value()).isEqualTo("products");
+    assertThat(coalescer.getCoalescedCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void givenSameStateForSeveralListeners_whenFlushed_ShouldDispatchToAllOfThem()
+      throws Exception {
+    List<DominoHistory.State> otherReceived = new ArrayList<>();
+    DominoHistory.StateListener first = coalescer.listener(received::add);
+    DominoHistory.StateListener second = coalescer.listener(otherReceived::add);
+    TestState state = new TestState("users");
+    NormalizedToken firstToken = TokenFilter.any().normalizeToken("", "users");
+    NormalizedToken secondToken = TokenFilter.any().normalizeToken("", "users");
+
+    state.setNormalizedToken(firstToken);
+    first.onPopState(state);
+    state.setNormalizedToken(secondToken);
+    second.onPopState(state);
+    tick();
+
+    assertThat(received).hasSize(1);
+    assertThat(otherReceived).hasSize(1);
+    assertThat(received.get(0).normalizedToken()).isSameAs(firstToken);
+    assertThat(otherReceived.get(0).normalizedToken()).isSameAs(secondToken);
+    assertThat(coalescer.getCoalescedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void givenDispatchedState_whenNewerStateArrives_ShouldBeSuperseded() throws Exception {
+    DominoHistory.StateListener listener = coalescer.listener(received::add);
+
+    listener.onPopState(new TestState("users"));
+    tick();
+    DominoHistory.State dispatched = received.get(0);
+
+    assertThat(coalescer.cancelIfSuperseded(dispatched)).isFalse();
+
+    listener.onPopState(new TestState("orders"));
+
+    assertThat(coalescer.cancelIfSuperseded(dispatched)).isTrue();
+    assertThat(coalescer.getCancelledCount()).isEqualTo(1);
+
+    tick();
+
+    assertThat(coalescer.cancelIfSuperseded(received.get(1))).isFalse();
+    assertThat(coalescer.getCancelledCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenStateNotRoutedByCoalescer_whenChecked_ShouldNotBeSuperseded() throws Exception {
+    DominoHistory.StateListener listener = coalescer.listener(received::add);
+    listener.onPopState(new TestState("users"));
+
+    assertThat(coalescer.cancelIfSuperseded(new TestState("orders"))).isFalse();
+    assertThat(coalescer.getCancelledCount()).isEqualTo(0);
+  }
+
+  private void tick() {
+    List<AsyncRunner.AsyncTask> current = new ArrayList<>(tasks);
+    tasks.clear();
+    current.forEach(AsyncRunner.AsyncTask::onSuccess);
+  }
+
+  private class ManualAsyncRunner implements AsyncRunner {
+    @Override
+    public void runAsync(AsyncTask asyncTask) {
+      tasks.add(asyncTask);
+    }
+
+    @Override
+    public void runDelayed(double delayMillis, AsyncTask asyncTask) {
+      delays.add(delayMillis);
+      tasks.add(asyncTask);
+    }
+  }
+
+  private class TestOptions implements HasDominoOptions {
+    @Override
+    public ApplicationStartHandler getApplicationStartHandler() {
+      return null;
+    }
+
+    @Override
+    public boolean isMainApp() {
+      return true;
+    }
+
+    @Override
+    public double getNavigationCoalescingWindow() {
+      return window;
+    }
+  }
+}
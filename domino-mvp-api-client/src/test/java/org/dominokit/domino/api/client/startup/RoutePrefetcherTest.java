@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.api.client.ApplicationStartHandler;
+import org.dominokit.domino.api.client.HasDominoOptions;
+import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.dominokit.domino.api.client.mvp.presenter.Presentable;
+import org.dominokit.domino.api.client.request.PresenterCommand;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RoutePrefetcherTest {
+
+  private static final String HOME = HomePresenter.class.getName();
+  private static final String PARENT = ParentPresenter.class.getName();
+  private static final String CHILD = ChildPresenter.class.getName();
+
+  private List<AsyncRunner.AsyncTask> tasks;
+  private List<String> prefetched;
+  private List<String> discarded;
+  private boolean enabled;
+  private RoutePrefetcher prefetcher;
+
+  @Before
+  public void setUp() throws Exception {
+    tasks = new ArrayList<>();
+    prefetched = new ArrayList<>();
+    discarded = new ArrayList<>();
+    enabled = true;
+    prefetcher = new RoutePrefetcher(tasks::add, new TestOptions());
+    register(HOME);
+    register(PARENT);
+    register(CHILD);
+  }
+
+  @Test
+  public void givenDisabledPrefetching_whenRouted_ShouldNotScheduleAnything() throws Exception {
+    enabled = false;
+    prefetcher.hint(HomePresenter.class, ChildPresenter.class);
+
+    prefetcher.onRouted(new TestState("home"), HOME);
+
+    assertThat(tasks).isEmpty();
+  }
+
+  @Test
+  public void givenHint_whenNavigationSettles_ShouldPrefetchHintedRoute() throws Exception {
+    prefetcher.hint(HomePresenter.class, ChildPresenter.class);
+
+    prefetcher.onRouted(new TestState("home"), HOME);
+    runTasks();
+
+    assertThat(prefetched).containsExactly(CHILD);
+    assertThat(prefetcher.getPrefetchedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenSeveralRoutesOfSameState_whenRouted_ShouldSettleOnce() throws Exception {
+    TestState state = new TestState("parent/child");
+
+    prefetcher.onRouted(state, PARENT);
+    prefetcher.onRouted(state, CHILD);
+
+    assertThat(tasks).hasSize(1);
+  }
+
+  @Test
+  public void givenParentAndChildRoutedForSameState_whenNavigating_ShouldOnlyLearnChildTransitions()
+      throws Exception {
+    navigate("home", HOME);
+    navigate("parent/child", PARENT, CHILD);
+    navigate("home", HOME);
+    navigate("parent", PARENT);
+
+    assertThat(prefetcher.predict(HOME)).containsExactly(CHILD);
+    assertThat(prefetcher.predict(CHILD)).containsExactly(HOME);
+    assertThat(prefetcher.predict(PARENT)).isEmpty();
+  }
+
+  @Test
+  public void givenPrefetchedChild_whenParentIsRoutedFirst_ShouldKeepChildUntilRouted()
+      throws Exception {
+    prefetcher.hint(HomePresenter.class, ChildPresenter.class);
+    navigate("home", HOME);
+    assertThat(prefetched).containsExactly(CHILD);
+
+    TestState state = new TestState("parent/child");
+    prefetcher.onRouted(state, PARENT);
+    prefetcher.onRouted(state, CHILD);
+    runTasks();
+
+    assertThat(prefetcher.getHits()).isEqualTo(1);
+    assertThat(discarded).isEmpty();
+  }
+
+  @Test
+  public void givenUnusedPrefetchedRoute_whenNavigationDoesNotPredictIt_ShouldDiscardIt()
+      throws Exception {
+    prefetcher.hint(HomePresenter.class, ChildPresenter.class);
+    navigate("home", HOME);
+
+    navigate("parent", PARENT);
+
+    assertThat(discarded).containsExactly(CHILD);
+    assertThat(prefetcher.getDiscarded()).isEqualTo(1);
+    assertThat(prefetcher.getPrefetchedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void givenPendingPrefetch_whenNewNavigationStarts_ShouldCancelIt() throws Exception {
+    prefetcher.hint(HomePresenter.class, ChildPresenter.class);
+    prefetcher.onRouted(new TestState("home"), HOME);
+    runTasks(1);
+
+    prefetcher.onRouted(new TestState("parent"), PARENT);
+    runTasks();
+
+    assertThat(prefetched).isEmpty();
+    assertThat(prefetcher.getCancelled()).isEqualTo(1);
+  }
+
+  private void navigate(String token, String... routes) {
+    TestState state = new TestState(token);
+    for (String route : routes) {
+      prefetcher.onRouted(state, route);
+    }
+    runTasks();
+  }
+
+  private void runTasks() {
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).onSuccess();
+    }
+  }
+
+  private void runTasks(int count) {
+    for (int i = 0; i < count; i++) {
+      tasks.remove(0).onSuccess();
+    }
+  }
+
+  private void register(String route) {
+    prefetcher.register(route, () -> new TestCommand(route));
+  }
+
+  private static class HomePresenter {}
+
+  private static class ParentPresenter {}
+
+  private static class ChildPresenter {}
+
+  private class TestCommand extends PresenterCommand<Presentable> {
+    private final String route;
+
+    private TestCommand(String route) {
+      this.route = route;
+    }
+
+    @Override
+    public boolean prefetch() {
+      prefetched.add(route);
+      return true;
+    }
+
+    @Override
+    public void discardPrefetched() {
+      discarded.add(route);
+    }
+  }
+
+  private class TestOptions implements HasDominoOptions {
+    @Override
+    public ApplicationStartHandler getApplicationStartHandler() {
+      return null;
+    }
+
+    @Override
+    public boolean isMainApp() {
+      return true;
+    }
+
+    @Override
+    public boolean isRoutePrefetchEnabled() {
+      return enabled;
+    }
+  }
+}
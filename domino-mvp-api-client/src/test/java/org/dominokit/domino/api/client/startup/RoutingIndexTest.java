@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.api.client.mvp.RegistrationHandler;
+import org.dominokit.domino.history.DominoHistory;
+import org.dominokit.domino.history.TokenFilter;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RoutingIndexTest {
+
+  private RoutingIndex routingIndex;
+  private List<String> dispatched;
+
+  @Before
+  public void setUp() throws Exception {
+    routingIndex = new RoutingIndex(null);
+    dispatched = new ArrayList<>();
+  }
+
+  @Test
+  public void givenRoute_whenTokenEndsWithRoute_ShouldDispatchState() throws Exception {
+    register("users/list", TokenFilter.endsWithPathFilter("users/list"), "list");
+
+    dispatch("app/users/list");
+    dispatch("users/list");
+    dispatch("users/details");
+    dispatch("list");
+
+    assertThat(dispatched).containsExactly("list", "list");
+  }
+
+  @Test
+  public void givenRoute_whenTokenHasQueryAndFragment_ShouldMatchThePathOnly() throws Exception {
+    register("users/list", TokenFilter.any(), "list");
+
+    dispatch("users/list?page=2#top");
+    dispatch("users?next=users/list");
+
+    assertThat(dispatched).containsExactly("list");
+  }
+
+  @Test
+  public void givenColonParameter_whenMatchingToken_ShouldMatchAnySegment() throws Exception {
+    register("users/:id", TokenFilter.any(), "user");
+
+    dispatch("users/10");
+    dispatch("users/john");
+    dispatch("orders/10");
+    dispatch("users");
+
+    assertThat(dispatched).containsExactly("user", "user");
+  }
+
+  @Test
+  public void givenBracesParameter_whenMatchingToken_ShouldMatchAnySegment() throws Exception {
+    register("users/{id}/details", TokenFilter.any(), "details");
+
+    dispatch("users/10/details");
+    dispatch("users/10/edit");
+    dispatch("orders/10/details");
+
+    assertThat(dispatched).containsExactly("details");
+  }
+
+  @Test
+  public void givenParameterAndLiteralRoutes_whenBothMatch_ShouldDispatchBoth() throws Exception {
+    register("users/:id", TokenFilter.any(), "parameter");
+    register("users/new", TokenFilter.any(), "literal");
+
+    dispatch("users/new");
+    dispatch("users/10");
+
+    assertThat(dispatched).containsExactly("parameter", "literal", "parameter");
+  }
+
+  @Test
+  public void givenWildcardRoute_whenMatchingToken_ShouldMatchAnyPrefix() throws Exception {
+    register("*/details", TokenFilter.any(), "details");
+
+    dispatch("details");
+    dispatch("users/10/details");
+    dispatch("users/10");
+
+    assertThat(dispatched).containsExactly("details", "details");
+  }
+
+  @Test
+  public void givenRouteWithoutToken_whenDispatching_ShouldEvaluateItsFilterForEveryState()
+      throws Exception {
+    register(null, TokenFilter.startsWithPathFilter("users"), "users");
+
+    assertThat(routingIndex.match("orders")).hasSize(1);
+
+    dispatch("users/10");
+    dispatch("orders/10");
+
+    assertThat(dispatched).containsExactly("users");
+  }
+
+  @Test
+  public void givenCandidateRoute_whenFilterDoesNotMatch_ShouldNotDispatchState() throws Exception {
+    register("list", TokenFilter.endsWithPathFilter("users/list"), "users");
+
+    assertThat(routingIndex.match("orders/list")).hasSize(1);
+
+    dispatch("orders/list");
+
+    assertThat(dispatched).isEmpty();
+  }
+
+  @Test
+  public void givenSeveralMatchingRoutes_whenDispatching_ShouldKeepRegistrationOrder()
+      throws Exception {
+    register("users/list", TokenFilter.any(), "first");
+    register(null, TokenFilter.any(), "second");
+    register("list", TokenFilter.any(), "third");
+    register("users/:id", TokenFilter.any(), "fourth");
+
+    dispatch("users/list");
+
+    assertThat(dispatched).containsExactly("first", "second", "third", "fourth");
+  }
+
+  @Test
+  public void givenMatchingRoute_whenDispatching_ShouldNormalizeStateToken() throws Exception {
+    register("users/list", TokenFilter.any(), "list");
+    TestState state = new TestState("users/list");
+
+    routingIndex.dispatch(state);
+
+    assertThat(state.normalizedToken()).isNotNull();
+  }
+
+  @Test
+  public void givenFailingListener_whenDispatching_ShouldDispatchToOtherRoutes() throws Exception {
+    routingIndex.register(
+        "users",
+        TokenFilter.any(),
+        state -> {
+          throw new IllegalStateException("failed");
+        },
+        false);
+    register("users", TokenFilter.any(), "users");
+
+    dispatch("users");
+
+    assertThat(dispatched).containsExactly("users");
+  }
+
+  @Test
+  public void givenRemovedRoute_whenDispatching_ShouldNotDispatchState() throws Exception {
+    RegistrationHandler handler = register("users", TokenFilter.any(), "users");
+    register(null, TokenFilter.any(), "any");
+    assertThat(routingIndex.size()).isEqualTo(2);
+
+    handler.remove();
+    handler.remove();
+    dispatch("users");
+
+    assertThat(routingIndex.size()).isEqualTo(1);
+    assertThat(dispatched).containsExactly("any");
+  }
+
+  @Test
+  public void givenOnceRoute_whenDispatched_ShouldBeRemoved() throws Exception {
+    routingIndex.register("users", TokenFilter.any(), state -> dispatched.add("once"), true);
+
+    dispatch("orders");
+    assertThat(routingIndex.size()).isEqualTo(1);
+
+    dispatch("users");
+    dispatch("users");
+
+    assertThat(dispatched).containsExactly("once");
+    assertThat(routingIndex.size()).isEqualTo(0);
+  }
+
+  private RegistrationHandler register(String route, TokenFilter tokenFilter, String name) {
+    DominoHistory.StateListener listener = state -> dispatched.add(name);
+    return routingIndex.register(route, tokenFilter, listener, false);
+  }
+
+  private void dispatch(String token) {
+    routingIndex.dispatch(new TestState(token));
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.api.client.startup;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StartupTasksSchedulerTest {
+
+  private List<String> executed;
+  private double time;
+  private boolean completed;
+
+  @Before
+  public void setUp() throws Exception {
+    executed = new ArrayList<>();
+    time = 0;
+    completed = false;
+  }
+
+  @Test
+  public void givenNoTasks_whenExecuting_ShouldCompleteImmediately() throws Exception {
+    StartupTasksScheduler scheduler = scheduler();
+
+    scheduler.execute(() -> completed = true);
+
+    assertThat(completed).isTrue();
+    assertThat(scheduler.getReport().getTimings()).isEmpty();
+    assertThat(scheduler.getReport().getTotalDuration()).isEqualTo(0D);
+  }
+
+  @Test
+  public void givenTasksWithoutDependencies_whenExecuting_ShouldExecuteOrdersOneAfterTheOther()
+      throws Exception {
+    FirstTask first = new FirstTask(0);
+    SecondTask second = new SecondTask(1);
+    ThirdTask third = new ThirdTask(2);
+    StartupTasksScheduler scheduler = scheduler(third, first, second);
+
+    scheduler.execute(() -> completed = true);
+    assertThat(executed).containsExactly("first");
+
+    first.complete(null);
+    assertThat(executed).containsExactly("first", "second");
+
+    second.complete(null);
+    assertThat(executed).containsExactly("first", "second", "third");
+    assertThat(completed).isFalse();
+
+    third.complete(null);
+    assertThat(completed).isTrue();
+  }
+
+  @Test
+  public void givenTasksOfSameOrder_whenExecuting_ShouldExecuteThemTogether() throws Exception {
+    FirstTask first = new FirstTask(0);
+    SecondTask second = new SecondTask(0);
+    ThirdTask third = new ThirdTask(1);
+    StartupTasksScheduler scheduler = scheduler(first, second, third);
+
+    scheduler.execute(() -> completed = true);
+    assertThat(executed).containsExactly("first", "second");
+
+    first.complete(null);
+    assertThat(executed).containsExactly("first", "second");
+
+    second.complete(null);
+    assertThat(executed).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  public void givenTaskWithEmptyDependencies_whenExecuting_ShouldExecuteItImmediately()
+      throws Exception {
+    FirstTask first = new FirstTask(0);
+    ThirdTask third = new ThirdTask(5, Collections.emptyList());
+    StartupTasksScheduler scheduler = scheduler(first, third);
+
+    scheduler.execute(() -> completed = true);
+
+    assertThat(executed).containsExactly("first", "third");
+  }
+
+  @Test
+  public void givenTaskDependingOnLowerOrderTask_whenDependencyCompletes_ShouldNotWaitForOrder()
+      throws Exception {
+    FirstTask first = new FirstTask(0);
+    SecondTask second = new SecondTask(1);
+    ThirdTask third = new ThirdTask(2, asList(FirstTask.class));
+    StartupTasksScheduler scheduler = scheduler(first, second, third);
+
+    scheduler.execute(() -> completed = true);
+    first.complete(null);
+
+    assertThat(executed).containsExactly("first", "second", "third");
+    third.complete(null);
+    assertThat(completed).isFalse();
+
+    second.complete(null);
+    assertThat(completed).isTrue();
+  }
+
+  @Test
+  public void givenTaskDependingOnUnregisteredTask_whenExecuting_ShouldExecuteItImmediately()
+      throws Exception {
+    FirstTask first = new FirstTask(0);
+    ThirdTask third = new ThirdTask(1, asList(SecondTask.class));
+    StartupTasksScheduler scheduler = scheduler(first, third);
+
+    scheduler.execute(() -> completed = true);
+
+    assertThat(executed).containsExactly("first", "third");
+  }
+
+  @Test
+  public void givenTasksCompletingSynchronously_whenExecuting_ShouldCompleteAllTasks()
+      throws Exception {
+    StartupTasksScheduler scheduler =
+        scheduler(
+            new FirstTask(0).completeOnExecute(),
+            new SecondTask(1).completeOnExecute(),
+            new ThirdTask(2).completeOnExecute());
+
+    scheduler.execute(() -> completed = true);
+
+    assertThat(executed).containsExactly("first", "second", "third");
+    assertThat(completed).isTrue();
+  }
+
+  @Test
+  public void givenCyclicDependencies_whenCreatingScheduler_ShouldThrowException()
+      throws Exception {
+    FirstTask first = new FirstTask(0, asList(SecondTask.class));
+    SecondTask second = new SecondTask(0, asList(FirstTask.class));
+
+    assertThatCycleIsDetected(first, second);
+  }
+
+  @Test
+  public void givenTaskDependingOnHigherOrderTask_whenCreatingScheduler_ShouldThrowException()
+      throws Exception {
+    FirstTask first = new FirstTask(0, asList(SecondTask.class));
+    SecondTask second = new SecondTask(1);
+
+    assertThatCycleIsDetected(first, second);
+  }
+
+  @Test
+  public void givenCompletedTasks_whenGettingReport_ShouldReportCriticalPath() throws Exception {
+    FirstTask first = new FirstTask(0);
+    SecondTask second = new SecondTask(0);
+    ThirdTask third = new ThirdTask(1);
+    StartupTasksScheduler scheduler = scheduler(first, second, third);
+
+    scheduler.execute(() -> completed = true);
+    assertThat(scheduler.getReport()).isNull();
+
+    time = 10;
+    first.complete(null);
+    time = 30;
+    second.complete(null);
+    time = 35;
+    third.complete(null);
+
+    StartupReport report = scheduler.getReport();
+    assertThat(report.getTimings()).hasSize(3);
+    assertThat(report.getTotalDuration()).isEqualTo(35D);
+    assertThat(taskNames(report.getCriticalPath()))
+        .containsExactly(SecondTask.class.getName(), ThirdTask.class.getName());
+    StartupReport.TaskTiming thirdTiming = report.getCriticalPath().get(1);
+    assertThat(thirdTiming.getStartedAt()).isEqualTo(30D);
+    assertThat(thirdTiming.getCompletedAt()).isEqualTo(35D);
+    assertThat(thirdTiming.getDependencies())
+        .containsExactly(FirstTask.class.getName(), SecondTask.class.getName());
+  }
+
+  private void assertThatCycleIsDetected(AsyncClientStartupTask... tasks) {
+    assertThatThrownBy(() -> scheduler(tasks))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("cyclic dependencies");
+  }
+
+  private StartupTasksScheduler scheduler(AsyncClientStartupTask... tasks) {
+    return new StartupTasksScheduler(new ArrayList<>(asList(tasks)), () -> time);
+  }
+
+  private static List<String> taskNames(List<StartupReport.TaskTiming> timings) {
+    List<String> names = new ArrayList<>();
+    timings.forEach(timing -> names.add(timing.getTaskName()));
+    return names;
+  }
+
+  private abstract class RecordingTask extends AsyncClientStartupTask<Void> {
+    private final String name;
+    private final int order;
+    private final Collection<Class<? extends AsyncClientStartupTask>> dependsOn;
+    private boolean completeOnExecute;
+
+    private RecordingTask(
+        String name, int order, Collection<Class<? extends AsyncClientStartupTask>> dependsOn) {
+      this.name = name;
+      this.order = order;
+      this.dependsOn = dependsOn;
+    }
+
+    RecordingTask completeOnExecute() {
+      this.completeOnExecute = true;
+      return this;
+    }
+
+    @Override
+    public int order() {
+      return order;
+    }
+
+    @Override
+    public Collection<Class<? extends AsyncClientStartupTask>> dependsOn() {
+      return dependsOn;
+    }
+
+    @Override
+    public void execute() {
+      executed.add(name);
+      if (completeOnExecute) {
+        complete(null);
+      }
+    }
+  }
+
+  private class FirstTask extends RecordingTask {
+    private FirstTask(int order) {
+      this(order, null);
+    }
+
+    private FirstTask(int order, Collection<Class<? extends AsyncClientStartupTask>> dependsOn) {
+      super("first", order, dependsOn);
+    }
+  }
+
+  private class SecondTask extends RecordingTask {
+    private SecondTask(int order) {
+      this(order, null);
+    }
+
+    private SecondTask(int order, Collection<Class<? extends AsyncClientStartupTask>> dependsOn) {
+      super("second", order, dependsOn);
+    }
+  }
+
+  private class ThirdTask extends RecordingTask {
+    private ThirdTask(int order) {
+      this(order, null);
+    }
+
+    private ThirdTask(int order, Collection<Class<? extends AsyncClientStartupTask>> dependsOn) {
+      super("third", order, dependsOn);
+    }
+  }
+}
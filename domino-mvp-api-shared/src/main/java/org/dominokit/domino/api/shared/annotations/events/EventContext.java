@@ -26,4 +26,20 @@ public @interface EventContext {
   String value() default "";
 
   boolean global() default false;
+
+  /**
+   * When true each generated listener of a global event keeps the last payload it decoded and
+   * reuses the same instance when the same serialized payload is received again, the payload should
+   * be treated as immutable by the listener when this is enabled. Decoded payloads are never shared
+   * between listeners.
+   */
+  boolean cacheDecoded() default false;
+
+  /**
+   * When true a global event with a String, boxed primitive, Character, enum, Date or BigDecimal
+   * payload is serialized as plain text instead of JSON, for example a String is not quoted. The
+   * two forms are not compatible, applications exchanging the event must all be built with the same
+   * setting.
+   */
+  boolean compactPayload() default false;
 }
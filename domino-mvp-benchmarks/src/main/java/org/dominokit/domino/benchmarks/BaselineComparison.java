@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and compares their scores with a baseline saved from a previous run, the
+ * process exits with status 1 when a benchmark regressed by more than the threshold, so it can gate
+ * a build.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar org.dominokit.domino.benchmarks.BaselineComparison \
+ *     [--save baseline.tsv] [--baseline baseline.tsv] [--threshold 10] [include regex ...]
+ * </pre>
+ *
+ * <p>A benchmark regressed when its score got worse by more than the threshold percentage, 10 by
+ * default, and the difference is larger than the sum of both scores errors. Benchmarks missing from
+ * the baseline are reported as new and never fail the comparison.
+ */
+public class BaselineComparison {
+
+  private static final String SEPARATOR = "\t";
+
+  private BaselineComparison() {}
+
+  public static void main(String[] args) throws Exception {
+    Path save = null;
+    Path baseline = null;
+    double threshold = 10;
+    ChainedOptionsBuilder options = new OptionsBuilder();
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--save":
+          save = Paths.get(args[++i]);
+          break;
+        case "--baseline":
+          baseline = Paths.get(args[++i]);
+          break;
+        case "--threshold":
+          threshold = Double.parseDouble(args[++i]);
+          break;
+        default:
+          options.include(args[i]);
+      }
+    }
+
+    Map<String, Score> scores = scoresOf(new Runner(options.build()).run());
+    if (nonNull(save)) {
+      write(save, scores);
+    }
+    if (nonNull(baseline) && compare(read(baseline), scores, threshold) > 0) {
+      System.exit(1);
+    }
+  }
+
+  private static Map<String, Score> scoresOf(Collection<RunResult> results) {
+    Map<String, Score> scores = new LinkedHashMap<>();
+    for (RunResult runResult : results) {
+      BenchmarkParams params = runResult.getParams();
+      StringBuilder key = new StringBuilder(params.getBenchmark());
+      for (String param : new TreeSet<>(params.getParamsKeys())) {
+        key.append(':').append(param).append('=').append(params.getParam(param));
+      }
+      Result<?> result = runResult.getPrimaryResult();
+      scores.put(
+          key.toString(),
+          new Score(
+              key.toString(),
+              params.getMode().shortLabel(),
+              result.getScore(),
+              result.getScoreError(),
+              result.getScoreUnit()));
+    }
+    return scores;
+  }
+
+  /** @return the number of regressions */
+  private static int compare(
+      Map<String, Score> baseline, Map<String, Score> scores, double threshold) {
+    int regressions = 0;
+    for (Score current : scores.values()) {
+      Score base = baseline.get(current.key);
+      if (isNull(base) || !base.mode.equals(current.mode) || base.score == 0) {
+        System.out.println("[NEW] " + current.key + " " + current.format());
+        continue;
+      }
+      double change = (current.score - base.score) / base.score * 100;
+      double worse = current.higherIsBetter() ? -change : change;
+      boolean significant =
+          Math.abs(current.score - base.score) > base.finiteError() + current.finiteError();
+      String status = "SAME";
+      if (significant && worse > threshold) {
+        status = "REGRESSION";
+        regressions++;
+      } else if (significant && -worse > threshold) {
+        status = "IMPROVEMENT";
+      }
+      System.out.println(
+          String.format(
+              "[%s] %s %s -> %s (%+.2f%%)",
+              status, current.key, base.format(), current.format(), change));
+    }
+    System.out.println(
+        regressions + " regression(s) with a threshold of " + threshold + "% against the baseline");
+    return regressions;
+  }
+
+  private static void write(Path path, Map<String, Score> scores) throws IOException {
+    List<String> lines = new ArrayList<>();
+    lines.add(String.join(SEPARATOR, "# benchmark", "mode", "score", "error", "unit"));
+    for (Score score : scores.values()) {
+      lines.add(
+          String.join(
+              SEPARATOR,
+              score.key,
+              score.mode,
+              String.valueOf(score.score),
+              String.valueOf(score.error),
+              score.unit));
+    }
+    Files.write(path, lines, StandardCharsets.UTF_8);
+  }
+
+  private static Map<String, Score> read(Path path) throws IOException {
+    Map<String, Score> scores = new LinkedHashMap<>();
+    for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+      if (line.trim().isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      String[] columns = line.split(SEPARATOR);
+      scores.put(
+          columns[0],
+          new Score(
+              columns[0],
+              columns[1],
+              Double.parseDouble(columns[2]),
+              Double.parseDouble(columns[3]),
+              columns[4]));
+    }
+    return scores;
+  }
+
+  private static final class Score {
+    private final String key;
+    private final String mode;
+    private final double score;
+    private final double error;
+    private final String unit;
+
+    private Score(String key, String mode, double score, double error, String unit) {
+      this.key = key;
+      this.mode = mode;
+      this.score = score;
+      this.error = error;
+      this.unit = unit;
+    }
+
+    private boolean higherIsBetter() {
+      return Mode.Throughput.shortLabel().equals(mode);
+    }
+
+    private double finiteError() {
+      return Double.isNaN(error) || Double.isInfinite(error) ? 0 : error;
+    }
+
+    private String format() {
+      return String.format("%.3f ± %.3f %s", score, finiteError(), unit);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks;
+
+import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.dominokit.domino.api.client.extension.DominoEventsListenersRepository;
+
+/** Builds a headless {@link ClientApp} that runs async tasks inline for benchmarking. */
+public final class BenchmarkClientApp {
+
+  private BenchmarkClientApp() {}
+
+  public static ClientApp init(DominoEventsListenersRepository listenersRepository) {
+    return ClientApp.ClientAppBuilder.clientRouter(null)
+        .eventsBus(null)
+        .eventsListenersRepository(listenersRepository)
+        .history(null)
+        .asyncRunner(AsyncRunner.AsyncTask::onSuccess)
+        .dominoOptions(new BenchmarkDominoOptions())
+        .slotsManager(null)
+        .presentersNamesRegistry(new BenchmarkNamedPresenters())
+        .build();
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks;
+
+import org.dominokit.domino.api.client.ApplicationStartHandler;
+import org.dominokit.domino.api.client.CanSetDominoOptions;
+import org.dominokit.domino.api.client.DominoOptions;
+import org.dominokit.rest.shared.request.DynamicServiceRoot;
+
+/** Plain in memory options for the benchmarks client app, with every optimization off. */
+public class BenchmarkDominoOptions implements DominoOptions {
+
+  private ApplicationStartHandler applicationStartHandler;
+  private boolean mainApp = true;
+  private boolean routingIndexEnabled = false;
+  private double navigationCoalescingWindow = -1;
+  private boolean routePrefetchEnabled = false;
+
+  @Override
+  public void applyOptions() {}
+
+  @Override
+  public DominoOptions addDynamicServiceRoot(DynamicServiceRoot dynamicServiceRoot) {
+    return this;
+  }
+
+  @Override
+  public CanSetDominoOptions setApplicationStartHandler(
+      ApplicationStartHandler applicationStartHandler) {
+    this.applicationStartHandler = applicationStartHandler;
+    return this;
+  }
+
+  @Override
+  public CanSetDominoOptions setMainApp(boolean mainApp) {
+    this.mainApp = mainApp;
+    return this;
+  }
+
+  @Override
+  public CanSetDominoOptions setTokenFilter(TokenFilterSupplier tokenFilter) {
+    return this;
+  }
+
+  @Override
+  public CanSetDominoOptions setStartUpTokenFilter(TokenFilterSupplier startUpTokenFilter) {
+    return this;
+  }
+
+  @Override
+  public CanSetDominoOptions setRoutingIndexEnabled(boolean routingIndexEnabled) {
+    this.routingIndexEnabled = routingIndexEnabled;
+    return this;
+  }
+
+  @Override
+  public CanSetDominoOptions setNavigationCoalescingWindow(double windowMillis) {
+    this.navigationCoalescingWindow = windowMillis;
+    return this;
+  }
+
+  @Override
+  public CanSetDominoOptions setRoutePrefetchEnabled(boolean routePrefetchEnabled) {
+    this.routePrefetchEnabled = routePrefetchEnabled;
+    return this;
+  }
+
+  @Override
+  public ApplicationStartHandler getApplicationStartHandler() {
+    return applicationStartHandler;
+  }
+
+  @Override
+  public boolean isMainApp() {
+    return mainApp;
+  }
+
+  @Override
+  public boolean isRoutingIndexEnabled() {
+    return routingIndexEnabled;
+  }
+
+  @Override
+  public double getNavigationCoalescingWindow() {
+    return navigationCoalescingWindow;
+  }
+
+  @Override
+  public boolean isRoutePrefetchEnabled() {
+    return routePrefetchEnabled;
+  }
+}
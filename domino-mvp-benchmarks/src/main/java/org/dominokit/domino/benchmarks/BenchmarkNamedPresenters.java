@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import org.dominokit.domino.api.client.extension.PresentersNamesRegistry;
+
+/** Keeps the registered presenters names in memory, parents are expected to be registered first. */
+public class BenchmarkNamedPresenters implements PresentersNamesRegistry {
+
+  private final Set<String> names = new HashSet<>();
+
+  @Override
+  public void registerPresenter(String name) {
+    names.add(name);
+  }
+
+  @Override
+  public void removePresenter(String name) {
+    names.remove(name);
+  }
+
+  @Override
+  public Optional<String> get(String name) {
+    return names.contains(name) ? Optional.of(name) : Optional.empty();
+  }
+
+  @Override
+  public void whenPresent(String name, ParentFunction parentFunction) {
+    if (names.contains(name)) {
+      parentFunction.apply();
+    }
+  }
+}
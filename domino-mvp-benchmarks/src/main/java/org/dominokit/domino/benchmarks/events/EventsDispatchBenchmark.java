@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks.events;
+
+import java.util.concurrent.TimeUnit;
+import org.dominokit.domino.api.client.extension.ClassIndexedDominoEventsListenerRepository;
+import org.dominokit.domino.api.client.extension.DominoEventsListenersRepository;
+import org.dominokit.domino.api.client.extension.InMemoryDominoEventsListenerRepository;
+import org.dominokit.domino.api.shared.extension.DominoEvent;
+import org.dominokit.domino.api.shared.extension.DominoEventListener;
+import org.dominokit.domino.benchmarks.BenchmarkClientApp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares firing an event through the class name keyed {@link
+ * InMemoryDominoEventsListenerRepository} against the {@link
+ * ClassIndexedDominoEventsListenerRepository}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventsDispatchBenchmark {
+
+  @Param({"1", "10", "1000"})
+  public int listenersCount;
+
+  @Param({"inMemory", "classIndexed"})
+  public String repository;
+
+  private DominoEventsListenersRepository listenersRepository;
+  private final SampleEvent event = new SampleEvent();
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    listenersRepository =
+        "inMemory".equals(repository)
+            ? new InMemoryDominoEventsListenerRepository()
+            : new ClassIndexedDominoEventsListenerRepository();
+    BenchmarkClientApp.init(listenersRepository);
+    for (int i = 0; i < listenersCount; i++) {
+      listenersRepository.addListener(SampleEvent.class, new SampleListener(blackhole));
+    }
+  }
+
+  @Benchmark
+  public void fireEvent() {
+    listenersRepository.fireEvent(SampleEvent.class, event);
+  }
+
+  public static class SampleEvent implements DominoEvent {}
+
+  private static final class SampleListener implements DominoEventListener<SampleEvent> {
+
+    private final Blackhole blackhole;
+
+    private SampleListener(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public void onEventReceived(SampleEvent dominoEvent) {
+      blackhole.consume(dominoEvent);
+    }
+  }
+}
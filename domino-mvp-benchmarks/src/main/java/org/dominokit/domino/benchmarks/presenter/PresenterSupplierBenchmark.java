@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks.presenter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.dominokit.domino.api.client.extension.DominoEventsListenersRepository;
+import org.dominokit.domino.api.client.mvp.RegistrationHandler;
+import org.dominokit.domino.api.client.mvp.presenter.AbstractPresenter;
+import org.dominokit.domino.api.client.mvp.presenter.PresenterSupplier;
+import org.dominokit.domino.api.shared.extension.DominoEvent;
+import org.dominokit.domino.api.shared.extension.DominoEventListener;
+import org.dominokit.domino.api.shared.extension.GlobalDominoEventListener;
+import org.dominokit.domino.benchmarks.BenchmarkClientApp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures getting a presenter from a {@link PresenterSupplier} in singleton mode, where the same
+ * instance is returned, and in prototype mode, where a new presenter is created and initialized.
+ * Listeners registrations are discarded so only the supplier and presenter costs are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PresenterSupplierBenchmark {
+
+  @Param({"singleton", "prototype"})
+  public String mode;
+
+  private PresenterSupplier<SamplePresenter> supplier;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    BenchmarkClientApp.init(new DiscardingListenersRepository());
+    supplier =
+        new PresenterSupplier<>("singleton".equals(mode), () -> new SamplePresenter(blackhole));
+  }
+
+  @Benchmark
+  public SamplePresenter get() {
+    return supplier.get();
+  }
+
+  public static class SampleEvent implements DominoEvent {}
+
+  public static final class SamplePresenter extends AbstractPresenter {
+
+    private final Blackhole blackhole;
+
+    private SamplePresenter(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    protected Map<Class<? extends DominoEvent>, DominoEventListener> getListeners() {
+      Map<Class<? extends DominoEvent>, DominoEventListener> listeners = new HashMap<>();
+      listeners.put(SampleEvent.class, (DominoEventListener<SampleEvent>) blackhole::consume);
+      return listeners;
+    }
+  }
+
+  private static final class DiscardingListenersRepository
+      implements DominoEventsListenersRepository {
+
+    private static final RegistrationHandler NO_OP = () -> {};
+
+    @Override
+    public RegistrationHandler addListener(
+        Class<? extends DominoEvent> dominoEvent, DominoEventListener dominoEventListener) {
+      return NO_OP;
+    }
+
+    @Override
+    public RegistrationHandler addGlobalListener(
+        Class<? extends DominoEvent> dominoEvent, GlobalDominoEventListener dominoEventListener) {
+      return NO_OP;
+    }
+
+    @Override
+    public Set<DominoEventListener> getEventListeners(Class<? extends DominoEvent> dominoEvent) {
+      return Collections.emptySet();
+    }
+
+    @Override
+    public void removeListener(Class<? extends DominoEvent> event, DominoEventListener listener) {}
+
+    @Override
+    public void removeGlobalListener(
+        Class<? extends DominoEvent> event, GlobalDominoEventListener listener) {}
+
+    @Override
+    public void fireEvent(Class<? extends DominoEvent> eventType, DominoEvent dominoEvent) {}
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks.routing;
+
+import java.util.Optional;
+import org.dominokit.domino.history.DominoHistory;
+import org.dominokit.domino.history.HistoryToken;
+import org.dominokit.domino.history.NormalizedToken;
+import org.dominokit.domino.history.StateHistoryToken;
+
+/** A navigation state of a fixed token, like the one the history passes to its listeners. */
+final class BenchmarkState implements DominoHistory.State {
+
+  private final HistoryToken token;
+  private NormalizedToken normalizedToken;
+
+  BenchmarkState(String token) {
+    this.token = new StateHistoryToken(token);
+  }
+
+  @Override
+  public String rootPath() {
+    return "";
+  }
+
+  @Override
+  public HistoryToken token() {
+    return token;
+  }
+
+  @Override
+  public Optional<String> data() {
+    return Optional.empty();
+  }
+
+  @Override
+  public String title() {
+    return "";
+  }
+
+  @Override
+  public NormalizedToken normalizedToken() {
+    return normalizedToken;
+  }
+
+  @Override
+  public void setNormalizedToken(NormalizedToken normalizedToken) {
+    this.normalizedToken = normalizedToken;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.dominokit.domino.api.client.startup.RoutingIndex;
+import org.dominokit.domino.history.DominoHistory;
+import org.dominokit.domino.history.TokenFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares dispatching a navigation by evaluating the token filter of every route, which is what
+ * the history does when each routing task listens to it, against dispatching it through the {@link
+ * RoutingIndex}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoutingDispatchBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int routesCount;
+
+  @Param({"linear", "indexed"})
+  public String dispatcher;
+
+  private final List<TokenFilter> filters = new ArrayList<>();
+  private final List<DominoHistory.StateListener> listeners = new ArrayList<>();
+  private RoutingIndex routingIndex;
+  private BenchmarkState state;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    routingIndex = new RoutingIndex(null);
+    for (int i = 0; i < routesCount; i++) {
+      String route = "section" + (i % 10) + "/page" + i + "/:id";
+      TokenFilter filter = TokenFilter.endsWithPathFilter(route);
+      DominoHistory.StateListener listener = blackhole::consume;
+      filters.add(filter);
+      listeners.add(listener);
+      routingIndex.register(route, filter, listener, false);
+    }
+    int target = routesCount / 2;
+    state = new BenchmarkState("app/section" + (target % 10) + "/page" + target + "/42?tab=1");
+  }
+
+  @Benchmark
+  public void navigate() {
+    if ("linear".equals(dispatcher)) {
+      dispatchLinear();
+    } else {
+      routingIndex.dispatch(state);
+    }
+  }
+
+  private void dispatchLinear() {
+    for (int i = 0; i < filters.size(); i++) {
+      TokenFilter filter = filters.get(i);
+      if (filter.filter(state.token())) {
+        state.setNormalizedToken(filter.normalizeToken(state.rootPath(), state.token().value()));
+        listeners.get(i).onPopState(state);
+      }
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.dominokit.domino.api.client.events.BaseRoutingAggregator;
+import org.dominokit.domino.api.client.extension.ClassIndexedDominoEventsListenerRepository;
+import org.dominokit.domino.api.client.startup.BaseRoutingStartupTask;
+import org.dominokit.domino.benchmarks.BenchmarkClientApp;
+import org.dominokit.domino.history.DominoHistory;
+import org.dominokit.domino.history.TokenFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures routing a navigation state through a {@link BaseRoutingStartupTask}, from completing
+ * the routing aggregators to the state being ready for the presenter, with the coalescing,
+ * prefetching and latency tracing hooks of the task.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoutingTaskBenchmark {
+
+  @Param({"1", "4"})
+  public int aggregatorsCount;
+
+  private SampleRoutingTask routingTask;
+  private BenchmarkState state;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    BenchmarkClientApp.init(new ClassIndexedDominoEventsListenerRepository());
+    List<BaseRoutingAggregator> aggregators = new ArrayList<>();
+    for (int i = 0; i < aggregatorsCount; i++) {
+      aggregators.add(new BaseRoutingAggregator(Collections.emptyList()) {});
+    }
+    routingTask = new SampleRoutingTask(aggregators, blackhole);
+    state = new BenchmarkState("app/orders/42?tab=1");
+  }
+
+  @Benchmark
+  public void route() {
+    routingTask.route(state);
+  }
+
+  private static final class SampleRoutingTask extends BaseRoutingStartupTask {
+
+    private final Blackhole blackhole;
+    private final TokenFilter tokenFilter = TokenFilter.endsWithPathFilter("orders/:id");
+
+    private SampleRoutingTask(List<BaseRoutingAggregator> aggregators, Blackhole blackhole) {
+      super(aggregators);
+      this.blackhole = blackhole;
+    }
+
+    private void route(DominoHistory.State state) {
+      doRoutingIfEnabled(state);
+    }
+
+    @Override
+    protected void onStateReady(DominoHistory.State state) {
+      blackhole.consume(state);
+    }
+
+    @Override
+    protected TokenFilter getTokenFilter() {
+      return tokenFilter;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks.server;
+
+import static org.dominokit.domino.benchmarks.server.Stubs.stub;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.dominokit.domino.api.server.DominoCSRFHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link DominoCSRFHandler#handle(RoutingContext)} for a safe request, which issues a new
+ * token, and for a state changing request, which goes through the white list handlers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CSRFHandlerBenchmark {
+
+  @Param({"GET", "POST"})
+  public String method;
+
+  private DominoCSRFHandler handler;
+  private RoutingContext context;
+
+  @Setup
+  public void setup(Blackhole blackhole) throws Exception {
+    Constructor<DominoCSRFHandler> constructor =
+        DominoCSRFHandler.class.getDeclaredConstructor(String.class, JsonObject.class);
+    constructor.setAccessible(true);
+    handler = constructor.newInstance("benchmark-secret", new JsonObject());
+
+    HttpMethod httpMethod = HttpMethod.valueOf(method);
+    HttpServerRequest request =
+        stub(
+            HttpServerRequest.class,
+            Collections.<String, Stubs.Answer>singletonMap("method", args -> httpMethod));
+    HttpServerResponse response = stub(HttpServerResponse.class, Collections.emptyMap());
+    Map<String, Stubs.Answer> answers = new HashMap<>();
+    answers.put("request", args -> request);
+    answers.put("response", args -> response);
+    answers.put(
+        "next",
+        args -> {
+          blackhole.consume(method);
+          return null;
+        });
+    context = stub(RoutingContext.class, answers);
+  }
+
+  @Benchmark
+  public void handle() {
+    handler.handle(context);
+  }
+}
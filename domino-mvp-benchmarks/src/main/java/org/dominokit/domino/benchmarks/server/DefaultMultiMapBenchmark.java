@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks.server;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.dominokit.domino.api.server.request.DefaultMultiMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link DefaultMultiMap} operations used for the request headers and parameters,
+ * filling and reading a map, reading all the values of each name and listing its entries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DefaultMultiMapBenchmark {
+
+  @Param({"4", "32"})
+  public int namesCount;
+
+  private String[] names;
+  private DefaultMultiMap<String, String> filled;
+
+  @Setup
+  public void setup() {
+    names = new String[namesCount];
+    for (int i = 0; i < namesCount; i++) {
+      names[i] = "header-" + i;
+    }
+    filled = fill(new DefaultMultiMap<>());
+  }
+
+  private DefaultMultiMap<String, String> fill(DefaultMultiMap<String, String> map) {
+    for (String name : names) {
+      map.add(name, "first").add(name, "second");
+    }
+    return map;
+  }
+
+  @Benchmark
+  public void addAndGet(Blackhole blackhole) {
+    DefaultMultiMap<String, String> map = fill(new DefaultMultiMap<>());
+    for (String name : names) {
+      blackhole.consume(map.get(name));
+    }
+  }
+
+  @Benchmark
+  public void getAll(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(filled.getAll(name));
+    }
+  }
+
+  @Benchmark
+  public List<Map.Entry<String, String>> entries() {
+    return filled.entries();
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks.server;
+
+import static org.dominokit.domino.benchmarks.server.Stubs.stub;
+
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.dominokit.domino.api.server.response.VertxResponseContext;
+import org.dominokit.rest.shared.request.ResponseBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures encoding and ending a response with a list body through {@link VertxResponseContext}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseEndBenchmark {
+
+  @Param({"1", "100", "1000"})
+  public int itemsCount;
+
+  private VertxResponseContext<SampleResponse> responseContext;
+  private final List<SampleResponse> items = new ArrayList<>();
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    HttpServerResponse response =
+        stub(
+            HttpServerResponse.class,
+            Collections.<String, Stubs.Answer>singletonMap(
+                "end",
+                args -> {
+                  blackhole.consume(args);
+                  return null;
+                }));
+    RoutingContext context =
+        stub(
+            RoutingContext.class,
+            Collections.<String, Stubs.Answer>singletonMap("response", args -> response));
+    responseContext = new VertxResponseContext<>(context);
+    for (int i = 0; i < itemsCount; i++) {
+      items.add(new SampleResponse(i, "item-" + i, i * 1.5));
+    }
+  }
+
+  @Benchmark
+  public void endList() {
+    responseContext.end(items);
+  }
+
+  public static class SampleResponse implements ResponseBean {
+
+    private long id;
+    private String name;
+    private double price;
+
+    public SampleResponse() {}
+
+    public SampleResponse(long id, String name, double price) {
+      this.id = id;
+      this.name = name;
+      this.price = price;
+    }
+
+    public long getId() {
+      return id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public double getPrice() {
+      return price;
+    }
+  }
+}
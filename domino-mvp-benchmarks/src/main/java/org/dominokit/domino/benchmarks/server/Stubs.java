@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks.server;
+
+import static java.util.Objects.nonNull;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Creates lightweight stubs of the vertx interfaces the server benchmarks need, fluent methods
+ * return the stub itself, answered methods call their answer and the others return the default
+ * value of their return type.
+ */
+final class Stubs {
+
+  private Stubs() {}
+
+  static <T> T stub(Class<T> type, Map<String, Answer> answers) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "hashCode":
+                  return System.identityHashCode(proxy);
+                case "equals":
+                  return proxy == args[0];
+                case "toString":
+                  return type.getSimpleName() + " stub";
+                default:
+                  break;
+              }
+              Answer answer = answers.get(method.getName());
+              if (nonNull(answer)) {
+                return answer.answer(args);
+              }
+              Class<?> returnType = method.getReturnType();
+              if (returnType != Object.class && returnType.isInstance(proxy)) {
+                return proxy;
+              }
+              return defaultValue(returnType);
+            }));
+  }
+
+  private static Object defaultValue(Class<?> type) {
+    if (!type.isPrimitive() || type == void.class) {
+      return null;
+    }
+    if (type == boolean.class) {
+      return false;
+    }
+    if (type == char.class) {
+      return '\0';
+    }
+    if (type == long.class) {
+      return 0L;
+    }
+    if (type == float.class) {
+      return 0F;
+    }
+    if (type == double.class) {
+      return 0D;
+    }
+    if (type == byte.class) {
+      return (byte) 0;
+    }
+    if (type == short.class) {
+      return (short) 0;
+    }
+    return 0;
+  }
+
+  @FunctionalInterface
+  interface Answer {
+    Object answer(Object[] args);
+  }
+}
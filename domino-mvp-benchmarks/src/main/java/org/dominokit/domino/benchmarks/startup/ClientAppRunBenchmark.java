@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.benchmarks.startup;
+
+import java.util.concurrent.TimeUnit;
+import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.api.client.InitialTaskRegistry;
+import org.dominokit.domino.api.client.ModuleConfiguration;
+import org.dominokit.domino.api.client.extension.ClassIndexedDominoEventsListenerRepository;
+import org.dominokit.domino.benchmarks.BenchmarkClientApp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures building a client app and running its startup with a number of modules, each module
+ * registers its presenters, views and an initial task like the generated module configurations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ClientAppRunBenchmark {
+
+  @Param({"1", "10", "100"})
+  public int modulesCount;
+
+  private Blackhole blackhole;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    this.blackhole = blackhole;
+  }
+
+  @Benchmark
+  public ClientApp run() {
+    ClientApp clientApp = BenchmarkClientApp.init(new ClassIndexedDominoEventsListenerRepository());
+    for (int i = 0; i < modulesCount; i++) {
+      clientApp.configureModule(new SampleModule(blackhole));
+    }
+    clientApp.run();
+    return clientApp;
+  }
+
+  private static final class SampleModule implements ModuleConfiguration {
+
+    private final Blackhole blackhole;
+
+    private SampleModule(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public void registerPresenters() {
+      blackhole.consume(this);
+    }
+
+    @Override
+    public void registerViews() {
+      blackhole.consume(this);
+    }
+
+    @Override
+    public void registerInitialTasks(InitialTaskRegistry registry) {
+      registry.registerInitialTask(() -> blackhole.consume(registry));
+    }
+  }
+}
@@ -18,6 +18,7 @@ package org.dominokit.domino.client.commons.request;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.api.client.async.AsyncPriority;
 import org.dominokit.domino.api.client.async.AsyncRunner;
 import org.dominokit.domino.api.client.events.ClientRequestEventFactory;
 import org.dominokit.domino.api.client.request.PresenterCommand;
@@ -39,6 +40,7 @@ public class ClientRouter implements RequestRouter<PresenterCommand> {
     ClientApp.make()
         .getAsyncRunner()
         .runAsync(
+            AsyncPriority.ROUTING,
             new AsyncRunner.AsyncTask() {
               @Override
               public void onSuccess() {
@@ -17,8 +17,9 @@ package org.dominokit.domino.desktop.client;
 
 import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.domino.api.client.async.AsyncRunner;
-import org.dominokit.domino.api.client.extension.InMemoryDominoEventsListenerRepository;
+import org.dominokit.domino.api.client.extension.ClassIndexedDominoEventsListenerRepository;
 import org.dominokit.domino.client.commons.request.ClientRouter;
+import org.dominokit.domino.desktop.client.async.DesktopPriorityAsyncRunner;
 import org.dominokit.domino.desktop.client.events.DesktopClientEventFactory;
 import org.dominokit.domino.desktop.client.events.DesktopEventBus;
 
@@ -27,15 +28,20 @@ public class CoreModule {
   private CoreModule() {}
 
   public static void init() {
+    init(AsyncRunner.AsyncTask::onSuccess);
+  }
+
+  public static void init(AsyncRunner asyncRunner) {
     ClientRouter clientRouter = new ClientRouter(new DesktopClientEventFactory());
     ClientApp.ClientAppBuilder.clientRouter(clientRouter)
         .eventsBus(new DesktopEventBus())
-        .eventsListenersRepository(new InMemoryDominoEventsListenerRepository())
+        .eventsListenersRepository(new ClassIndexedDominoEventsListenerRepository())
         .history(new DesktopStateHistory())
-        .asyncRunner(AsyncRunner.AsyncTask::onSuccess)
+        .asyncRunner(asyncRunner)
         .dominoOptions(new DesktopDominoOptions())
         .slotsManager(new DesktopSlotsManager())
         .presentersNamesRegistry(new DesktopNamedPresenters())
+        .clock(DesktopPriorityAsyncRunner.NANO_CLOCK)
         .build();
   }
 }
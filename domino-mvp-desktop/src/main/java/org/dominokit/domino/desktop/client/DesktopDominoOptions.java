@@ -26,6 +26,9 @@ public class DesktopDominoOptions implements DominoOptions {
 
   private ApplicationStartHandler applicationStartHandler;
   private boolean mainApp = true;
+  private boolean routingIndexEnabled = false;
+  private double navigationCoalescingWindow = -1;
+  private boolean routePrefetchEnabled = false;
   private TokenFilterSupplier tokenFilter = TokenFilter::endsWithPathFilter;
   private TokenFilterSupplier startUpTokenFilter = TokenFilter::startsWithPathFilter;
 
@@ -63,6 +66,39 @@ public class DesktopDominoOptions implements DominoOptions {
     return mainApp;
   }
 
+  @Override
+  public CanSetDominoOptions setRoutingIndexEnabled(boolean routingIndexEnabled) {
+    this.routingIndexEnabled = routingIndexEnabled;
+    return this;
+  }
+
+  @Override
+  public boolean isRoutingIndexEnabled() {
+    return routingIndexEnabled;
+  }
+
+  @Override
+  public CanSetDominoOptions setNavigationCoalescingWindow(double windowMillis) {
+    this.navigationCoalescingWindow = windowMillis;
+    return this;
+  }
+
+  @Override
+  public double getNavigationCoalescingWindow() {
+    return navigationCoalescingWindow;
+  }
+
+  @Override
+  public CanSetDominoOptions setRoutePrefetchEnabled(boolean routePrefetchEnabled) {
+    this.routePrefetchEnabled = routePrefetchEnabled;
+    return this;
+  }
+
+  @Override
+  public boolean isRoutePrefetchEnabled() {
+    return routePrefetchEnabled;
+  }
+
   @Override
   public TokenFilter getTokenFilter(String token) {
     return tokenFilter.get(token);
@@ -15,6 +15,8 @@
  */
 package org.dominokit.domino.desktop.client;
 
+import static java.util.Objects.nonNull;
+
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
@@ -23,8 +25,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
+import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.domino.api.client.extension.PresentersNamesRegistry;
+import org.dominokit.domino.api.client.tracing.LifecycleEventType;
 
+/**
+ * Presenters names registry for the desktop runtime, registrations are synchronized so the
+ * registry can be used from a multi-threaded {@link
+ * org.dominokit.domino.api.client.async.AsyncRunner}, the parent functions are applied outside of
+ * the lock.
+ */
 public class DesktopNamedPresenters implements PresentersNamesRegistry {
   public static final Logger LOGGER = Logger.getLogger(DesktopNamedPresenters.class.getName());
 
@@ -32,16 +42,21 @@ public class DesktopNamedPresenters implements PresentersNamesRegistry {
   private final Map<String, List<ParentFunction>> PARENT_FUNCTIONS = new HashMap<>();
 
   private void registerPresenterName(String name) {
-    LOGGER.info(" >> REGISTERING PRESENTER [" + name + "]");
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.PRESENTER_NAME_REGISTERED, DesktopNamedPresenters.class, name);
     String key = name.toLowerCase();
-    if (!NAMED_PRESENTERS.containsKey(key)) {
-      NAMED_PRESENTERS.put(key, new LinkedList<>());
-    }
+    List<ParentFunction> parentFunctions;
+    synchronized (this) {
+      if (!NAMED_PRESENTERS.containsKey(key)) {
+        NAMED_PRESENTERS.put(key, new LinkedList<>());
+      }
 
-    NAMED_PRESENTERS.get(key).push(name);
-    if (PARENT_FUNCTIONS.containsKey(key)) {
-      PARENT_FUNCTIONS.get(key).forEach(ParentFunction::apply);
-      PARENT_FUNCTIONS.remove(key);
+      NAMED_PRESENTERS.get(key).push(name);
+      parentFunctions = PARENT_FUNCTIONS.remove(key);
+    }
+    if (nonNull(parentFunctions)) {
+      parentFunctions.forEach(ParentFunction::apply);
     }
   }
 
@@ -50,13 +65,17 @@ public class DesktopNamedPresenters implements PresentersNamesRegistry {
   }
 
   private void removePresenterName(String name) {
-    LOGGER.info(" << REMOVING PRESENTER [" + name + "]");
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.PRESENTER_NAME_REMOVED, DesktopNamedPresenters.class, name);
     String key = name.toLowerCase();
-    if (NAMED_PRESENTERS.containsKey(key)) {
-      NAMED_PRESENTERS.get(key).pop();
-      if (NAMED_PRESENTERS.get(key).isEmpty()) {
-        NAMED_PRESENTERS.remove(key);
-        PARENT_FUNCTIONS.remove(key);
+    synchronized (this) {
+      if (NAMED_PRESENTERS.containsKey(key)) {
+        NAMED_PRESENTERS.get(key).pop();
+        if (NAMED_PRESENTERS.get(key).isEmpty()) {
+          NAMED_PRESENTERS.remove(key);
+          PARENT_FUNCTIONS.remove(key);
+        }
       }
     }
   }
@@ -65,7 +84,7 @@ public class DesktopNamedPresenters implements PresentersNamesRegistry {
     registerPresenterName(name);
   }
 
-  public Optional<String> get(String name) {
+  public synchronized Optional<String> get(String name) {
     if (NAMED_PRESENTERS.containsKey(name.toLowerCase())) {
       return Optional.ofNullable(NAMED_PRESENTERS.get(name.toLowerCase()).peek());
     }
@@ -74,10 +93,15 @@ public class DesktopNamedPresenters implements PresentersNamesRegistry {
 
   public void whenPresent(String name, ParentFunction parentFunction) {
     String key = name.toLowerCase();
-    if (get(name).isPresent()) {
+    boolean present;
+    synchronized (this) {
+      present = get(name).isPresent();
+      if (!present) {
+        addFunction(key, parentFunction);
+      }
+    }
+    if (present) {
       parentFunction.apply();
-    } else {
-      addFunction(key, parentFunction);
     }
   }
 
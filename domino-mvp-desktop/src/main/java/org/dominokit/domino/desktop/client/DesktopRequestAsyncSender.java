@@ -20,6 +20,7 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import com.fasterxml.jackson.databind.SerializationFeature;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
@@ -27,6 +28,7 @@ import io.vertx.core.json.Json;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
@@ -40,6 +42,7 @@ import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 import javax.ws.rs.*;
 import org.apache.commons.beanutils.BeanUtils;
+import org.dominokit.domino.desktop.client.async.ExecutorAsyncRunner;
 import org.dominokit.rest.shared.request.*;
 import org.dominokit.rest.shared.request.service.annotations.ServiceRoot;
 
@@ -82,30 +85,36 @@ public class DesktopRequestAsyncSender extends AbstractRequestAsyncSender {
     try {
       Class<? extends ResponseBean> clazz =
           (Class<? extends ResponseBean>) Class.forName(responseType.getTypeName());
+      Object orderingKey = ExecutorAsyncRunner.currentOrderingKey();
       httpRequest.sendJson(
           request.requestBean(),
-          event -> {
-            if (event.succeeded()) {
-              this.csrfToken =
-                  event.result().headers().getAll("Set-Cookie").stream()
-                      .filter(header -> header.startsWith("XSRF-TOKEN"))
-                      .map(
-                          header ->
-                              header.substring(0, header.indexOf(";")).replace("XSRF-TOKEN=", ""))
-                      .findFirst()
-                      .orElse(csrfToken);
-
-              requestEventFactory
-                  .makeSuccess(request, Json.decodeValue(event.result().body(), clazz))
-                  .fire();
-            } else
-              requestEventFactory.makeFailed(request, new FailedResponseBean(event.cause())).fire();
-          });
+          event ->
+              ExecutorAsyncRunner.withOrderingKey(
+                  orderingKey, () -> onResponse(request, requestEventFactory, clazz, event)));
     } catch (ClassNotFoundException e) {
       requestEventFactory.makeFailed(request, new FailedResponseBean(e));
     }
   }
 
+  private void onResponse(
+      ServerRequest request,
+      ServerRequestEventFactory requestEventFactory,
+      Class<? extends ResponseBean> clazz,
+      AsyncResult<HttpResponse<Buffer>> event) {
+    if (event.succeeded()) {
+      this.csrfToken =
+          event.result().headers().getAll("Set-Cookie").stream()
+              .filter(header -> header.startsWith("XSRF-TOKEN"))
+              .map(header -> header.substring(0, header.indexOf(";")).replace("XSRF-TOKEN=", ""))
+              .findFirst()
+              .orElse(csrfToken);
+
+      requestEventFactory
+          .makeSuccess(request, Json.decodeValue(event.result().body(), clazz))
+          .fire();
+    } else requestEventFactory.makeFailed(request, new FailedResponseBean(event.cause())).fire();
+  }
+
   private HttpMethod getHttpMethod(ServerRequest request) {
 
     if (nonNull(request.getClass().getAnnotation(GET.class))) {
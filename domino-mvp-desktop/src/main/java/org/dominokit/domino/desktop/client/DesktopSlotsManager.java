@@ -15,43 +15,78 @@
  */
 package org.dominokit.domino.desktop.client;
 
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
+import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.api.client.mvp.slots.InvalidSlotException;
 import org.dominokit.domino.api.client.mvp.slots.IsSlot;
 import org.dominokit.domino.api.client.mvp.slots.SlotsManager;
 import org.dominokit.domino.api.client.mvp.view.HasContent;
+import org.dominokit.domino.api.client.tracing.LifecycleEventType;
 
+/**
+ * Slots manager for the desktop runtime.
+ *
+ * <p>Slots are scoped to the manager instance so several apps can run in the same JVM, each slot
+ * key maps to a lock-free stack of slots where the last registered slot is the active one. Keys
+ * are case insensitive. The manager can be used from a multi-threaded {@link
+ * org.dominokit.domino.api.client.async.AsyncRunner}.
+ */
 public class DesktopSlotsManager implements SlotsManager {
   public static final Logger LOGGER = Logger.getLogger(DesktopSlotsManager.class.getName());
 
-  private static final Map<String, Deque<IsSlot>> SLOT_QUEUE = new HashMap<>();
+  private final ConcurrentMap<String, ConcurrentLinkedDeque<IsSlot>> slots =
+      new ConcurrentHashMap<>();
 
+  @Override
   public void registerSlot(String key, IsSlot slot) {
-    LOGGER.info(" >> REGISTERING SLOT [" + key + "]");
-    if (!SLOT_QUEUE.containsKey(key.toLowerCase())) {
-      SLOT_QUEUE.put(key.toLowerCase(), new LinkedList<>());
-    }
-
-    SLOT_QUEUE.get(key.toLowerCase()).push(slot);
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.SLOT_REGISTERED, DesktopSlotsManager.class, key);
+    slots.computeIfAbsent(normalize(key), k -> new ConcurrentLinkedDeque<>()).push(slot);
   }
 
+  @Override
   public void removeSlot(String key) {
-    LOGGER.info(" << REMOVING SLOT [" + key + "]");
-    if (SLOT_QUEUE.containsKey(key.toLowerCase())) {
-      IsSlot popedOut = SLOT_QUEUE.get(key.toLowerCase()).pop();
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.SLOT_REMOVED, DesktopSlotsManager.class, key);
+    ConcurrentLinkedDeque<IsSlot> stack = slots.get(normalize(key));
+    if (isNull(stack)) {
+      return;
+    }
+    IsSlot popedOut = stack.poll();
+    if (nonNull(popedOut)) {
       popedOut.cleanUp();
     }
   }
 
-  public static IsSlot get(String key) {
-    return SLOT_QUEUE.get(key.toLowerCase()).peek();
+  /**
+   * @param key the slot key
+   * @return the active slot registered with the key, or null if there is no such slot
+   */
+  public IsSlot get(String key) {
+    ConcurrentLinkedDeque<IsSlot> stack = slots.get(normalize(key));
+    return isNull(stack) ? null : stack.peek();
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public void revealView(String slotKey, HasContent view, HasContent.CreateHandler createHandler) {
-    get(slotKey).updateContent(view.getContent());
+    IsSlot slot = get(slotKey);
+    if (isNull(slot)) {
+      throw new InvalidSlotException(slotKey);
+    }
+    slot.updateContent(view.getContent());
+  }
+
+  private static String normalize(String key) {
+    return key.toLowerCase(Locale.ROOT);
   }
 }
@@ -15,15 +15,21 @@
  */
 package org.dominokit.domino.desktop.client;
 
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.domino.history.*;
 
+/**
+ * History for the desktop runtime, the listeners are kept in a concurrent set so the history can be
+ * used from a multi-threaded {@link org.dominokit.domino.api.client.async.AsyncRunner}.
+ */
 public class DesktopStateHistory implements AppHistory {
 
-  private Set<HistoryListener> listeners = new HashSet<>();
+  private final Set<HistoryListener> listeners =
+      Collections.newSetFromMap(new ConcurrentHashMap<>());
   private final String rootPath;
 
   public DesktopStateHistory() {
@@ -63,7 +69,7 @@ public class DesktopStateHistory implements AppHistory {
 
   @Override
   public void removeListener(StateListener stateListener) {
-    listeners.remove(stateListener);
+    listeners.removeIf(historyListener -> historyListener.listener == stateListener);
   }
 
   private State currentState() {
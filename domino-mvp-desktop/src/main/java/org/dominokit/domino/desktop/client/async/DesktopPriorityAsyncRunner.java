@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.desktop.client.async;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import org.dominokit.domino.api.client.async.AsyncPriority;
+import org.dominokit.domino.api.client.async.MonotonicClock;
+import org.dominokit.domino.api.client.async.PriorityAsyncRunner;
+
+/**
+ * A {@link PriorityAsyncRunner} for the JVM that runs its ticks on an executor, by default a single
+ * daemon thread so tasks keep running one at a time like they do in the browser.
+ */
+public class DesktopPriorityAsyncRunner extends PriorityAsyncRunner {
+
+  public static final MonotonicClock NANO_CLOCK = () -> System.nanoTime() / 1_000_000D;
+
+  public DesktopPriorityAsyncRunner() {
+    this(
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "domino-async-runner");
+              thread.setDaemon(true);
+              return thread;
+            }),
+        DEFAULT_TICK_BUDGET);
+  }
+
+  public DesktopPriorityAsyncRunner(Executor executor, double tickBudget) {
+    super(executor::execute, NANO_CLOCK, tickBudget, AsyncPriority.DATA);
+  }
+
+  @Override
+  public void runDelayed(double delayMillis, AsyncTask asyncTask) {
+    DelayScheduler.schedule(delayMillis, () -> runAsync(asyncTask));
+  }
+
+  @Override
+  public boolean supportsDelay() {
+    return true;
+  }
+}
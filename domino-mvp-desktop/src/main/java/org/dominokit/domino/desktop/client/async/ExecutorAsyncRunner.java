@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.desktop.client.async;
+
+import static java.util.Objects.isNull;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.api.client.async.AsyncRunner;
+
+/**
+ * An {@link AsyncRunner} that runs the tasks on an executor, by default a virtual thread per task
+ * executor when the running JVM supports it, or a fixed thread pool sized to the available cores.
+ *
+ * <p>By default all the tasks run one after the other in submission order in the application lane,
+ * like they do in the browser, so application code never runs concurrently.
+ *
+ * <p>Parallel lanes are opt in through {@link #ExecutorAsyncRunner(ExecutorService, boolean)},
+ * tasks are then grouped by an ordering key, tasks with the same key run one after the other in
+ * submission order while tasks with different keys run in parallel. Commands use their class as
+ * the key so each presenter keeps its own ordering. A task submitted without a key while another
+ * task is running inherits the key of the running task, otherwise it runs in the application lane.
+ * The services installed by {@link org.dominokit.domino.desktop.client.CoreModule}, the events
+ * listeners repository, the slots manager, the named presenters registry and the state history, as
+ * well as the route prefetcher, the presenters reclaimer and the presenters caches, are thread safe
+ * and can be shared by parallel lanes. Events are dispatched in the lane of the task that fired
+ * them, so a presenter listening to the events of presenters in other lanes, and any state shared
+ * by several presenters, must be guarded by the application.
+ *
+ * <p>When the {@link ClientApp#getScope() application scope} is thread confined, such as {@link
+ * org.dominokit.domino.api.client.ThreadLocalClientAppScope}, each task runs in the context of the
+ * {@link ClientApp} that was current when it was submitted, so several applications can share the
+ * runner. The default scope is a single field shared by all the threads, tasks are not bound to it
+ * since concurrent bindings from the executor threads would overwrite each other.
+ */
+public class ExecutorAsyncRunner implements AsyncRunner {
+
+  private static final Logger LOGGER = Logger.getLogger(ExecutorAsyncRunner.class.getName());
+
+  private static final Object APPLICATION_LANE = new Object();
+  private static final ThreadLocal<Object> CURRENT_KEY = new ThreadLocal<>();
+
+  private final ExecutorService executor;
+  private final boolean parallelLanes;
+  private final Map<Object, SerialLane> lanes = new ConcurrentHashMap<>();
+
+  public ExecutorAsyncRunner() {
+    this(defaultExecutor());
+  }
+
+  public ExecutorAsyncRunner(ExecutorService executor) {
+    this(executor, false);
+  }
+
+  /**
+   * @param executor the executor running the lanes
+   * @param parallelLanes true to run the tasks of different ordering keys in parallel, false to
+   *     run all the tasks in the application lane
+   */
+  public ExecutorAsyncRunner(ExecutorService executor, boolean parallelLanes) {
+    this.executor = executor;
+    this.parallelLanes = parallelLanes;
+  }
+
+  @Override
+  public void runAsync(AsyncTask asyncTask) {
+    Object currentKey = CURRENT_KEY.get();
+    runOrdered(isNull(currentKey) ? APPLICATION_LANE : currentKey, asyncTask);
+  }
+
+  @Override
+  public void runOrdered(Object orderingKey, AsyncTask asyncTask) {
+    submit(orderingKey, new ScopedTask(ClientApp.make(), asyncTask));
+  }
+
+  /**
+   * Runs the task after the delay in the lane it would have joined if it was submitted now, and in
+   * the context of the application that is current now.
+   */
+  @Override
+  public void runDelayed(double delayMillis, AsyncTask asyncTask) {
+    Object currentKey = CURRENT_KEY.get();
+    Object orderingKey = isNull(currentKey) ? APPLICATION_LANE : currentKey;
+    ScopedTask scopedTask = new ScopedTask(ClientApp.make(), asyncTask);
+    DelayScheduler.schedule(delayMillis, () -> submit(orderingKey, scopedTask));
+  }
+
+  @Override
+  public boolean supportsDelay() {
+    return true;
+  }
+
+  private void submit(Object orderingKey, ScopedTask scopedTask) {
+    lanes
+        .computeIfAbsent(parallelLanes ? orderingKey : APPLICATION_LANE, SerialLane::new)
+        .submit(scopedTask);
+  }
+
+  /** @return the ordering key of the task running on the current thread, or null */
+  public static Object currentOrderingKey() {
+    return CURRENT_KEY.get();
+  }
+
+  /**
+   * Runs the code with the specified ordering key as the current key, tasks submitted without a key
+   * from inside the code will join the lane of that key. Used to route callbacks that arrive on
+   * other threads, like server responses, back to the lane they were sent from.
+   */
+  public static void withOrderingKey(Object orderingKey, Runnable runnable) {
+    Object previous = CURRENT_KEY.get();
+    CURRENT_KEY.set(orderingKey);
+    try {
+      runnable.run();
+    } finally {
+      if (isNull(previous)) {
+        CURRENT_KEY.remove();
+      } else {
+        CURRENT_KEY.set(previous);
+      }
+    }
+  }
+
+  public boolean isParallelLanes() {
+    return parallelLanes;
+  }
+
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private static ExecutorService defaultExecutor() {
+    try {
+      Method virtualThreadExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) virtualThreadExecutor.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      LOGGER.fine("Virtual threads are not available, falling back to a fixed thread pool.");
+      AtomicInteger counter = new AtomicInteger();
+      return Executors.newFixedThreadPool(
+          Runtime.getRuntime().availableProcessors(),
+          runnable -> {
+            Thread thread = new Thread(runnable, "domino-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          });
+    }
+  }
+
+  private final class SerialLane implements Runnable {
+    private final Object key;
+    private final Queue<ScopedTask> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private SerialLane(Object key) {
+      this.key = key;
+    }
+
+    private void submit(ScopedTask scopedTask) {
+      tasks.offer(scopedTask);
+      schedule();
+    }
+
+    private void schedule() {
+      if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+        executor.execute(this);
+      }
+    }
+
+    @Override
+    public void run() {
+      withOrderingKey(
+          key,
+          () -> {
+            ScopedTask task;
+            while ((task = tasks.poll()) != null) {
+              ScopedTask scopedTask = task;
+              if (ClientApp.getScope().isThreadConfined()) {
+                scopedTask.clientApp.runInContext(() -> runTask(scopedTask.asyncTask));
+              } else {
+                runTask(scopedTask.asyncTask);
+              }
+            }
+          });
+      scheduled.set(false);
+      schedule();
+    }
+
+    private void runTask(AsyncTask asyncTask) {
+      try {
+        asyncTask.onSuccess();
+      } catch (Throwable error) {
+        try {
+          asyncTask.onFailed(error);
+        } catch (Throwable failure) {
+          LOGGER.log(Level.SEVERE, "Failed to handle async task failure : ", failure);
+        }
+      }
+    }
+  }
+
+  private static final class ScopedTask {
+    private final ClientApp clientApp;
+    private final AsyncTask asyncTask;
+
+    private ScopedTask(ClientApp clientApp, AsyncTask asyncTask) {
+      this.clientApp = clientApp;
+      this.asyncTask = asyncTask;
+    }
+  }
+}
@@ -33,6 +33,11 @@ public class DesktopClientEvent implements Event {
     ClientApp.make().getEventsBus().publishEvent(() -> this);
   }
 
+  /** @return the key used to keep the events of the same presenter command in order */
+  public Object getOrderingKey() {
+    return request.getClass();
+  }
+
   @Override
   public void process() {
     request.applyState(new Request.DefaultRequestStateContext());
@@ -15,6 +15,7 @@
  */
 package org.dominokit.domino.desktop.client.events;
 
+import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.rest.shared.Event;
 import org.dominokit.rest.shared.EventsBus;
 
@@ -22,6 +23,13 @@ public class DesktopEventBus implements EventsBus<Event> {
 
   @Override
   public void publishEvent(RequestEvent<Event> event) {
-    event.asEvent().process();
+    Event desktopEvent = event.asEvent();
+    if (desktopEvent instanceof DesktopClientEvent) {
+      ClientApp.make()
+          .getAsyncRunner()
+          .runOrdered(((DesktopClientEvent) desktopEvent).getOrderingKey(), desktopEvent::process);
+    } else {
+      desktopEvent.process();
+    }
   }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.desktop.client.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.dominokit.domino.api.client.async.AsyncRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExecutorAsyncRunnerTest {
+
+  private ExecutorService executor;
+  private List<String> executed;
+
+  @Before
+  public void setUp() throws Exception {
+    executor = Executors.newFixedThreadPool(4);
+    executed = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void givenDefaultLanes_whenRunningTasks_ShouldRunThemOneAtATimeInOrder()
+      throws Exception {
+    ExecutorAsyncRunner runner = new ExecutorAsyncRunner(executor);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(50);
+
+    for (int i = 0; i < 50; i++) {
+      String name = "task" + i;
+      runner.runOrdered(
+          i % 5,
+          () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            executed.add(name);
+            running.decrementAndGet();
+            done.countDown();
+          });
+    }
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(maxRunning.get()).isEqualTo(1);
+    for (int i = 0; i < 50; i++) {
+      assertThat(executed.get(i)).isEqualTo("task" + i);
+    }
+  }
+
+  @Test
+  public void givenParallelLanes_whenRunningTasksOfDifferentKeys_ShouldRunThemInParallel()
+      throws Exception {
+    ExecutorAsyncRunner runner = new ExecutorAsyncRunner(executor, true);
+    CountDownLatch secondStarted = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(2);
+    boolean[] overlapped = new boolean[1];
+
+    runner.runOrdered(
+        "first",
+        () -> {
+          try {
+            overlapped[0] = secondStarted.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          done.countDown();
+        });
+    runner.runOrdered(
+        "second",
+        () -> {
+          secondStarted.countDown();
+          done.countDown();
+        });
+
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(overlapped[0]).isTrue();
+  }
+
+  @Test
+  public void givenParallelLanes_whenRunningTasksOfSameKey_ShouldKeepSubmissionOrder()
+      throws Exception {
+    ExecutorAsyncRunner runner = new ExecutorAsyncRunner(executor, true);
+    CountDownLatch done = new CountDownLatch(20);
+
+    for (int i = 0; i < 20; i++) {
+      String name = "task" + i;
+      runner.runOrdered(
+          "lane",
+          () -> {
+            executed.add(name);
+            done.countDown();
+          });
+    }
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 20; i++) {
+      assertThat(executed.get(i)).isEqualTo("task" + i);
+    }
+  }
+
+  @Test
+  public void givenRunningTask_whenSubmittingWithoutKey_ShouldJoinTheLaneOfTheRunningTask()
+      throws Exception {
+    ExecutorAsyncRunner runner = new ExecutorAsyncRunner(executor, true);
+    CountDownLatch done = new CountDownLatch(1);
+    Object[] nestedKey = new Object[1];
+
+    runner.runOrdered(
+        "lane",
+        () ->
+            runner.runAsync(
+                () -> {
+                  nestedKey[0] = ExecutorAsyncRunner.currentOrderingKey();
+                  done.countDown();
+                }));
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(nestedKey[0]).isEqualTo("lane");
+  }
+
+  @Test
+  public void givenFailingTask_whenRunning_ShouldReportTheFailureAndRunTheNextTasks()
+      throws Exception {
+    ExecutorAsyncRunner runner = new ExecutorAsyncRunner(executor);
+    CountDownLatch done = new CountDownLatch(1);
+
+    runner.runAsync(
+        new AsyncRunner.AsyncTask() {
+          @Override
+          public void onSuccess() {
+            throw new IllegalStateException("failed");
+          }
+
+          @Override
+          public void onFailed(Throwable error) {
+            executed.add("failed : " + error.getMessage());
+          }
+        });
+    runner.runAsync(
+        () -> {
+          executed.add("next");
+          done.countDown();
+        });
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(executed).containsExactly("failed : failed", "next");
+  }
+
+  @Test
+  public void givenDelayedTask_whenDelayElapses_ShouldRunIt() throws Exception {
+    ExecutorAsyncRunner runner = new ExecutorAsyncRunner(executor);
+    CountDownLatch done = new CountDownLatch(1);
+    long start = System.nanoTime();
+
+    runner.runDelayed(50, done::countDown);
+
+    assertThat(runner.supportsDelay()).isTrue();
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+        .isGreaterThanOrEqualTo(50L);
+  }
+}
@@ -15,7 +15,9 @@
  */
 package org.dominokit.domino.view;
 
+import elemental2.dom.DomGlobal;
 import org.dominokit.domino.api.client.InitOptions;
+import org.dominokit.domino.api.client.mvp.slots.BatchingSlotsManager;
 import org.dominokit.domino.api.client.mvp.slots.SlotsManager;
 import org.dominokit.domino.api.shared.extension.PredefinedSlots;
 import org.dominokit.domino.view.slots.BodyElementSlot;
@@ -28,6 +30,7 @@ import org.slf4j.LoggerFactory;
 public class DominoViewOptions implements InitOptions {
   public static final Logger LOGGER = LoggerFactory.getLogger(DominoViewOptions.class);
   private String rootPath = "";
+  private final SlotsManager elementsSlotsManager;
   private SlotsManager slotsManager;
 
   public static DominoViewOptions getInstance() {
@@ -35,7 +38,8 @@ public class DominoViewOptions implements InitOptions {
   }
 
   public DominoViewOptions() {
-    this.slotsManager = new ElementsSlotsManager();
+    this.elementsSlotsManager = new ElementsSlotsManager();
+    this.slotsManager = elementsSlotsManager;
     this.slotsManager.registerSlot(PredefinedSlots.BODY_SLOT, BodyElementSlot.create());
     LOGGER.info("[" + PredefinedSlots.BODY_SLOT + "] slot registered");
     this.slotsManager.registerSlot(PredefinedSlots.MODAL_SLOT, ModalSlot.create());
@@ -49,6 +53,21 @@ public class DominoViewOptions implements InitOptions {
     return this;
   }
 
+  /**
+   * When enabled the slots operations requested within the same frame are applied together in the
+   * next animation frame, see {@link BatchingSlotsManager}.
+   */
+  public DominoViewOptions setBatchSlotsOperations(boolean batch) {
+    if (batch) {
+      this.slotsManager =
+          new BatchingSlotsManager(
+              elementsSlotsManager, flush -> DomGlobal.requestAnimationFrame(time -> flush.run()));
+    } else {
+      this.slotsManager = elementsSlotsManager;
+    }
+    return this;
+  }
+
   @Override
   public String getRootPath() {
     return rootPath;
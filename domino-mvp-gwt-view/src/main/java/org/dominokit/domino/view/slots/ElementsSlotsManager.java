@@ -15,11 +15,13 @@
  */
 package org.dominokit.domino.view.slots;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.view.slots.AppendElementSlot.APPEND_ELEMENT_SLOT;
 import static org.dominokit.domino.view.slots.SingleElementSlot.SINGLE_ELEMENT_SLOT;
 
 import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
 import java.util.Deque;
 import java.util.HashMap;
@@ -28,20 +30,34 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 import jsinterop.base.Js;
+import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.domino.api.client.mvp.slots.ContentSlot;
 import org.dominokit.domino.api.client.mvp.slots.InvalidSlotException;
 import org.dominokit.domino.api.client.mvp.slots.InvalidSlotTypeException;
 import org.dominokit.domino.api.client.mvp.slots.IsSlot;
 import org.dominokit.domino.api.client.mvp.slots.SlotsManager;
 import org.dominokit.domino.api.client.mvp.view.HasContent;
+import org.dominokit.domino.api.client.tracing.LifecycleEventType;
 import org.dominokit.domino.gwt.client.slots.ElementSlot;
 import org.dominokit.domino.ui.utils.ElementsFactory;
 
+/**
+ * Manages the predefined slots and the element slots of the application.
+ *
+ * <p>Element slots are indexed by their lower case name when they are registered, the most recently
+ * registered slot of a name is the innermost one when slots of the same name are nested, so
+ * revealing a view is a map lookup. Indexed slots are dropped once their element is detached or
+ * their name attribute is removed by {@link IsSlot#cleanUp()}. Slots declared in the page markup
+ * with the {@link IsSlot#DOMINO_SLOT_NAME} attribute without being registered are looked up in the
+ * DOM the first time they are requested and indexed from then on.
+ */
 public class ElementsSlotsManager implements SlotsManager, ElementsFactory {
 
   public static final Logger LOGGER = Logger.getLogger(ElementsSlotsManager.class.getName());
 
   private static final Map<String, Deque<IsSlot<?>>> PREDEFINED_SLOTS = new HashMap<>();
+  private static final IndexedSlots<ElementSlot> ELEMENT_SLOTS =
+      new IndexedSlots<>(ElementsSlotsManager::isAttached);
 
   private Optional<HTMLElement> getSlotElementByKey(String slotKey) {
     return Optional.ofNullable(getSlotElementByKey(slotKey, DomGlobal.document.body));
@@ -57,32 +73,33 @@ public class ElementsSlotsManager implements SlotsManager, ElementsFactory {
   }
 
   public void registerSlot(String key, IsSlot<?> slot) {
-    LOGGER.info(" >> REGISTERING SLOT [" + key + "]");
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.SLOT_REGISTERED, ElementsSlotsManager.class, key);
     slot.setName(key);
     slot.setType();
+    String slotKey = key.toLowerCase();
     if (slot instanceof ElementSlot) {
+      ELEMENT_SLOTS.push(slotKey, (ElementSlot) slot);
       return;
     }
-    if (!PREDEFINED_SLOTS.containsKey(key.toLowerCase())) {
-      PREDEFINED_SLOTS.put(key.toLowerCase(), new LinkedList<>());
-    }
-    PREDEFINED_SLOTS.get(key.toLowerCase()).push(slot);
+    PREDEFINED_SLOTS.computeIfAbsent(slotKey, k -> new LinkedList<>()).push(slot);
   }
 
   public void removeSlot(String key) {
-    LOGGER.info(" << REMOVING SLOT [" + key + "]");
-    if (PREDEFINED_SLOTS.containsKey(key.toLowerCase())) {
-      IsSlot<?> slot = PREDEFINED_SLOTS.get(key.toLowerCase()).pop();
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.SLOT_REMOVED, ElementsSlotsManager.class, key);
+    String slotKey = key.toLowerCase();
+    if (PREDEFINED_SLOTS.containsKey(slotKey)) {
+      IsSlot<?> slot = PREDEFINED_SLOTS.get(slotKey).pop();
       slot.cleanUp();
-
     } else {
-      Optional<HTMLElement> elementSlot = getSlotElementByKey(key);
-      elementSlot.ifPresent(
-          element -> {
-            String slotType = getSlotType(element);
-            Optional<ElementSlot> elementSlotByType = getElementSlotByType(slotType, element);
-            elementSlotByType.ifPresent(IsSlot::cleanUp);
-          });
+      ElementSlot elementSlot = findElementSlot(key, slotKey);
+      if (nonNull(elementSlot)) {
+        ELEMENT_SLOTS.remove(slotKey, elementSlot);
+        elementSlot.cleanUp();
+      }
     }
   }
 
@@ -92,23 +109,47 @@ public class ElementsSlotsManager implements SlotsManager, ElementsFactory {
 
   @Override
   public void revealView(String slotKey, HasContent view, HasContent.CreateHandler createHandler) {
-    if (!PREDEFINED_SLOTS.containsKey(slotKey) && !getSlotElementByKey(slotKey).isPresent()) {
+    String key = slotKey.toLowerCase();
+    Deque<IsSlot<?>> predefinedSlots = PREDEFINED_SLOTS.get(key);
+    if (nonNull(predefinedSlots)) {
+      ContentSlot slot = (ContentSlot) predefinedSlots.peek();
+      slot.updateContent(view, createHandler);
+      return;
+    }
+    ElementSlot elementSlot = findElementSlot(slotKey, key);
+    if (isNull(elementSlot)) {
       throw new InvalidSlotException(slotKey);
     }
-    if (PREDEFINED_SLOTS.containsKey(slotKey.toLowerCase())) {
-      ContentSlot slot = (ContentSlot) PREDEFINED_SLOTS.get(slotKey.toLowerCase()).peek();
-      slot.updateContent(view, createHandler);
-    } else {
-      Optional<HTMLElement> slotElement = getSlotElementByKey(slotKey);
-      if (slotElement.isPresent()) {
-        Optional<ElementSlot> elementSlotByType =
-            getElementSlotByType(getSlotType(slotElement.get()), slotElement.get());
-        HTMLElement viewElement = Js.uncheckedCast(view.getContent(createHandler).get());
-        elementSlotByType.get().updateContent(viewElement);
-      } else {
-        throw new InvalidSlotException(slotKey);
-      }
+    HTMLElement viewElement = Js.uncheckedCast(view.getContent(createHandler).get());
+    elementSlot.updateContent(viewElement);
+  }
+
+  /**
+   * Finds the element slot from the index, falling back to the DOM for slots declared in the page
+   * markup, the slot found in the DOM is indexed for the next lookups.
+   */
+  private ElementSlot findElementSlot(String slotKey, String key) {
+    ElementSlot indexed = ELEMENT_SLOTS.get(key);
+    if (nonNull(indexed)) {
+      return indexed;
     }
+    Optional<HTMLElement> slotElement = getSlotElementByKey(slotKey);
+    if (!slotElement.isPresent()) {
+      return null;
+    }
+    ElementSlot elementSlot =
+        getElementSlotByType(getSlotType(slotElement.get()), slotElement.get()).orElse(null);
+    if (nonNull(elementSlot)) {
+      ELEMENT_SLOTS.push(key, elementSlot);
+    }
+    return elementSlot;
+  }
+
+  private static boolean isAttached(String key, ElementSlot slot) {
+    Element element = slot.getSlotElement();
+    return nonNull(element)
+        && key.equalsIgnoreCase(element.getAttribute(IsSlot.DOMINO_SLOT_NAME))
+        && DomGlobal.document.body.contains(element);
   }
 
   public Optional<ElementSlot> getElementSlotByType(String type, HTMLElement element) {
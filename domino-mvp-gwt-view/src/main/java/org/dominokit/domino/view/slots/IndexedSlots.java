@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.view.slots;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Indexes slots by their lower case name, the most recently indexed slot of a name is the active
+ * one. Slots that are no longer attached are dropped lazily when their name is looked up.
+ */
+class IndexedSlots<S> {
+
+  private final Map<String, Deque<S>> slots = new HashMap<>();
+  private final BiPredicate<String, S> attached;
+
+  /** @param attached tells if the slot is still attached under the key */
+  IndexedSlots(BiPredicate<String, S> attached) {
+    this.attached = attached;
+  }
+
+  void push(String key, S slot) {
+    slots.computeIfAbsent(key, k -> new LinkedList<>()).push(slot);
+  }
+
+  /** @return the active attached slot of the key, or null after dropping the detached ones */
+  S get(String key) {
+    Deque<S> keySlots = slots.get(key);
+    if (isNull(keySlots)) {
+      return null;
+    }
+    while (!keySlots.isEmpty() && !attached.test(key, keySlots.peek())) {
+      keySlots.pop();
+    }
+    if (keySlots.isEmpty()) {
+      slots.remove(key);
+      return null;
+    }
+    return keySlots.peek();
+  }
+
+  void remove(String key, S slot) {
+    Deque<S> keySlots = slots.get(key);
+    if (nonNull(keySlots)) {
+      keySlots.remove(slot);
+      if (keySlots.isEmpty()) {
+        slots.remove(key);
+      }
+    }
+  }
+
+  /** @return the number of slots indexed under the key, including the detached ones */
+  int size(String key) {
+    Deque<S> keySlots = slots.get(key);
+    return isNull(keySlots) ? 0 : keySlots.size();
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.view.slots;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexedSlotsTest {
+
+  private Set<String> detached;
+  private IndexedSlots<String> slots;
+
+  @Before
+  public void setUp() throws Exception {
+    detached = new HashSet<>();
+    slots = new IndexedSlots<>((key, slot) -> !detached.contains(slot));
+  }
+
+  @Test
+  public void givenNestedSlotsOfSameName_whenLookingUp_ShouldReturnInnermost() throws Exception {
+    slots.push("content", "outer");
+    slots.push("content", "inner");
+
+    assertThat(slots.get("content")).isEqualTo("inner");
+  }
+
+  @Test
+  public void givenDetachedInnerSlot_whenLookingUp_ShouldDropItAndReturnOuter() throws Exception {
+    slots.push("content", "outer");
+    slots.push("content", "inner");
+    detached.add("inner");
+
+    assertThat(slots.get("content")).isEqualTo("outer");
+    assertThat(slots.size("content")).isEqualTo(1);
+  }
+
+  @Test
+  public void givenOnlyDetachedSlots_whenLookingUp_ShouldDropTheKey() throws Exception {
+    slots.push("content", "outer");
+    slots.push("content", "inner");
+    detached.add("outer");
+    detached.add("inner");
+
+    assertThat(slots.get("content")).isNull();
+    assertThat(slots.size("content")).isEqualTo(0);
+  }
+
+  @Test
+  public void givenDetachedOuterSlot_whenLookingUp_ShouldKeepItUntilItIsActive() throws Exception {
+    slots.push("content", "outer");
+    slots.push("content", "inner");
+    detached.add("outer");
+
+    assertThat(slots.get("content")).isEqualTo("inner");
+    assertThat(slots.size("content")).isEqualTo(2);
+
+    slots.remove("content", "inner");
+
+    assertThat(slots.get("content")).isNull();
+    assertThat(slots.size("content")).isEqualTo(0);
+  }
+
+  @Test
+  public void givenSlotReattachedUnderAnotherName_whenLookingUp_ShouldNotReturnIt()
+      throws Exception {
+    IndexedSlots<String> named = new IndexedSlots<>((key, slot) -> slot.startsWith(key));
+    named.push("content", "content-slot");
+    named.push("content", "renamed-slot");
+
+    assertThat(named.get("content")).isEqualTo("content-slot");
+  }
+
+  @Test
+  public void givenRemovedSlot_whenLookingUp_ShouldReturnPreviousOne() throws Exception {
+    slots.push("content", "outer");
+    slots.push("content", "inner");
+
+    slots.remove("content", "inner");
+
+    assertThat(slots.get("content")).isEqualTo("outer");
+    slots.remove("content", "outer");
+    assertThat(slots.get("content")).isNull();
+  }
+
+  @Test
+  public void givenUnknownKey_whenLookingUp_ShouldReturnNull() throws Exception {
+    assertThat(slots.get("unknown")).isNull();
+    slots.remove("unknown", "slot");
+    assertThat(slots.size("unknown")).isEqualTo(0);
+  }
+}
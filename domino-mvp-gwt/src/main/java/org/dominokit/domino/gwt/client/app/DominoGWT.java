@@ -15,6 +15,8 @@
  */
 package org.dominokit.domino.gwt.client.app;
 
+import static java.util.Objects.nonNull;
+
 // import com.google.gwt.core.client.GWT;
 
 import org.dominokit.domino.api.client.ClientApp;
@@ -23,6 +25,7 @@ import org.dominokit.domino.api.client.mvp.slots.SlotsManager;
 import org.dominokit.domino.client.commons.request.ClientRouter;
 import org.dominokit.domino.client.history.StateHistory;
 import org.dominokit.domino.gwt.client.async.GwtAsyncRunner;
+import org.dominokit.domino.gwt.client.async.GwtPriorityAsyncRunner;
 import org.dominokit.domino.gwt.client.events.ClientEventFactory;
 import org.dominokit.domino.gwt.client.events.ClientRequestGwtEvent;
 import org.dominokit.domino.gwt.client.extensions.CustomEventsDominoEventsRepository;
@@ -54,12 +57,19 @@ public class DominoGWT {
     DominoRestConfig.initDefaults();
     ClientApp.ClientAppBuilder.clientRouter(clientRouter)
         .eventsBus(DominoSimpleEventsBus.INSTANCE)
-        .eventsListenersRepository(new CustomEventsDominoEventsRepository())
+        .eventsListenersRepository(
+            nonNull(initOptions.getEventsListenersRepository())
+                ? initOptions.getEventsListenersRepository()
+                : new CustomEventsDominoEventsRepository())
         .history(new DominoMvpHistory(initOptions.getRootPath()))
-        .asyncRunner(new GwtAsyncRunner())
+        .asyncRunner(
+            nonNull(initOptions.getAsyncRunner())
+                ? initOptions.getAsyncRunner()
+                : new GwtAsyncRunner())
         .dominoOptions(new DefaultDominoOptions())
         .slotsManager(initOptions.getSlotsManager())
         .presentersNamesRegistry(new WebNamedPresenters())
+        .clock(GwtPriorityAsyncRunner.PERFORMANCE_CLOCK)
         .build();
   }
 
@@ -15,6 +15,7 @@
  */
 package org.dominokit.domino.gwt.client.async;
 
+import elemental2.dom.DomGlobal;
 import org.dominokit.domino.api.client.async.AsyncRunner;
 import org.gwtproject.core.client.Scheduler;
 
@@ -32,4 +33,14 @@ public class GwtAsyncRunner implements AsyncRunner {
               }
             });
   }
+
+  @Override
+  public void runDelayed(double delayMillis, AsyncTask asyncTask) {
+    DomGlobal.setTimeout(ignore -> runAsync(asyncTask), delayMillis);
+  }
+
+  @Override
+  public boolean supportsDelay() {
+    return true;
+  }
 }
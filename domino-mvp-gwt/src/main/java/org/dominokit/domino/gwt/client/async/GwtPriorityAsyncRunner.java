@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.gwt.client.async;
+
+import elemental2.dom.DomGlobal;
+import org.dominokit.domino.api.client.async.AsyncPriority;
+import org.dominokit.domino.api.client.async.MonotonicClock;
+import org.dominokit.domino.api.client.async.PriorityAsyncRunner;
+import org.gwtproject.core.client.Scheduler;
+
+/**
+ * A {@link PriorityAsyncRunner} that runs its ticks as deferred commands and measures time using
+ * the browser performance api.
+ */
+public class GwtPriorityAsyncRunner extends PriorityAsyncRunner {
+
+  public static final MonotonicClock PERFORMANCE_CLOCK = () -> DomGlobal.performance.now();
+
+  public GwtPriorityAsyncRunner() {
+    this(DEFAULT_TICK_BUDGET);
+  }
+
+  public GwtPriorityAsyncRunner(double tickBudget) {
+    super(
+        tick -> Scheduler.get().scheduleDeferred(tick::run),
+        PERFORMANCE_CLOCK,
+        tickBudget,
+        AsyncPriority.DATA);
+  }
+
+  @Override
+  public void runDelayed(double delayMillis, AsyncTask asyncTask) {
+    DomGlobal.setTimeout(ignore -> runAsync(asyncTask), delayMillis);
+  }
+
+  @Override
+  public boolean supportsDelay() {
+    return true;
+  }
+}
@@ -16,131 +16,224 @@
 package org.dominokit.domino.gwt.client.extensions;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import elemental2.dom.*;
 import elemental2.dom.EventListener;
 import java.util.*;
-import java.util.stream.Collectors;
 import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
 import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.domino.api.client.extension.DominoEventsListenersRepository;
+import org.dominokit.domino.api.client.extension.ListenersChain;
+import org.dominokit.domino.api.client.mvp.RegistrationHandler;
 import org.dominokit.domino.api.shared.extension.DominoEvent;
 import org.dominokit.domino.api.shared.extension.DominoEventListener;
 import org.dominokit.domino.api.shared.extension.GlobalDominoEventListener;
 import org.dominokit.domino.api.shared.extension.GlobalEvent;
 
+/**
+ * A listeners repository for the browser that delivers global events to other applications on the
+ * same page using DOM custom events dispatched on the document.
+ *
+ * <p>In {@link GlobalDispatchMode#DOM} mode every global event is serialized and dispatched as a
+ * DOM event, including for the listeners of this application. In {@link GlobalDispatchMode#DIRECT}
+ * mode the event object is delivered directly to the listeners of this application, and the event
+ * is only serialized and dispatched to the DOM when a listener from another application on the page
+ * is registered for it. Each repository publishes its global listeners count per event type on the
+ * window so other applications can tell if anyone else is listening, this requires all the
+ * applications on the page to use a version of this repository that publishes those counts.
+ */
 public class CustomEventsDominoEventsRepository implements DominoEventsListenersRepository {
 
-  private final Map<String, List<ListenerWrapper>> listeners = new HashMap<>();
-  private final Map<String, List<GlobalListenerWrapper>> globalListeners = new HashMap<>();
+  private static final String GLOBAL_LISTENERS_COUNT = "domino-mvp-global-listeners";
+  private static final String SOURCE_APP = "dominoSourceApp";
+
+  private final Map<String, ListenersChain> listeners = new HashMap<>();
+  private final Map<String, ListenersChain> globalListeners = new HashMap<>();
+  private final GlobalDispatchMode globalDispatchMode;
+  private final String sourceId = "domino-app-" + Math.random();
+
+  public CustomEventsDominoEventsRepository() {
+    this(GlobalDispatchMode.DOM);
+  }
+
+  public CustomEventsDominoEventsRepository(GlobalDispatchMode globalDispatchMode) {
+    this.globalDispatchMode = globalDispatchMode;
+  }
 
   @Override
-  public void addListener(
+  public RegistrationHandler addListener(
       Class<? extends DominoEvent> dominoEvent, DominoEventListener dominoEventListener) {
-    initializeEventListeners(dominoEvent);
-    ListenerWrapper wrapper = new ListenerWrapper(dominoEventListener);
-    listeners.get(dominoEvent.getCanonicalName()).add(wrapper);
+    String key = dominoEvent.getCanonicalName();
+    ListenersChain chain = listeners.computeIfAbsent(key, k -> new ListenersChain());
+    ListenersChain.Node node = chain.add(dominoEventListener);
+    return () -> removeNode(listeners, key, chain, node);
   }
 
   @Override
-  public void addGlobalListener(
+  public RegistrationHandler addGlobalListener(
       Class<? extends DominoEvent> dominoEvent, GlobalDominoEventListener dominoEventListener) {
-    initializeGlobalEventListeners(dominoEvent);
-    GlobalListenerWrapper wrapper = new GlobalListenerWrapper(dominoEventListener);
-    globalListeners.get(dominoEvent.getCanonicalName()).add(wrapper);
-    DomGlobal.document.addEventListener(
-        dominoEvent.getCanonicalName(), wrapper.dominoCustomEventListener);
+    String key = dominoEvent.getCanonicalName();
+    ListenersChain chain = globalListeners.computeIfAbsent(key, k -> new ListenersChain());
+    GlobalListenerWrapper wrapper = new GlobalListenerWrapper(dominoEventListener, sourceId);
+    ListenersChain.Node node = chain.add(wrapper);
+    DomGlobal.document.addEventListener(key, wrapper.dominoCustomEventListener);
+    updatePageListenersCount(key, 1);
+    return () -> removeGlobalNode(key, chain, node);
   }
 
   @Override
   public Set<DominoEventListener> getEventListeners(Class<? extends DominoEvent> dominoEvent) {
-    initializeEventListeners(dominoEvent);
-    return listeners.get(dominoEvent.getCanonicalName()).stream()
-        .map(cw -> cw.dominoEventListener)
-        .collect(Collectors.toSet());
+    ListenersChain chain = listeners.get(dominoEvent.getCanonicalName());
+    if (isNull(chain)) {
+      return new HashSet<>();
+    }
+    return new LinkedHashSet<>(Arrays.asList(chain.snapshot()));
   }
 
   @Override
   public void fireEvent(Class<? extends DominoEvent> eventType, DominoEvent dominoEvent) {
     if (dominoEvent instanceof GlobalEvent) {
-      CustomEventInit customEventInit = CustomEventInit.create();
-      customEventInit.setDetail(((GlobalEvent) dominoEvent).serialize());
-      CustomEvent customEvent = new CustomEvent(eventType.getCanonicalName(), customEventInit);
-      DomGlobal.document.dispatchEvent(customEvent);
+      if (GlobalDispatchMode.DIRECT.equals(globalDispatchMode)) {
+        fireGlobalEventDirectly(eventType.getCanonicalName(), dominoEvent);
+      } else {
+        dispatchGlobalEvent(eventType.getCanonicalName(), (GlobalEvent) dominoEvent);
+      }
     } else {
-      getEventListeners(eventType)
-          .forEach(
-              listener ->
-                  ClientApp.make()
-                      .getAsyncRunner()
-                      .runAsync(() -> listener.onEventReceived(dominoEvent)));
+      ListenersChain chain = listeners.get(eventType.getCanonicalName());
+      if (isNull(chain)) {
+        return;
+      }
+      for (DominoEventListener listener : chain.snapshot()) {
+        ClientApp.make().getAsyncRunner().runAsync(() -> listener.onEventReceived(dominoEvent));
+      }
+    }
+  }
+
+  private void fireGlobalEventDirectly(String key, DominoEvent dominoEvent) {
+    ListenersChain chain = globalListeners.get(key);
+    int localListeners = isNull(chain) ? 0 : chain.size();
+    if (pageListenersCount(key) > localListeners) {
+      dispatchGlobalEvent(key, (GlobalEvent) dominoEvent);
+    }
+    if (isNull(chain)) {
+      return;
+    }
+    for (DominoEventListener listener : chain.snapshot()) {
+      try {
+        listener.onEventReceived(dominoEvent);
+      } catch (Exception e) {
+        DomGlobal.console.error("Failed to deliver global event : " + key, e);
+      }
+    }
+  }
+
+  private void dispatchGlobalEvent(String key, GlobalEvent globalEvent) {
+    CustomEventInit customEventInit = CustomEventInit.create();
+    customEventInit.setDetail(globalEvent.serialize());
+    CustomEvent customEvent = new CustomEvent(key, customEventInit);
+    if (GlobalDispatchMode.DIRECT.equals(globalDispatchMode)) {
+      Js.asPropertyMap(customEvent).set(SOURCE_APP, sourceId);
     }
+    DomGlobal.document.dispatchEvent(customEvent);
+  }
+
+  private static double pageListenersCount(String key) {
+    JsPropertyMap<Object> counts = pageListenersCounts();
+    return counts.has(key) ? Js.asDouble(counts.get(key)) : 0;
   }
 
-  private List<ListenerWrapper> getEventListenersWrapper(Class<? extends DominoEvent> dominoEvent) {
-    initializeEventListeners(dominoEvent);
-    return listeners.get(dominoEvent.getCanonicalName());
+  private static void updatePageListenersCount(String key, double delta) {
+    pageListenersCounts().set(key, pageListenersCount(key) + delta);
   }
 
-  private List<GlobalListenerWrapper> getGlobalEventListenersWrapper(
-      Class<? extends DominoEvent> dominoEvent) {
-    initializeGlobalEventListeners(dominoEvent);
-    return globalListeners.get(dominoEvent.getCanonicalName());
+  private static JsPropertyMap<Object> pageListenersCounts() {
+    JsPropertyMap<Object> windowAsMap = Js.asPropertyMap(DomGlobal.window);
+    if (!windowAsMap.has(GLOBAL_LISTENERS_COUNT)) {
+      windowAsMap.set(GLOBAL_LISTENERS_COUNT, JsPropertyMap.of());
+    }
+    return Js.uncheckedCast(windowAsMap.get(GLOBAL_LISTENERS_COUNT));
   }
 
   @Override
   public void removeListener(Class<? extends DominoEvent> event, DominoEventListener listener) {
-    List<ListenerWrapper> eventListeners = getEventListenersWrapper(event);
-    eventListeners.remove(new ListenerWrapper(listener));
-
-    if (eventListeners.isEmpty()) {
-      listeners.remove(event.getCanonicalName());
+    String key = event.getCanonicalName();
+    ListenersChain chain = listeners.get(key);
+    if (isNull(chain)) {
+      return;
+    }
+    ListenersChain.Node node = chain.find(listener);
+    if (nonNull(node)) {
+      removeNode(listeners, key, chain, node);
     }
   }
 
   @Override
   public void removeGlobalListener(
       Class<? extends DominoEvent> event, GlobalDominoEventListener listener) {
-    List<GlobalListenerWrapper> eventListeners = getGlobalEventListenersWrapper(event);
-    int index = eventListeners.indexOf(new GlobalListenerWrapper(listener));
-    if (index >= 0) {
-      GlobalListenerWrapper tobeRemoved = eventListeners.get(index);
-      eventListeners.remove(tobeRemoved);
-      DomGlobal.document.removeEventListener(
-          event.getCanonicalName(), tobeRemoved.dominoCustomEventListener);
-      DomGlobal.console.info(
-          "Event listener removed : "
-              + event.getCanonicalName()
-              + " : "
-              + listener.getClass().getCanonicalName());
+    String key = event.getCanonicalName();
+    ListenersChain chain = globalListeners.get(key);
+    if (isNull(chain)) {
+      return;
     }
-
-    if (eventListeners.isEmpty()) {
-      globalListeners.remove(event.getCanonicalName());
+    for (DominoEventListener wrapper : chain.snapshot()) {
+      if (((GlobalListenerWrapper) wrapper).dominoEventListener == listener) {
+        removeGlobalNode(key, chain, chain.find(wrapper));
+        return;
+      }
     }
   }
 
-  private void initializeEventListeners(Class<? extends DominoEvent> extensionPoint) {
-    if (isNull(listeners.get(extensionPoint.getCanonicalName())))
-      listeners.put(extensionPoint.getCanonicalName(), new LinkedList<>());
+  private void removeGlobalNode(String key, ListenersChain chain, ListenersChain.Node node) {
+    if (node.isAttached()) {
+      GlobalListenerWrapper wrapper = (GlobalListenerWrapper) node.getListener();
+      DomGlobal.document.removeEventListener(key, wrapper.dominoCustomEventListener);
+      updatePageListenersCount(key, -1);
+      DomGlobal.console.info(
+          "Event listener removed : "
+              + key
+              + " : "
+              + wrapper.dominoEventListener.getClass().getCanonicalName());
+    }
+    removeNode(globalListeners, key, chain, node);
   }
 
-  private void initializeGlobalEventListeners(Class<? extends DominoEvent> extensionPoint) {
-    if (isNull(globalListeners.get(extensionPoint.getCanonicalName())))
-      globalListeners.put(extensionPoint.getCanonicalName(), new LinkedList<>());
+  private static void removeNode(
+      Map<String, ListenersChain> listeners,
+      String key,
+      ListenersChain chain,
+      ListenersChain.Node node) {
+    if (chain.remove(node) && chain.isEmpty() && listeners.get(key) == chain) {
+      listeners.remove(key);
+    }
   }
 
   public static class DominoCustomEventListener implements EventListener {
 
     private final DominoEventListener<DominoEvent> dominoEventListener;
+    private final String sourceId;
 
     public DominoCustomEventListener(DominoEventListener<DominoEvent> dominoEventListener) {
+      this(dominoEventListener, null);
+    }
+
+    /**
+     * @param sourceId events dispatched by the application with this id are ignored as they were
+     *     already delivered directly
+     */
+    public DominoCustomEventListener(
+        DominoEventListener<DominoEvent> dominoEventListener, String sourceId) {
       this.dominoEventListener = dominoEventListener;
+      this.sourceId = sourceId;
     }
 
     @Override
     public void handleEvent(Event evt) {
       CustomEvent customEvent = Js.uncheckedCast(evt);
+      if (nonNull(sourceId) && sourceId.equals(Js.asPropertyMap(customEvent).get(SOURCE_APP))) {
+        return;
+      }
       if (dominoEventListener instanceof GlobalDominoEventListener) {
         DominoEvent event =
             ((GlobalDominoEventListener<?>) dominoEventListener)
@@ -150,35 +243,30 @@ public class CustomEventsDominoEventsRepository implements DominoEventsListeners
     }
   }
 
-  private static class GlobalListenerWrapper extends ListenerWrapper {
-    private final DominoCustomEventListener dominoCustomEventListener;
-
-    public GlobalListenerWrapper(DominoEventListener<DominoEvent> dominoEventListener) {
-      super(dominoEventListener);
-      this.dominoCustomEventListener = new DominoCustomEventListener(dominoEventListener);
-    }
-  }
-
-  private static class ListenerWrapper {
-
+  private static class GlobalListenerWrapper implements DominoEventListener<DominoEvent> {
     private final DominoEventListener<DominoEvent> dominoEventListener;
+    private final DominoCustomEventListener dominoCustomEventListener;
 
-    public ListenerWrapper(DominoEventListener<DominoEvent> dominoEventListener) {
+    public GlobalListenerWrapper(
+        DominoEventListener<DominoEvent> dominoEventListener, String sourceId) {
       this.dominoEventListener = dominoEventListener;
+      this.dominoCustomEventListener = new DominoCustomEventListener(dominoEventListener, sourceId);
     }
 
     @Override
-    public boolean equals(Object other) {
-      if (isNull(other)) return false;
-      return dominoEventListener
-          .getClass()
-          .getCanonicalName()
-          .equals(((ListenerWrapper) other).dominoEventListener.getClass().getCanonicalName());
+    public void onEventReceived(DominoEvent dominoEvent) {
+      dominoEventListener.onEventReceived(dominoEvent);
     }
+  }
 
-    @Override
-    public int hashCode() {
-      return dominoEventListener.getClass().getCanonicalName().hashCode();
-    }
+  /** How global events are delivered to the global listeners of the same application. */
+  public enum GlobalDispatchMode {
+    /** Always serialize the event and deliver it through a DOM custom event. */
+    DOM,
+    /**
+     * Deliver the event object directly, and only serialize it when other applications on the page
+     * are listening.
+     */
+    DIRECT
   }
 }
@@ -34,6 +34,7 @@ import jsinterop.base.Js;
 import jsinterop.base.JsPropertyMap;
 import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.domino.api.client.extension.PresentersNamesRegistry;
+import org.dominokit.domino.api.client.tracing.LifecycleEventType;
 
 public class WebNamedPresenters implements PresentersNamesRegistry {
   public static final Logger LOGGER = Logger.getLogger(WebNamedPresenters.class.getName());
@@ -48,7 +49,12 @@ public class WebNamedPresenters implements PresentersNamesRegistry {
           CustomEvent<String> customEvent = Js.uncheckedCast(evt);
           String presenterName = customEvent.detail;
           if (!get(presenterName).isPresent()) {
-            LOGGER.info("Global register presenter name event received : [" + presenterName + "].");
+            ClientApp.make()
+                .lifecycleTracer()
+                .trace(
+                    LifecycleEventType.PRESENTER_NAME_RECEIVED,
+                    WebNamedPresenters.class,
+                    presenterName);
             registerPresenterName(presenterName);
           }
         });
@@ -59,7 +65,12 @@ public class WebNamedPresenters implements PresentersNamesRegistry {
           CustomEvent<String> customEvent = Js.uncheckedCast(evt);
           String presenterName = customEvent.detail;
           if (get(presenterName).isPresent()) {
-            LOGGER.info("Global remove presenter name event received : [" + presenterName + "].");
+            ClientApp.make()
+                .lifecycleTracer()
+                .trace(
+                    LifecycleEventType.PRESENTER_NAME_REMOVAL_RECEIVED,
+                    WebNamedPresenters.class,
+                    presenterName);
             removePresenterName(customEvent.detail);
           }
         });
@@ -79,7 +90,9 @@ public class WebNamedPresenters implements PresentersNamesRegistry {
   }
 
   private void registerPresenterName(String name) {
-    LOGGER.info(" >> REGISTERING PRESENTER [" + name + "]");
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.PRESENTER_NAME_REGISTERED, WebNamedPresenters.class, name);
     String key = name.toLowerCase();
     if (!NAMED_PRESENTERS.containsKey(key)) {
       NAMED_PRESENTERS.put(key, new LinkedList<>());
@@ -101,7 +114,9 @@ public class WebNamedPresenters implements PresentersNamesRegistry {
   public void registerPresenter(String name) {
     registerPresenterName(name);
     DomGlobal.document.dispatchEvent(createCustomEvent("register-domino-presenter-name", name));
-    LOGGER.info("Registering Presenter name event fired : " + name);
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.PRESENTER_NAME_PUBLISHED, WebNamedPresenters.class, name);
   }
 
   private CustomEvent<String> createCustomEvent(String type, String presenterName) {
@@ -111,7 +126,9 @@ public class WebNamedPresenters implements PresentersNamesRegistry {
   }
 
   private void removePresenterName(String name) {
-    LOGGER.info(" << REMOVING PRESENTER [" + name + "]");
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.PRESENTER_NAME_REMOVED, WebNamedPresenters.class, name);
     String key = name.toLowerCase();
     if (NAMED_PRESENTERS.containsKey(key)) {
       NAMED_PRESENTERS.get(key).pop();
@@ -130,7 +147,9 @@ public class WebNamedPresenters implements PresentersNamesRegistry {
   public void removePresenter(String name) {
     registerPresenterName(name);
     DomGlobal.document.dispatchEvent(createCustomEvent("remove-domino-presenter-name", name));
-    LOGGER.info("Removing Presenter name event fired : " + name);
+    ClientApp.make()
+        .lifecycleTracer()
+        .trace(LifecycleEventType.PRESENTER_NAME_REMOVAL_PUBLISHED, WebNamedPresenters.class, name);
   }
 
   public Optional<String> get(String name) {
@@ -143,13 +162,14 @@ public class WebNamedPresenters implements PresentersNamesRegistry {
   public void whenPresent(String name, ParentFunction parentFunction) {
     String key = name.toLowerCase();
     if (get(name).isPresent()) {
-      LOGGER.info(">> Parent presenter : " + name + " already registered, applying function");
+      ClientApp.make()
+          .lifecycleTracer()
+          .trace(LifecycleEventType.PARENT_PRESENT, WebNamedPresenters.class, name);
       parentFunction.apply();
     } else {
-      LOGGER.info(
-          "<< Parent presenter : "
-              + name
-              + " not registered yet, adding function to waiting list: ");
+      ClientApp.make()
+          .lifecycleTracer()
+          .trace(LifecycleEventType.PARENT_AWAITED, WebNamedPresenters.class, name);
       addFunction(key, parentFunction);
     }
   }
@@ -22,6 +22,11 @@ public abstract class ElementSlot implements IsSlot<Element> {
 
   protected abstract Element getElement();
 
+  /** @return the element of this slot, or {@code null} if it is not in the page */
+  public Element getSlotElement() {
+    return getElement();
+  }
+
   @Override
   public void setName(String name) {
     getElement().setAttribute(DOMINO_SLOT_NAME, name);
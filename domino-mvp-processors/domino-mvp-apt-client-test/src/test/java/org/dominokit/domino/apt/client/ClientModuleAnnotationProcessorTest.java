@@ -15,7 +15,136 @@
  */
 package org.dominokit.domino.apt.client;
 
-import org.junit.Ignore;
+import static org.assertj.core.api.Assertions.assertThat;
 
-@Ignore
-public class ClientModuleAnnotationProcessorTest {}
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.dominokit.domino.apt.client.processors.module.client.presenters.PresenterProcessor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClientModuleAnnotationProcessorTest {
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File output;
+
+  @Before
+  public void setUp() throws Exception {
+    output = temporaryFolder.newFolder("generated");
+  }
+
+  @Test
+  public void givenTokenLessAutoRoutePresenter_whenProcessed_ShouldGenerateCompilingRoutingTask()
+      throws Exception {
+    List<String> errors = compile(presenterSource("NoTokenPresenter", "@AutoRoute"));
+
+    assertThat(errors).isEmpty();
+    String task = generated("com/example/routing/NoTokenPresenterHistoryListenerTask.java");
+    assertThat(task).contains("extends BaseNoTokenRoutingStartupTask");
+    assertThat(task).doesNotContain("createPresenterCommand");
+    assertThat(task).doesNotContain("getRouteKey");
+  }
+
+  @Test
+  public void givenAutoRoutePresenterWithToken_whenProcessed_ShouldGenerateCompilingRoutingTask()
+      throws Exception {
+    List<String> errors =
+        compile(presenterSource("UsersPresenter", "@AutoRoute(token = \"users\")"));
+
+    assertThat(errors).isEmpty();
+    String task = generated("com/example/routing/UsersPresenterHistoryListenerTask.java");
+    assertThat(task).contains("extends BaseRoutingStartupTask");
+    assertThat(task).contains("createPresenterCommand");
+    assertThat(task).contains("return \"com.example.presenters.UsersPresenter\"");
+  }
+
+  private List<String> compile(JavaFileObject source) throws Exception {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    List<String> errors = new ArrayList<>();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      List<String> options =
+          Arrays.asList(
+              "-classpath",
+              System.getProperty("java.class.path"),
+              "-d",
+              output.getAbsolutePath(),
+              "-s",
+              output.getAbsolutePath());
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null, fileManager, diagnostics, options, null, Collections.singletonList(source));
+      task.setProcessors(Collections.singletonList(new PresenterProcessor()));
+      task.call();
+    }
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+        errors.add(diagnostic.toString());
+      }
+    }
+    return errors;
+  }
+
+  private String generated(String path) throws Exception {
+    File file = new File(output, path);
+    assertThat(file).exists();
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+  }
+
+  private static JavaFileObject presenterSource(String name, String autoRoute) {
+    String source =
+        "package com.example.presenters;\n"
+            + "\n"
+            + "import org.dominokit.domino.api.client.annotations.presenter.AutoRoute;\n"
+            + "import org.dominokit.domino.api.client.annotations.presenter.Presenter;\n"
+            + "import org.dominokit.domino.api.client.mvp.presenter.ViewablePresenter;\n"
+            + "import org.dominokit.domino.api.client.mvp.view.View;\n"
+            + "\n"
+            + "@Presenter\n"
+            + autoRoute
+            + "\n"
+            + "public class "
+            + name
+            + " extends ViewablePresenter<"
+            + name
+            + "."
+            + name
+            + "View> {\n"
+            + "  public interface "
+            + name
+            + "View extends View {}\n"
+            + "}\n";
+    return new SourceFile("com/example/presenters/" + name, source);
+  }
+
+  private static final class SourceFile extends SimpleJavaFileObject {
+    private final String source;
+
+    private SourceFile(String path, String source) {
+      super(URI.create("string:///" + path + Kind.SOURCE.extension), Kind.SOURCE);
+      this.source = source;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return source;
+    }
+  }
+}
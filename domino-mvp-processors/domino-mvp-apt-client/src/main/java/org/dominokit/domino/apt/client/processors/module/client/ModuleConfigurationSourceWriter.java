@@ -35,8 +35,11 @@ import org.dominokit.domino.api.client.InitialTaskRegistry;
 import org.dominokit.domino.api.client.ModuleConfiguration;
 import org.dominokit.domino.api.client.annotations.ClientModule;
 import org.dominokit.domino.api.client.annotations.UiView;
+import org.dominokit.domino.api.client.annotations.presenter.Cached;
+import org.dominokit.domino.api.client.annotations.presenter.Pooled;
 import org.dominokit.domino.api.client.annotations.presenter.PresenterProxy;
 import org.dominokit.domino.api.client.annotations.presenter.Singleton;
+import org.dominokit.domino.api.client.mvp.presenter.PresenterCache;
 import org.dominokit.domino.api.client.mvp.presenter.PresenterSupplier;
 import org.dominokit.domino.api.client.mvp.presenter.ViewablePresenter;
 import org.dominokit.domino.api.client.mvp.presenter.ViewablePresenterSupplier;
@@ -128,6 +131,11 @@ public class ModuleConfigurationSourceWriter extends AbstractSourceBuilder {
                                 TypeName.get(viewType),
                                 singleton,
                                 TypeName.get(presenter.asType())));
+                Pooled pooled = presenter.getAnnotation(Pooled.class);
+                if (nonNull(pooled)) {
+                  methodBuilder.addStatement(
+                      "$L.getPresenterSupplier().setPoolSize($L)", configName, pooled.value());
+                }
 
               } else {
                 methodBuilder.addStatement(
@@ -139,6 +147,16 @@ public class ModuleConfigurationSourceWriter extends AbstractSourceBuilder {
                     TypeName.get(presenter.asType()));
               }
 
+              Cached cached = presenter.getAnnotation(Cached.class);
+              if (nonNull(cached)) {
+                methodBuilder.addStatement(
+                    "$L.getPresenterSupplier().setCache(new $T<>($L, $L))",
+                    configName,
+                    TypeName.get(PresenterCache.class),
+                    cached.maxSize(),
+                    cached.maxIdleMillis());
+              }
+
               methodBuilder.addCode("\n");
             });
 
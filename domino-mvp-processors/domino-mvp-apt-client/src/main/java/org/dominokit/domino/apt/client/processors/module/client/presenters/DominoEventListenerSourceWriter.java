@@ -15,6 +15,8 @@
  */
 package org.dominokit.domino.apt.client.processors.module.client.presenters;
 
+import static java.util.Objects.nonNull;
+
 import com.google.auto.common.MoreElements;
 import com.squareup.javapoet.*;
 import java.util.Collections;
@@ -33,6 +35,8 @@ import org.dominokit.domino.apt.commons.DominoTypeBuilder;
 
 public class DominoEventListenerSourceWriter extends AbstractSourceBuilder {
 
+  private static final String PAYLOAD_DECODER = "PayloadDecoder";
+
   private final Element presenterElement;
   private final Element root;
   private final TypeElement eventType;
@@ -77,7 +81,18 @@ public class DominoEventListenerSourceWriter extends AbstractSourceBuilder {
             .addMethod(makeListenMethod());
 
     if (isGlobalEvent) {
-      listenerType.addMethod(makeCreateEventMethod(eventType));
+      Element payloadDecoder = findPayloadDecoder(eventType);
+      if (nonNull(payloadDecoder)) {
+        listenerType.addField(
+            FieldSpec.builder(
+                    TypeName.get(payloadDecoder.asType()),
+                    "payloadDecoder",
+                    Modifier.PRIVATE,
+                    Modifier.FINAL)
+                .initializer("new $T()", TypeName.get(payloadDecoder.asType()))
+                .build());
+      }
+      listenerType.addMethod(makeCreateEventMethod(eventType, nonNull(payloadDecoder)));
     }
     return Collections.singletonList(listenerType);
   }
@@ -108,12 +123,33 @@ public class DominoEventListenerSourceWriter extends AbstractSourceBuilder {
         .build();
   }
 
-  private MethodSpec makeCreateEventMethod(TypeElement eventType) {
-    return MethodSpec.methodBuilder("deserializeEvent")
-        .addAnnotation(Override.class)
-        .addModifiers(Modifier.PUBLIC)
-        .returns(TypeName.get(eventType.asType()))
-        .addParameter(TypeName.get(String.class), "serializedEvent")
+  /**
+   * @return the payload decoder generated in global events that cache their decoded payloads, each
+   *     listener owns its decoder so decoded payloads are not shared between listeners
+   */
+  private Element findPayloadDecoder(TypeElement eventType) {
+    return eventType.getEnclosedElements().stream()
+        .filter(element -> element.getKind() == ElementKind.CLASS)
+        .filter(element -> element.getSimpleName().contentEquals(PAYLOAD_DECODER))
+        .findFirst()
+        .orElse(null);
+  }
+
+  private MethodSpec makeCreateEventMethod(TypeElement eventType, boolean decodeWithDecoder) {
+    MethodSpec.Builder method =
+        MethodSpec.methodBuilder("deserializeEvent")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(TypeName.get(eventType.asType()))
+            .addParameter(TypeName.get(String.class), "serializedEvent");
+    if (decodeWithDecoder) {
+      return method
+          .addStatement(
+              "return new $T(payloadDecoder.decode(serializedEvent))",
+              TypeName.get(eventType.asType()))
+          .build();
+    }
+    return method
         .addStatement(
             "return new $T($T.deserialize(serializedEvent))",
             TypeName.get(eventType.asType()),
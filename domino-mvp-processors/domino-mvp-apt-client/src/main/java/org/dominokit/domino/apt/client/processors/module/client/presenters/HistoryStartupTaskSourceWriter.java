@@ -30,6 +30,7 @@ import org.dominokit.domino.api.client.annotations.StartupTask;
 import org.dominokit.domino.api.client.annotations.presenter.*;
 import org.dominokit.domino.api.client.events.BaseRoutingAggregator;
 import org.dominokit.domino.api.client.events.DefaultEventAggregator;
+import org.dominokit.domino.api.client.request.PresenterCommand;
 import org.dominokit.domino.api.client.startup.BaseNoTokenRoutingStartupTask;
 import org.dominokit.domino.api.client.startup.BaseRoutingStartupTask;
 import org.dominokit.domino.apt.client.processors.module.client.presenters.model.DependsOnModel;
@@ -74,6 +75,10 @@ public class HistoryStartupTaskSourceWriter extends AbstractSourceBuilder {
 
     if (hasToken()) {
       taskType.addMethod(getFilterTokenMethod()).addMethod(getStartupFilterTokenMethod());
+      if (!getTokenFilterMethodName(presenterElement, RoutingTokenFilter.class).isPresent()) {
+        taskType.addMethod(getRoutingTokenMethod());
+      }
+      taskType.addMethod(getRouteKeyMethod()).addMethod(createPresenterCommandMethod());
     }
     taskType.addMethod(onStateReadyMethod());
 
@@ -157,6 +162,36 @@ public class HistoryStartupTaskSourceWriter extends AbstractSourceBuilder {
     return method.build();
   }
 
+  private MethodSpec getRoutingTokenMethod() {
+    return MethodSpec.methodBuilder("getRoutingToken")
+        .addAnnotation(Override.class)
+        .addModifiers(Modifier.PROTECTED)
+        .returns(String.class)
+        .addStatement("return $S", token)
+        .build();
+  }
+
+  private MethodSpec getRouteKeyMethod() {
+    return MethodSpec.methodBuilder("getRouteKey")
+        .addAnnotation(Override.class)
+        .addModifiers(Modifier.PROTECTED)
+        .returns(String.class)
+        .addStatement(
+            "return $S", elements.getBinaryName((TypeElement) presenterElement).toString())
+        .build();
+  }
+
+  private MethodSpec createPresenterCommandMethod() {
+    return MethodSpec.methodBuilder("createPresenterCommand")
+        .addAnnotation(Override.class)
+        .addModifiers(Modifier.PROTECTED)
+        .returns(
+            ParameterizedTypeName.get(
+                ClassName.get(PresenterCommand.class), WildcardTypeName.subtypeOf(Object.class)))
+        .addStatement("return new $T()", ClassName.bestGuess(makeRequestClassName()))
+        .build();
+  }
+
   private MethodSpec getFilterTokenMethod() {
 
     MethodSpec.Builder method =
@@ -22,6 +22,7 @@ import java.util.function.Supplier;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
+import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.domino.api.client.mvp.PresenterConfig;
 import org.dominokit.domino.api.client.mvp.ViewablePresenterConfig;
 import org.dominokit.domino.api.client.mvp.presenter.PresenterSupplier;
@@ -71,44 +72,36 @@ public class PresenterConfigSourceWriter extends AbstractSourceBuilder {
                             ClassName.get(ViewablePresenterConfig.class),
                             TypeName.get(presenterElement.asType()),
                             TypeName.get(viewTypeMirror)))
-                    .addField(
-                        FieldSpec.builder(
-                                presenterSupplier,
-                                "presenterSupplier",
-                                Modifier.PRIVATE,
-                                Modifier.STATIC)
-                            .build())
-                    .addField(
-                        FieldSpec.builder(
-                                viewSupplier, "viewSupplier", Modifier.PRIVATE, Modifier.STATIC)
-                            .build())
                     .addMethod(
                         MethodSpec.methodBuilder("setPresenterSupplier")
                             .addModifiers(Modifier.PUBLIC)
                             .returns(TypeName.VOID)
                             .addParameter(presenterSupplier, "presenterSupplier")
-                            .addStatement("$T.presenterSupplier = presenterSupplier", _self)
+                            .addStatement(
+                                "$L",
+                                setSupplier("setPresenterSupplier", _self, "presenterSupplier"))
                             .build())
                     .addMethod(
                         MethodSpec.methodBuilder("getPresenterSupplier")
                             .addAnnotation(Override.class)
                             .addModifiers(Modifier.PUBLIC)
                             .returns(presenterSupplier)
-                            .addStatement("return $T.presenterSupplier", _self)
+                            .addStatement("$L", getSupplier("getPresenterSupplier", _self))
                             .build())
                     .addMethod(
                         MethodSpec.methodBuilder("setViewSupplier")
                             .addModifiers(Modifier.PUBLIC)
                             .returns(TypeName.VOID)
                             .addParameter(viewSupplier, "viewSupplier")
-                            .addStatement("$T.viewSupplier = viewSupplier", _self)
+                            .addStatement(
+                                "$L", setSupplier("setViewSupplier", _self, "viewSupplier"))
                             .build())
                     .addMethod(
                         MethodSpec.methodBuilder("getViewSupplier")
                             .addAnnotation(Override.class)
                             .addModifiers(Modifier.PUBLIC)
                             .returns(viewSupplier)
-                            .addStatement("return $T.viewSupplier", _self)
+                            .addStatement("$L", getSupplier("getViewSupplier", _self))
                             .build());
               });
     } else {
@@ -119,26 +112,37 @@ public class PresenterConfigSourceWriter extends AbstractSourceBuilder {
           .addSuperinterface(
               ParameterizedTypeName.get(
                   ClassName.get(PresenterConfig.class), TypeName.get(presenterElement.asType())))
-          .addField(
-              FieldSpec.builder(
-                      presenterSupplier, "presenterSupplier", Modifier.PRIVATE, Modifier.STATIC)
-                  .build())
           .addMethod(
               MethodSpec.methodBuilder("setPresenterSupplier")
                   .addModifiers(Modifier.PUBLIC)
                   .returns(TypeName.VOID)
                   .addParameter(presenterSupplier, "presenterSupplier")
-                  .addStatement("$T.presenterSupplier = presenterSupplier", _self)
+                  .addStatement(
+                      "$L", setSupplier("setPresenterSupplier", _self, "presenterSupplier"))
                   .build())
           .addMethod(
               MethodSpec.methodBuilder("getPresenterSupplier")
                   .addAnnotation(Override.class)
                   .addModifiers(Modifier.PUBLIC)
                   .returns(presenterSupplier)
-                  .addStatement("return $T.presenterSupplier", _self)
+                  .addStatement("$L", getSupplier("getPresenterSupplier", _self))
                   .build());
     }
 
     return Collections.singletonList(configType);
   }
+
+  private static CodeBlock setSupplier(String setter, ClassName configType, String supplier) {
+    return CodeBlock.of(
+        "$T.make().presenterSuppliers().$L($T.class, $L)",
+        ClientApp.class,
+        setter,
+        configType,
+        supplier);
+  }
+
+  private static CodeBlock getSupplier(String getter, ClassName configType) {
+    return CodeBlock.of(
+        "return $T.make().presenterSuppliers().$L($T.class)", ClientApp.class, getter, configType);
+  }
 }
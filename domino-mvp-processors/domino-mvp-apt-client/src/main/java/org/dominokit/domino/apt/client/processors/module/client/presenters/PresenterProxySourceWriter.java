@@ -15,6 +15,7 @@
  */
 package org.dominokit.domino.apt.client.processors.module.client.presenters;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import com.squareup.javapoet.*;
@@ -27,10 +28,12 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.type.TypeMirror;
 import org.dominokit.domino.api.client.annotations.presenter.*;
+import org.dominokit.domino.api.client.mvp.presenter.EventsDispatchTable;
 import org.dominokit.domino.api.client.mvp.presenter.ViewablePresenter;
 import org.dominokit.domino.api.client.mvp.slots.IsSlot;
 import org.dominokit.domino.api.client.mvp.slots.SlotsEntries;
 import org.dominokit.domino.api.client.mvp.view.UiHandlers;
+import org.dominokit.domino.api.client.startup.CompiledRouteToken;
 import org.dominokit.domino.api.shared.extension.*;
 import org.dominokit.domino.apt.commons.AbstractSourceBuilder;
 import org.dominokit.domino.apt.commons.DominoTypeBuilder;
@@ -113,6 +116,21 @@ public class PresenterProxySourceWriter extends AbstractSourceBuilder {
               .addMember("value", "$L", singleton.value())
               .build());
     }
+
+    if (nonNull(processorUtil.findClassAnnotation(proxyElement, Cached.class))) {
+      Cached cached = processorUtil.findClassAnnotation(proxyElement, Cached.class);
+      proxyType.addAnnotation(
+          AnnotationSpec.builder(Cached.class)
+              .addMember("maxSize", "$L", cached.maxSize())
+              .addMember("maxIdleMillis", "$LL", cached.maxIdleMillis())
+              .build());
+    }
+
+    if (nonNull(processorUtil.findClassAnnotation(proxyElement, Pooled.class))) {
+      Pooled pooled = processorUtil.findClassAnnotation(proxyElement, Pooled.class);
+      proxyType.addAnnotation(
+          AnnotationSpec.builder(Pooled.class).addMember("value", "$L", pooled.value()).build());
+    }
     generateNames(proxyType);
     generateAutoReveal(proxyType);
     generateOnInit(proxyType);
@@ -121,8 +139,7 @@ public class PresenterProxySourceWriter extends AbstractSourceBuilder {
     generateOnBeforeReveal(proxyType);
     generateOnPostConstruct(proxyType);
     generateOnTokenChanged(proxyType);
-    generateListenersMethod(proxyType);
-    generateGlobalListenersMethod(proxyType);
+    generateEventsDispatchTable(proxyType);
     generateSetState(proxyType);
     generateFireActivationEvent(proxyType);
     generateGetSlotsMethod(proxyType);
@@ -163,6 +180,7 @@ public class PresenterProxySourceWriter extends AbstractSourceBuilder {
           element ->
               stateMethod.addStatement("this.$L = state", element.getSimpleName().toString()));
 
+      Map<String, String> pathFields = new LinkedHashMap<>();
       pathParameters.forEach(
           element -> {
             PathParameter annotation = element.getAnnotation(PathParameter.class);
@@ -170,12 +188,10 @@ public class PresenterProxySourceWriter extends AbstractSourceBuilder {
                 annotation.value().trim().isEmpty()
                     ? element.getSimpleName().toString()
                     : annotation.value();
-            stateMethod.addStatement(
-                "this.$L = state.normalizedToken().getPathParameter($S)",
-                element.getSimpleName().toString(),
-                paramName);
+            pathFields.put(element.getSimpleName().toString(), paramName);
           });
 
+      Map<String, String> fragmentFields = new LinkedHashMap<>();
       fragmentParameters.forEach(
           element -> {
             FragmentParameter annotation = element.getAnnotation(FragmentParameter.class);
@@ -183,12 +199,48 @@ public class PresenterProxySourceWriter extends AbstractSourceBuilder {
                 annotation.value().trim().isEmpty()
                     ? element.getSimpleName().toString()
                     : annotation.value();
-            stateMethod.addStatement(
-                "this.$L = state.normalizedToken().getFragmentParameter($S)",
-                element.getSimpleName().toString(),
-                paramName);
+            fragmentFields.put(element.getSimpleName().toString(), paramName);
           });
 
+      List<String> pathSegments = null;
+      List<String> fragmentSegments = null;
+      String token = routeToken();
+      if ((!pathFields.isEmpty() || !fragmentFields.isEmpty()) && nonNull(token)) {
+        pathSegments = routeSegments(routePath(token));
+        fragmentSegments = routeSegments(routeFragment(token));
+        proxyType.addField(
+            FieldSpec.builder(
+                    CompiledRouteToken.class,
+                    "COMPILED_ROUTE",
+                    Modifier.PRIVATE,
+                    Modifier.STATIC,
+                    Modifier.FINAL)
+                .initializer(
+                    "new $T(new String[] {$L}, new String[] {$L})",
+                    CompiledRouteToken.class,
+                    segmentsInitializer(pathSegments),
+                    segmentsInitializer(fragmentSegments))
+                .build());
+        stateMethod.addStatement(
+            "$T.Match route = COMPILED_ROUTE.match(state.token().value())",
+            CompiledRouteToken.class);
+      }
+
+      addParametersStatements(
+          stateMethod,
+          pathFields,
+          pathSegments,
+          "isPathMatched",
+          "pathSegment",
+          "getPathParameter");
+      addParametersStatements(
+          stateMethod,
+          fragmentFields,
+          fragmentSegments,
+          "isFragmentMatched",
+          "fragmentSegment",
+          "getFragmentParameter");
+
       queryParameters.forEach(
           element -> {
             QueryParameter annotation = element.getAnnotation(QueryParameter.class);
@@ -206,6 +258,96 @@ public class PresenterProxySourceWriter extends AbstractSourceBuilder {
     }
   }
 
+  /**
+   * @return the route token of the presenter if the path and fragment parameters can be read by
+   *     their segments index, or {@code null} if the presenter has no token or uses a custom token
+   *     filter.
+   */
+  private String routeToken() {
+    AutoRoute autoRoute = processorUtil.findClassAnnotation(proxyElement, AutoRoute.class);
+    if (isNull(autoRoute) || autoRoute.token().trim().isEmpty()) {
+      return null;
+    }
+    TypeMirror proxyMirror = proxyElement.asType();
+    if (!processorUtil.getAnnotatedMethods(proxyMirror, RoutingTokenFilter.class).isEmpty()
+        || !processorUtil.getAnnotatedMethods(proxyMirror, StartupTokenFilter.class).isEmpty()) {
+      return null;
+    }
+    return autoRoute.token();
+  }
+
+  private static String routePath(String token) {
+    int end = token.length();
+    int queryIndex = token.indexOf('?');
+    int fragmentIndex = token.indexOf('#');
+    if (queryIndex >= 0) {
+      end = queryIndex;
+    }
+    if (fragmentIndex >= 0 && fragmentIndex < end) {
+      end = fragmentIndex;
+    }
+    return token.substring(0, end);
+  }
+
+  private static String routeFragment(String token) {
+    int fragmentIndex = token.indexOf('#');
+    return fragmentIndex >= 0 ? token.substring(fragmentIndex + 1) : "";
+  }
+
+  private static List<String> routeSegments(String path) {
+    return Arrays.stream(path.split("/"))
+        .filter(segment -> !segment.isEmpty())
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isParameterSegment(String segment) {
+    return segment.startsWith(":") || (segment.startsWith("{") && segment.endsWith("}"));
+  }
+
+  private static String segmentsInitializer(List<String> segments) {
+    return segments.stream()
+        .map(
+            segment ->
+                isParameterSegment(segment) ? "null" : CodeBlock.of("$S", segment).toString())
+        .collect(Collectors.joining(", "));
+  }
+
+  private static void addParametersStatements(
+      MethodSpec.Builder stateMethod,
+      Map<String, String> fields,
+      List<String> routeSegments,
+      String matchedMethod,
+      String segmentMethod,
+      String normalizedMethod) {
+    if (fields.isEmpty()) {
+      return;
+    }
+    if (nonNull(routeSegments)) {
+      stateMethod.beginControlFlow("if (route.$L())", matchedMethod);
+      fields.forEach(
+          (field, paramName) -> {
+            int index = routeSegments.indexOf(":" + paramName);
+            if (index < 0) {
+              index = routeSegments.indexOf("{" + paramName + "}");
+            }
+            if (index >= 0) {
+              stateMethod.addStatement("this.$L = route.$L($L)", field, segmentMethod, index);
+            } else {
+              stateMethod.addStatement(
+                  "this.$L = state.normalizedToken().$L($S)", field, normalizedMethod, paramName);
+            }
+          });
+      stateMethod.nextControlFlow("else");
+    }
+    fields.forEach(
+        (field, paramName) ->
+            stateMethod.addStatement(
+                "this.$L = state.normalizedToken().$L($S)", field, normalizedMethod, paramName));
+    if (nonNull(routeSegments)) {
+      stateMethod.endControlFlow();
+    }
+  }
+
   private void generateNames(TypeSpec.Builder proxyType) {
     PresenterProxy presenterProxy =
         processorUtil.findClassAnnotation(proxyElement, PresenterProxy.class);
@@ -452,93 +594,31 @@ public class PresenterProxySourceWriter extends AbstractSourceBuilder {
     }
   }
 
-  private void generateListenersMethod(TypeSpec.Builder proxyType) {
-
-    List<Element> nonGlobalListenerMethods =
-        processorUtil.getAnnotatedMethods(proxyElement.asType(), ListenTo.class).stream()
-            .filter(
-                element -> {
-                  Optional<TypeMirror> event =
-                      processorUtil.getClassValueFromAnnotation(element, ListenTo.class, "event");
-                  return event.isPresent()
-                      && !processorUtil.isAssignableFrom(event.get(), GlobalEvent.class);
-                })
-            .collect(Collectors.toList());
-
-    if (nonGlobalListenerMethods.isEmpty()) {
-      return;
-    }
-
-    TypeVariableName dominoEventTypeName =
-        TypeVariableName.get("? extends DominoEvent", TypeName.get(DominoEvent.class));
-    ParameterizedTypeName keyType =
-        ParameterizedTypeName.get(ClassName.get(Class.class), dominoEventTypeName);
-    TypeName valueType = TypeName.get(DominoEventListener.class);
-    MethodSpec.Builder listenersMethod =
-        MethodSpec.methodBuilder("getListeners")
-            .addAnnotation(Override.class)
-            .addAnnotation(
-                AnnotationSpec.builder(SuppressWarnings.class)
-                    .addMember("value", "$S", "all")
-                    .build())
-            .addModifiers(Modifier.PROTECTED)
-            .returns(ParameterizedTypeName.get(ClassName.get(Map.class), keyType, valueType))
-            .addStatement(
-                "$T<Class<? extends $T>, $T> listenersMap = new $T<>()",
-                TypeName.get(Map.class),
-                TypeName.get(DominoEvent.class),
-                valueType,
-                TypeName.get(HashMap.class));
-
-    addListeners(proxyType, nonGlobalListenerMethods, listenersMethod);
-  }
-
-  private void generateGlobalListenersMethod(TypeSpec.Builder proxyType) {
-
-    List<Element> globalListenerMethods =
+  private void generateEventsDispatchTable(TypeSpec.Builder proxyType) {
+    List<Element> listenerMethods =
         processorUtil.getAnnotatedMethods(proxyElement.asType(), ListenTo.class).stream()
             .filter(
-                element -> {
-                  Optional<TypeMirror> event =
-                      processorUtil.getClassValueFromAnnotation(element, ListenTo.class, "event");
-                  return event.isPresent()
-                      && processorUtil.isAssignableFrom(event.get(), GlobalEvent.class);
-                })
+                element ->
+                    processorUtil
+                        .getClassValueFromAnnotation(element, ListenTo.class, "event")
+                        .isPresent())
             .collect(Collectors.toList());
 
-    if (globalListenerMethods.isEmpty()) {
+    if (listenerMethods.isEmpty()) {
       return;
     }
 
-    TypeVariableName dominoEventTypeName =
-        TypeVariableName.get("? extends DominoEvent", TypeName.get(DominoEvent.class));
-    ParameterizedTypeName keyType =
-        ParameterizedTypeName.get(ClassName.get(Class.class), dominoEventTypeName);
-    TypeName valueType = TypeName.get(GlobalDominoEventListener.class);
-    MethodSpec.Builder listenersMethod =
-        MethodSpec.methodBuilder("getGlobalListeners")
-            .addAnnotation(Override.class)
-            .addAnnotation(
-                AnnotationSpec.builder(SuppressWarnings.class)
-                    .addMember("value", "$S", "all")
-                    .build())
-            .addModifiers(Modifier.PROTECTED)
-            .returns(ParameterizedTypeName.get(ClassName.get(Map.class), keyType, valueType))
-            .addStatement(
-                "$T<Class<? extends $T>, $T> listenersMap = new $T<>()",
-                TypeName.get(Map.class),
-                TypeName.get(DominoEvent.class),
-                valueType,
-                TypeName.get(HashMap.class));
-
-    addListeners(proxyType, globalListenerMethods, listenersMethod);
-  }
-
-  private void addListeners(
-      TypeSpec.Builder proxyType,
-      List<Element> nonGlobalListenerMethods,
-      MethodSpec.Builder listenersMethod) {
-    nonGlobalListenerMethods.forEach(
+    ClassName presenterType =
+        ClassName.get(
+            elements.getPackageOf(proxyElement).getQualifiedName().toString(),
+            proxyElement.getSimpleName() + "_Presenter");
+    TypeName tableType =
+        ParameterizedTypeName.get(ClassName.get(EventsDispatchTable.class), presenterType);
+
+    CodeBlock.Builder initializer =
+        CodeBlock.builder()
+            .add("$T.<$T>create()", ClassName.get(EventsDispatchTable.class), presenterType);
+    listenerMethods.forEach(
         element -> {
           TypeMirror eventType =
               processorUtil.getClassValueFromAnnotation(element, ListenTo.class, "event").get();
@@ -552,15 +632,32 @@ public class PresenterProxySourceWriter extends AbstractSourceBuilder {
                   + proxyElement.getSimpleName().toString()
                   + "_PresenterListenFor"
                   + types.asElement(eventType).getSimpleName().toString();
-          listenersMethod.addStatement(
-              "listenersMap.put($T.class, new $L(this))",
+          initializer.add(
+              "\n.$L($T.class, $T::new)",
+              processorUtil.isAssignableFrom(eventType, GlobalEvent.class)
+                  ? "listenGlobal"
+                  : "listen",
               TypeName.get(eventType),
               ClassName.bestGuess(listenerName));
         });
 
-    listenersMethod.addStatement("return listenersMap");
-
-    proxyType.addMethod(listenersMethod.build());
+    proxyType.addField(
+        FieldSpec.builder(
+                tableType,
+                "EVENTS_DISPATCH_TABLE",
+                Modifier.PRIVATE,
+                Modifier.STATIC,
+                Modifier.FINAL)
+            .initializer(initializer.build())
+            .build());
+
+    proxyType.addMethod(
+        MethodSpec.methodBuilder("getEventsDispatchTable")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PROTECTED)
+            .returns(tableType)
+            .addStatement("return EVENTS_DISPATCH_TABLE")
+            .build());
   }
 
   private void generateFireActivationEvent(TypeSpec.Builder proxyType) {
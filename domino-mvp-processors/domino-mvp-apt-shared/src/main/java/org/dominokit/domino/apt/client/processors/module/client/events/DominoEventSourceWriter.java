@@ -31,9 +31,12 @@ import dominojackson.shaded.org.dominokit.domino.apt.commons.AbstractSourceBuild
 import dominojackson.shaded.org.dominokit.domino.apt.commons.DominoTypeBuilder;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
@@ -56,6 +59,22 @@ import org.dominokit.jackson.processor.serialization.FieldSerializerChainBuilder
 
 public class DominoEventSourceWriter extends AbstractSourceBuilder {
 
+  private static final String PAYLOAD_DECODER = "PayloadDecoder";
+
+  private static final Set<TypeName> COMPACT_TYPES =
+      new HashSet<>(
+          Arrays.asList(
+              ClassName.get(Boolean.class),
+              ClassName.get(Byte.class),
+              ClassName.get(Short.class),
+              ClassName.get(Integer.class),
+              ClassName.get(Long.class),
+              ClassName.get(Float.class),
+              ClassName.get(Double.class),
+              ClassName.get(Character.class),
+              ClassName.get(Date.class),
+              ClassName.get(BigDecimal.class)));
+
   private final Element eventElement;
 
   protected DominoEventSourceWriter(Element eventElement, ProcessingEnvironment processingEnv) {
@@ -137,25 +156,7 @@ public class DominoEventSourceWriter extends AbstractSourceBuilder {
                     .build());
 
     if (eventContext.global()) {
-      eventType
-          .addMethod(
-              MethodSpec.methodBuilder("deserialize")
-                  .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
-                  .returns(TypeName.get(targetElement.asType()))
-                  .addParameter(ParameterSpec.builder(TypeName.get(String.class), "data").build())
-                  .addStatement(
-                      "return $L.read(data)", getEventDeserializer(targetElement.asType()))
-                  .build())
-          .addMethod(
-              MethodSpec.methodBuilder("serialize")
-                  .addAnnotation(Override.class)
-                  .addModifiers(Modifier.PUBLIC)
-                  .returns(TypeName.get(String.class))
-                  .addStatement(
-                      "return $L.write(this.$L)",
-                      getEventSerializer(targetElement.asType()),
-                      fieldName)
-                  .build());
+      generateCodec(eventType, eventContext, targetElement.asType(), fieldName);
     }
 
     eventType.addMethod(
@@ -167,6 +168,125 @@ public class DominoEventSourceWriter extends AbstractSourceBuilder {
     return eventType;
   }
 
+  private void generateCodec(
+      TypeSpec.Builder eventType,
+      EventContext eventContext,
+      TypeMirror eventDataType,
+      String fieldName) {
+    TypeName dataType = TypeName.get(eventDataType);
+    CodeBlock encode;
+    CodeBlock decode;
+    if (eventContext.compactPayload() && isCompactType(eventDataType)) {
+      encode = compactEncode(eventDataType, "this." + fieldName);
+      decode = compactDecode(eventDataType, "data");
+    } else {
+      TypeName writerType =
+          ParameterizedTypeName.get(ClassName.get(AbstractObjectWriter.class), dataType);
+      TypeName readerType =
+          ParameterizedTypeName.get(ClassName.get(AbstractObjectReader.class), dataType);
+      eventType
+          .addField(
+              FieldSpec.builder(
+                      writerType, "WRITER", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                  .initializer(getEventSerializer(eventDataType))
+                  .build())
+          .addField(
+              FieldSpec.builder(
+                      readerType, "READER", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                  .initializer(getEventDeserializer(eventDataType))
+                  .build());
+      encode = CodeBlock.of("WRITER.write(this.$L)", fieldName);
+      decode = CodeBlock.of("READER.read(data)");
+    }
+
+    MethodSpec.Builder deserialize =
+        MethodSpec.methodBuilder("deserialize")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(dataType)
+            .addParameter(ParameterSpec.builder(TypeName.get(String.class), "data").build());
+
+    deserialize.addStatement("return $L", decode);
+    if (eventContext.cacheDecoded()) {
+      eventType.addType(payloadDecoder(dataType));
+    }
+
+    eventType
+        .addMethod(deserialize.build())
+        .addMethod(
+            MethodSpec.methodBuilder("serialize")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(TypeName.get(String.class))
+                .addStatement("return $L", encode)
+                .build());
+  }
+
+  /**
+   * A decoder owned by one listener that returns the last decoded payload again when the same
+   * payload is received, so the memo is never shared between listeners or threads.
+   */
+  private TypeSpec payloadDecoder(TypeName dataType) {
+    return TypeSpec.classBuilder(PAYLOAD_DECODER)
+        .addJavadoc(
+            "Decodes the payloads received by one listener, the last decoded payload is returned"
+                + " again when the same payload is received.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+        .addField(String.class, "data", Modifier.PRIVATE)
+        .addField(dataType, "value", Modifier.PRIVATE)
+        .addMethod(
+            MethodSpec.methodBuilder("decode")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(dataType)
+                .addParameter(String.class, "data")
+                .beginControlFlow("if (data != null && data.equals(this.data))")
+                .addStatement("return this.value")
+                .endControlFlow()
+                .addStatement("$T decoded = deserialize(data)", dataType)
+                .beginControlFlow("if (data != null)")
+                .addStatement("this.data = data")
+                .addStatement("this.value = decoded")
+                .endControlFlow()
+                .addStatement("return decoded")
+                .build())
+        .build();
+  }
+
+  private boolean isCompactType(TypeMirror type) {
+    return processorUtil.isStringType(type)
+        || processorUtil.isEnum(type)
+        || COMPACT_TYPES.contains(TypeName.get(type));
+  }
+
+  private CodeBlock compactEncode(TypeMirror type, String value) {
+    if (processorUtil.isStringType(type)) {
+      return CodeBlock.of("$L", value);
+    }
+    if (processorUtil.isEnum(type)) {
+      return CodeBlock.of("$L == null ? null : $L.name()", value, value);
+    }
+    if (TypeName.get(type).equals(ClassName.get(Date.class))) {
+      return CodeBlock.of("$L == null ? null : String.valueOf($L.getTime())", value, value);
+    }
+    return CodeBlock.of("$L == null ? null : String.valueOf($L)", value, value);
+  }
+
+  private CodeBlock compactDecode(TypeMirror type, String data) {
+    TypeName typeName = TypeName.get(type);
+    if (processorUtil.isStringType(type)) {
+      return CodeBlock.of("$L", data);
+    }
+    if (typeName.equals(ClassName.get(Date.class))) {
+      return CodeBlock.of("$L == null ? null : new $T(Long.parseLong($L))", data, Date.class, data);
+    }
+    if (typeName.equals(ClassName.get(BigDecimal.class))) {
+      return CodeBlock.of("$L == null ? null : new $T($L)", data, BigDecimal.class, data);
+    }
+    if (typeName.equals(ClassName.get(Character.class))) {
+      return CodeBlock.of("$L == null || $L.isEmpty() ? null : $L.charAt(0)", data, data, data);
+    }
+    return CodeBlock.of("$L == null ? null : $T.valueOf($L)", data, typeName, data);
+  }
+
   public CodeBlock getEventSerializer(TypeMirror eventDataType) {
     boolean serializerGenerated = !shouldGenerateSerializer(eventDataType);
     CodeBlock.Builder builder = CodeBlock.builder();
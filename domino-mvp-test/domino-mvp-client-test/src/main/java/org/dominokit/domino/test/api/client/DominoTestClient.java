@@ -54,6 +54,7 @@ import org.dominokit.domino.test.api.client.TestServerRouter.FailedReply;
 import org.dominokit.domino.test.api.client.TestServerRouter.ResponseReply;
 import org.dominokit.domino.test.api.client.TestServerRouter.RoutingListener;
 import org.dominokit.domino.test.api.client.TestServerRouter.SuccessReply;
+import org.dominokit.domino.test.api.client.load.LoadSimulation;
 import org.dominokit.domino.test.history.TestDominoHistory;
 import org.dominokit.rest.DominoRestConfig;
 import org.dominokit.rest.VertxInstanceProvider;
@@ -313,6 +314,14 @@ public class DominoTestClient implements CanCustomizeClient, CanStartClient, Cli
     return completeFuture;
   }
 
+  /**
+   * @return a simulation that runs many headless sessions of the client modules, each session
+   *     sends its requests to the test server, so the client should be started with a server.
+   */
+  public LoadSimulation loadSimulation() {
+    return new LoadSimulation(TestClientAppFactory.serverRouter, () -> modules);
+  }
+
   @Override
   public Vertx vertx() {
     return vertx;
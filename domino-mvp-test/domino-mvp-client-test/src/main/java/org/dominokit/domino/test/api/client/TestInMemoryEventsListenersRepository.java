@@ -18,6 +18,7 @@ package org.dominokit.domino.test.api.client;
 import java.util.HashMap;
 import java.util.Map;
 import org.dominokit.domino.api.client.extension.InMemoryDominoEventsListenerRepository;
+import org.dominokit.domino.api.client.mvp.RegistrationHandler;
 import org.dominokit.domino.api.shared.extension.DominoEvent;
 import org.dominokit.domino.api.shared.extension.DominoEventListener;
 
@@ -26,10 +27,11 @@ public class TestInMemoryEventsListenersRepository extends InMemoryDominoEventsL
   protected final Map<String, DominoEventListener> testListeners = new HashMap<>();
 
   @Override
-  public void addListener(
+  public RegistrationHandler addListener(
       Class<? extends DominoEvent> dominoEvent, DominoEventListener dominoEventListener) {
-    super.addListener(dominoEvent, dominoEventListener);
+    RegistrationHandler registrationHandler = super.addListener(dominoEvent, dominoEventListener);
     testListeners.put(dominoEventListener.getClass().getCanonicalName(), dominoEventListener);
+    return registrationHandler;
   }
 
   public <L extends DominoEventListener> L getListener(Class<L> listenerClass) {
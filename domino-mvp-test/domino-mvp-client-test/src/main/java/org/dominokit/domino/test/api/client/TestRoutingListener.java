@@ -15,13 +15,13 @@
  */
 package org.dominokit.domino.test.api.client;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.dominokit.rest.shared.request.ServerRequest;
 
 public class TestRoutingListener implements TestServerRouter.RoutingListener {
 
-  private Map<String, RequestResponsePair> receivedRequests = new HashMap<>();
+  private Map<String, RequestResponsePair> receivedRequests = new ConcurrentHashMap<>();
 
   private class RequestResponsePair {
     private ServerRequest request;
@@ -46,7 +46,7 @@ public class TestRoutingListener implements TestServerRouter.RoutingListener {
   }
 
   @Override
-  public void onRouteRequest(ServerRequest request, Object response) {
+  public synchronized void onRouteRequest(ServerRequest request, Object response) {
     if (receivedRequests.containsKey(request.getClass().getCanonicalName()))
       receivedRequests.get(request.getClass().getCanonicalName()).increment(request, response);
     else
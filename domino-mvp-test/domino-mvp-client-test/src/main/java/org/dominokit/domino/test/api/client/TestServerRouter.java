@@ -15,10 +15,14 @@
  */
 package org.dominokit.domino.test.api.client;
 
+import static java.util.Objects.nonNull;
+
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.dominokit.domino.api.client.ClientApp;
 import org.dominokit.domino.api.server.resource.ResourcesRepository;
 import org.dominokit.rest.shared.Event;
@@ -32,8 +36,21 @@ public class TestServerRouter implements RequestRouter<ServerRequest> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TestServerRouter.class);
 
-  private Map<String, ResponseReply> fakeResponses = new HashMap<>();
-  private Map<String, Future<ResponseReply>> requestCompleteHandlers = new HashMap<>();
+  private static final RequestTimingListener NO_TIMING_LISTENER =
+      new RequestTimingListener() {
+        @Override
+        public void onRequestStarted(ClientApp clientApp, ServerRequest request) {}
+
+        @Override
+        public void onRequestCompleted(
+            ClientApp clientApp, ServerRequest request, double durationMillis, boolean succeeded) {}
+      };
+
+  private Map<String, ResponseReply> fakeResponses = new ConcurrentHashMap<>();
+  private Map<String, Future<ResponseReply>> requestCompleteHandlers = new ConcurrentHashMap<>();
+  private final Map<ServerRequest, RequestTiming> pendingRequests =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+  private RequestTimingListener timingListener = NO_TIMING_LISTENER;
   private final RequestAsyncSender requestAsyncRunner;
   private TestRoutingListener defaultListener = new TestRoutingListener();
   private RoutingListener listener = defaultListener;
@@ -65,8 +82,23 @@ public class TestServerRouter implements RequestRouter<ServerRequest> {
     this.listener = defaultListener;
   }
 
+  /**
+   * Sets a listener that is notified when a request is sent and when its response is processed,
+   * along with the client application that sent it.
+   */
+  public void setRequestTimingListener(RequestTimingListener timingListener) {
+    this.timingListener = timingListener;
+  }
+
+  public void removeRequestTimingListener() {
+    this.timingListener = NO_TIMING_LISTENER;
+  }
+
   @Override
   public void routeRequest(ServerRequest request) {
+    ClientApp clientApp = ClientApp.make();
+    pendingRequests.put(request, new RequestTiming(clientApp, System.nanoTime()));
+    timingListener.onRequestStarted(clientApp, request);
     Object response;
     try {
       if (fakeResponses.containsKey(getRequestKey(request))) {
@@ -91,6 +123,23 @@ public class TestServerRouter implements RequestRouter<ServerRequest> {
     }
   }
 
+  /**
+   * @return the application that sent the request, responses are processed by that application
+   *     even when they arrive on another thread.
+   */
+  private ClientApp clientAppOf(ServerRequest request) {
+    RequestTiming timing = pendingRequests.get(request);
+    return nonNull(timing) ? timing.clientApp : ClientApp.make();
+  }
+
+  private void onRequestCompleted(ServerRequest request, boolean succeeded) {
+    RequestTiming timing = pendingRequests.remove(request);
+    if (nonNull(timing)) {
+      double durationMillis = (System.nanoTime() - timing.startNanos) / 1_000_000D;
+      timingListener.onRequestCompleted(timing.clientApp, request, durationMillis, succeeded);
+    }
+  }
+
   private String getRequestKey(ServerRequest request) {
     return request.getClass().getCanonicalName();
   }
@@ -115,11 +164,12 @@ public class TestServerRouter implements RequestRouter<ServerRequest> {
   public class TestServerSuccessEvent<T> implements Event {
     protected final ServerRequest request;
     protected final T responseBean;
-    private final ClientApp clientApp = ClientApp.make();
+    private final ClientApp clientApp;
 
     public TestServerSuccessEvent(ServerRequest request, T responseBean) {
       this.request = request;
       this.responseBean = responseBean;
+      this.clientApp = clientAppOf(request);
     }
 
     @Override
@@ -139,6 +189,7 @@ public class TestServerRouter implements RequestRouter<ServerRequest> {
   }
 
   private void completeSuccessRequest(ServerRequest request, ResponseReply reply) {
+    onRequestCompleted(request, true);
     String requestKey = getRequestKey(request);
     if (requestCompleteHandlers.containsKey(requestKey)) {
       requestCompleteHandlers.get(requestKey).complete(reply);
@@ -163,11 +214,12 @@ public class TestServerRouter implements RequestRouter<ServerRequest> {
   public class TestServerFailedEvent implements Event {
     protected final ServerRequest request;
     protected final FailedResponseBean failedResponseBean;
-    private final ClientApp clientApp = ClientApp.make();
+    private final ClientApp clientApp;
 
     public TestServerFailedEvent(ServerRequest request, FailedResponseBean failedResponseBean) {
       this.request = request;
       this.failedResponseBean = failedResponseBean;
+      this.clientApp = clientAppOf(request);
     }
 
     @Override
@@ -187,6 +239,7 @@ public class TestServerRouter implements RequestRouter<ServerRequest> {
   }
 
   private void completeFailRequest(ServerRequest request, FailedReply reply) {
+    onRequestCompleted(request, false);
     String requestKey = getRequestKey(request);
     if (requestCompleteHandlers.containsKey(requestKey)) {
       requestCompleteHandlers.get(requestKey).fail(new TestFailedRequestException(reply));
@@ -212,6 +265,23 @@ public class TestServerRouter implements RequestRouter<ServerRequest> {
     void onRouteRequest(ServerRequest request, Object response);
   }
 
+  public interface RequestTimingListener {
+    void onRequestStarted(ClientApp clientApp, ServerRequest request);
+
+    void onRequestCompleted(
+        ClientApp clientApp, ServerRequest request, double durationMillis, boolean succeeded);
+  }
+
+  private static final class RequestTiming {
+    private final ClientApp clientApp;
+    private final long startNanos;
+
+    private RequestTiming(ClientApp clientApp, long startNanos) {
+      this.clientApp = clientApp;
+      this.startNanos = startNanos;
+    }
+  }
+
   public interface ResponseReply {
     <T> T reply();
   }
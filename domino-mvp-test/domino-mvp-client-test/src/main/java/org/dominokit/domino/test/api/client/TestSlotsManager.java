@@ -27,7 +27,7 @@ import org.dominokit.domino.api.client.mvp.view.HasContent;
 public class TestSlotsManager implements SlotsManager {
   public static final Logger LOGGER = Logger.getLogger(TestSlotsManager.class.getName());
 
-  private static final Map<String, Deque<IsSlot>> SLOT_QUEUE = new HashMap<>();
+  private final Map<String, Deque<IsSlot>> SLOT_QUEUE = new HashMap<>();
 
   public void registerSlot(String key, IsSlot slot) {
     LOGGER.info(" >> REGISTERING SLOT [" + key + "]");
@@ -46,7 +46,7 @@ public class TestSlotsManager implements SlotsManager {
     }
   }
 
-  public static IsSlot get(String key) {
+  public IsSlot get(String key) {
     return SLOT_QUEUE.get(key.toLowerCase()).peek();
   }
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.test.api.client.load;
+
+import java.util.Collections;
+import java.util.Map;
+import org.dominokit.domino.api.client.tracing.LatencySummary;
+
+/** The results of a {@link LoadSimulation}, latencies are in milliseconds. */
+public class LoadReport {
+
+  private final int sessions;
+  private final int failedSessions;
+  private final double elapsedMillis;
+  private final Map<String, LoadStats> requests;
+  private final Map<String, LoadStats> routes;
+
+  LoadReport(
+      int sessions,
+      int failedSessions,
+      double elapsedMillis,
+      Map<String, LoadStats> requests,
+      Map<String, LoadStats> routes) {
+    this.sessions = sessions;
+    this.failedSessions = failedSessions;
+    this.elapsedMillis = elapsedMillis;
+    this.requests = Collections.unmodifiableMap(requests);
+    this.routes = Collections.unmodifiableMap(routes);
+  }
+
+  public int getSessions() {
+    return sessions;
+  }
+
+  /** @return the number of sessions that stopped because a step failed. */
+  public int getFailedSessions() {
+    return failedSessions;
+  }
+
+  public double getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  /** @return the stats per server request type, keyed by the request class canonical name. */
+  public Map<String, LoadStats> getRequests() {
+    return requests;
+  }
+
+  /** @return the stats per navigated route and custom action. */
+  public Map<String, LoadStats> getRoutes() {
+    return routes;
+  }
+
+  /** @return the number of completed server requests per second across all sessions. */
+  public double getRequestsThroughput() {
+    return throughput(requests);
+  }
+
+  private double throughput(Map<String, LoadStats> stats) {
+    double throughput = 0;
+    for (LoadStats value : stats.values()) {
+      throughput += value.getThroughput();
+    }
+    return throughput;
+  }
+
+  /** @return a human readable table of the report. */
+  public String dump() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("Sessions: ")
+        .append(sessions)
+        .append(", failed: ")
+        .append(failedSessions)
+        .append(", elapsed: ")
+        .append(round(elapsedMillis))
+        .append("ms, requests/s: ")
+        .append(round(getRequestsThroughput()))
+        .append('\n');
+    append(sb, "Requests", requests);
+    append(sb, "Routes", routes);
+    return sb.toString();
+  }
+
+  private static void append(StringBuilder sb, String title, Map<String, LoadStats> stats) {
+    sb.append(title).append('\n');
+    stats.forEach(
+        (name, value) -> {
+          LatencySummary latency = value.getLatency();
+          sb.append("  ")
+              .append(name)
+              .append(" count=")
+              .append(latency.getCount())
+              .append(" errors=")
+              .append(value.getErrors())
+              .append(" throughput=")
+              .append(round(value.getThroughput()))
+              .append("/s mean=")
+              .append(round(latency.getMean()))
+              .append(" p50=")
+              .append(round(latency.getP50()))
+              .append(" p90=")
+              .append(round(latency.getP90()))
+              .append(" p99=")
+              .append(round(latency.getP99()))
+              .append(" max=")
+              .append(round(latency.getMax()))
+              .append('\n');
+        });
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 100) / 100D;
+  }
+
+  /** The stats of one request type or route. */
+  public static class LoadStats {
+    private final LatencySummary latency;
+    private final long errors;
+    private final double throughput;
+
+    LoadStats(LatencySummary latency, long errors, double throughput) {
+      this.latency = latency;
+      this.errors = errors;
+      this.throughput = throughput;
+    }
+
+    /** @return the latency summary of the completed requests or steps. */
+    public LatencySummary getLatency() {
+      return latency;
+    }
+
+    /** @return the failed requests, or the steps that timed out waiting for their requests. */
+    public long getErrors() {
+      return errors;
+    }
+
+    /** @return the completed requests or steps per second. */
+    public double getThroughput() {
+      return throughput;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.test.api.client.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.history.StateToken;
+
+/**
+ * The steps each simulated client session runs, navigations and actions are measured until the
+ * server requests they send are completed, think times pause the session between them.
+ */
+public class LoadScript {
+
+  private final List<Step> steps = new ArrayList<>();
+
+  public static LoadScript create() {
+    return new LoadScript();
+  }
+
+  /** Navigates to the token, the latency is reported under the token as the route. */
+  public LoadScript navigate(String token) {
+    steps.add(
+        new Step(
+            StepType.MEASURED,
+            token,
+            clientApp -> clientApp.getHistory().fireState(StateToken.of(token)),
+            0,
+            0));
+    return this;
+  }
+
+  /** Runs a custom action, the latency is reported under the action name as the route. */
+  public LoadScript action(String name, SessionAction action) {
+    steps.add(new Step(StepType.MEASURED, name, action, 0, 0));
+    return this;
+  }
+
+  public LoadScript think(long millis) {
+    return think(millis, millis);
+  }
+
+  /** Pauses the session for a random time between the min and max inclusive. */
+  public LoadScript think(long minMillis, long maxMillis) {
+    if (minMillis < 0 || maxMillis < minMillis) {
+      throw new IllegalArgumentException(
+          "Invalid think time [" + minMillis + ", " + maxMillis + "]");
+    }
+    steps.add(new Step(StepType.THINK, null, null, minMillis, maxMillis));
+    return this;
+  }
+
+  List<Step> getSteps() {
+    return Collections.unmodifiableList(steps);
+  }
+
+  @FunctionalInterface
+  public interface SessionAction {
+    void run(ClientApp clientApp);
+  }
+
+  enum StepType {
+    MEASURED,
+    THINK
+  }
+
+  static final class Step {
+    final StepType type;
+    final String name;
+    final SessionAction action;
+    final long minMillis;
+    final long maxMillis;
+
+    private Step(
+        StepType type, String name, SessionAction action, long minMillis, long maxMillis) {
+      this.type = type;
+      this.name = name;
+      this.action = action;
+      this.minMillis = minMillis;
+      this.maxMillis = maxMillis;
+    }
+  }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.test.api.client.load;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import io.vertx.core.Future;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.dominokit.domino.api.client.ClientApp;
+import org.dominokit.domino.api.client.ClientAppScope;
+import org.dominokit.domino.api.client.ModuleConfiguration;
+import org.dominokit.domino.api.client.ThreadLocalClientAppScope;
+import org.dominokit.domino.api.client.tracing.LatencySamples;
+import org.dominokit.domino.api.shared.extension.PredefinedSlots;
+import org.dominokit.domino.test.api.client.FakeDominoOptions;
+import org.dominokit.domino.test.api.client.FakeSlot;
+import org.dominokit.domino.test.api.client.TestAsyncRunner;
+import org.dominokit.domino.test.api.client.TestClientRouter;
+import org.dominokit.domino.test.api.client.TestEventBus;
+import org.dominokit.domino.test.api.client.TestInMemoryEventsListenersRepository;
+import org.dominokit.domino.test.api.client.TestNamedPresenters;
+import org.dominokit.domino.test.api.client.TestServerRouter;
+import org.dominokit.domino.test.api.client.TestSlotsManager;
+import org.dominokit.domino.test.history.TestDominoHistory;
+import org.dominokit.rest.shared.Event;
+import org.dominokit.rest.shared.EventProcessor;
+import org.dominokit.rest.shared.EventsBus;
+import org.dominokit.rest.shared.request.ServerRequest;
+
+/**
+ * Runs many concurrent headless client sessions against the test server, each session is an
+ * isolated {@link ClientApp} with the real presenters, commands and server requests of the modules
+ * and runs the steps of a {@link LoadScript}.
+ *
+ * <p>Sessions do not hold a thread while thinking or waiting for responses, their steps run on a
+ * small scheduled pool, and the events of one session are processed one at a time. A measured step
+ * completes when all the server requests the session sent are completed, or times out.
+ *
+ * <p>While it runs, the simulation installs a {@link ThreadLocalClientAppScope} so each session
+ * resolves its own application and its own presenters through {@link ClientApp#make()}, code
+ * running outside of the sessions keeps resolving the default application. The previous scope is
+ * restored when the simulation completes.
+ */
+public class LoadSimulation {
+
+  private static final Logger LOGGER = Logger.getLogger(LoadSimulation.class.getName());
+
+  private final TestServerRouter serverRouter;
+  private final Supplier<List<ModuleConfiguration>> modules;
+  private LoadScript script = LoadScript.create();
+  private int sessions = 100;
+  private int iterations = 1;
+  private int threads = Runtime.getRuntime().availableProcessors();
+  private long rampUpMillis = 0;
+  private long stepTimeoutMillis = 30_000;
+  private int sampleSize = 10_000;
+
+  /**
+   * @param serverRouter the router the server requests of the sessions are sent through
+   * @param modules supplies the modules configured in each session
+   */
+  public LoadSimulation(
+      TestServerRouter serverRouter, Supplier<List<ModuleConfiguration>> modules) {
+    this.serverRouter = serverRouter;
+    this.modules = modules;
+  }
+
+  public LoadSimulation script(LoadScript script) {
+    this.script = script;
+    return this;
+  }
+
+  public LoadSimulation sessions(int sessions) {
+    this.sessions = sessions;
+    return this;
+  }
+
+  /** Sets how many times each session runs the script, default is 1. */
+  public LoadSimulation iterations(int iterations) {
+    this.iterations = iterations;
+    return this;
+  }
+
+  /** Sets the number of threads that run the sessions steps. */
+  public LoadSimulation threads(int threads) {
+    this.threads = threads;
+    return this;
+  }
+
+  /** Spreads the sessions start evenly over the ramp up time, default is 0. */
+  public LoadSimulation rampUp(long rampUpMillis) {
+    this.rampUpMillis = rampUpMillis;
+    return this;
+  }
+
+  /** Sets how long a measured step waits for its requests before it is counted as an error. */
+  public LoadSimulation stepTimeout(long stepTimeoutMillis) {
+    this.stepTimeoutMillis = stepTimeoutMillis;
+    return this;
+  }
+
+  /** Sets how many of the most recent latencies per request type and route are kept. */
+  public LoadSimulation sampleSize(int sampleSize) {
+    this.sampleSize = sampleSize;
+    return this;
+  }
+
+  /**
+   * Starts the simulation, the returned future completes with the report after all the sessions
+   * finished. Do not block on it from a vertx event loop thread, responses are delivered there.
+   */
+  public Future<LoadReport> start() {
+    Future<LoadReport> result = Future.future();
+    new Run(result).start();
+    return result;
+  }
+
+  private final class Run implements TestServerRouter.RequestTimingListener {
+    private final Future<LoadReport> result;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<ClientApp, Session> sessionsByApp = new ConcurrentHashMap<>();
+    private final Map<String, Recorder> requests = new ConcurrentHashMap<>();
+    private final Map<String, Recorder> routes = new ConcurrentHashMap<>();
+    private final AtomicInteger remaining = new AtomicInteger(sessions);
+    private final AtomicInteger failed = new AtomicInteger();
+    private ClientAppScope previousScope;
+    private long startNanos;
+
+    private Run(Future<LoadReport> result) {
+      this.result = result;
+      AtomicInteger counter = new AtomicInteger();
+      this.executor =
+          new ScheduledThreadPoolExecutor(
+              Math.max(1, threads),
+              runnable -> {
+                Thread thread = new Thread(runnable, "domino-load-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+      this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    private void start() {
+      previousScope = ClientApp.getScope();
+      ClientApp.setScope(new ThreadLocalClientAppScope());
+      serverRouter.setRequestTimingListener(this);
+      startNanos = System.nanoTime();
+      if (sessions <= 0) {
+        complete();
+        return;
+      }
+      for (int i = 0; i < sessions; i++) {
+        Session session = new Session();
+        executor.schedule(session::start, rampUpMillis * i / sessions, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    @Override
+    public void onRequestStarted(ClientApp clientApp, ServerRequest request) {
+      Session session = sessionsByApp.get(clientApp);
+      if (nonNull(session)) {
+        session.onRequestStarted();
+      }
+    }
+
+    @Override
+    public void onRequestCompleted(
+        ClientApp clientApp, ServerRequest request, double durationMillis, boolean succeeded) {
+      Session session = sessionsByApp.get(clientApp);
+      if (isNull(session)) {
+        return;
+      }
+      Recorder recorder = recorder(requests, request.getClass().getCanonicalName());
+      if (succeeded) {
+        recorder.samples.add(durationMillis);
+      } else {
+        recorder.errors.incrementAndGet();
+      }
+      session.onRequestCompleted();
+    }
+
+    private Recorder recorder(Map<String, Recorder> recorders, String name) {
+      return recorders.computeIfAbsent(name, key -> new Recorder(sampleSize));
+    }
+
+    private void onSessionFinished(boolean sessionFailed) {
+      if (sessionFailed) {
+        failed.incrementAndGet();
+      }
+      if (remaining.decrementAndGet() == 0) {
+        complete();
+      }
+    }
+
+    private void complete() {
+      serverRouter.removeRequestTimingListener();
+      executor.shutdown();
+      ClientApp.setScope(previousScope);
+      double elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000D;
+      result.complete(
+          new LoadReport(
+              sessions,
+              failed.get(),
+              elapsedMillis,
+              stats(requests, elapsedMillis),
+              stats(routes, elapsedMillis)));
+    }
+
+    private Map<String, LoadReport.LoadStats> stats(
+        Map<String, Recorder> recorders, double elapsedMillis) {
+      Map<String, LoadReport.LoadStats> stats = new TreeMap<>();
+      double elapsedSeconds = Math.max(elapsedMillis, 1) / 1000;
+      recorders.forEach(
+          (name, recorder) ->
+              stats.put(
+                  name,
+                  new LoadReport.LoadStats(
+                      recorder.samples.summary(),
+                      recorder.errors.get(),
+                      recorder.samples.getCount() / elapsedSeconds)));
+      return stats;
+    }
+
+    private final class Session {
+      private final SessionEventsBus eventsBus = new SessionEventsBus();
+      private ClientApp clientApp;
+      private int iteration;
+      private int stepIndex;
+      private int pendingRequests;
+      private boolean awaiting;
+      private long generation;
+      private String route;
+      private long stepStartNanos;
+      private boolean finished;
+
+      private synchronized void start() {
+        try {
+          clientApp = newClientApp(eventsBus);
+          sessionsByApp.put(clientApp, this);
+          clientApp.runInContext(
+              () -> {
+                modules.get().forEach(clientApp::configureModule);
+                clientApp.slotsManager().registerSlot(PredefinedSlots.BODY_SLOT, new FakeSlot());
+                clientApp.run();
+              });
+          executor.execute(this::next);
+        } catch (Exception e) {
+          fail(e);
+        }
+      }
+
+      private synchronized void next() {
+        if (finished) {
+          return;
+        }
+        try {
+          clientApp.runInContext(this::runNextStep);
+        } catch (Exception e) {
+          fail(e);
+        }
+      }
+
+      private void runNextStep() {
+        List<LoadScript.Step> steps = script.getSteps();
+        if (steps.isEmpty()) {
+          finish(false);
+          return;
+        }
+        if (stepIndex == steps.size()) {
+          stepIndex = 0;
+          iteration++;
+        }
+        if (iteration >= iterations) {
+          finish(false);
+          return;
+        }
+        LoadScript.Step step = steps.get(stepIndex++);
+        if (step.type == LoadScript.StepType.THINK) {
+          executor.schedule(this::next, thinkTime(step), TimeUnit.MILLISECONDS);
+          return;
+        }
+        long stepGeneration = ++generation;
+        route = step.name;
+        awaiting = true;
+        stepStartNanos = System.nanoTime();
+        step.action.run(clientApp);
+        executor.schedule(
+            () -> onTimeout(stepGeneration), stepTimeoutMillis, TimeUnit.MILLISECONDS);
+        checkStepCompleted();
+      }
+
+      private long thinkTime(LoadScript.Step step) {
+        if (step.maxMillis == step.minMillis) {
+          return step.minMillis;
+        }
+        return ThreadLocalRandom.current().nextLong(step.minMillis, step.maxMillis + 1);
+      }
+
+      private synchronized void onRequestStarted() {
+        pendingRequests++;
+      }
+
+      private synchronized void onRequestCompleted() {
+        pendingRequests--;
+        checkStepCompleted();
+      }
+
+      private void checkStepCompleted() {
+        if (awaiting && pendingRequests <= 0) {
+          awaiting = false;
+          double durationMillis = (System.nanoTime() - stepStartNanos) / 1_000_000D;
+          recorder(routes, route).samples.add(durationMillis);
+          executor.execute(this::next);
+        }
+      }
+
+      private synchronized void onTimeout(long stepGeneration) {
+        if (awaiting && generation == stepGeneration) {
+          awaiting = false;
+          recorder(routes, route).errors.incrementAndGet();
+          executor.execute(this::next);
+        }
+      }
+
+      private synchronized void fail(Exception error) {
+        LOGGER.log(Level.SEVERE, "Load simulation session failed : ", error);
+        finish(true);
+      }
+
+      private void finish(boolean sessionFailed) {
+        if (finished) {
+          return;
+        }
+        finished = true;
+        if (nonNull(clientApp)) {
+          sessionsByApp.remove(clientApp);
+        }
+        onSessionFinished(sessionFailed);
+      }
+
+      /** Processes the events of the session one at a time with the session application bound. */
+      private final class SessionEventsBus implements EventsBus<Event> {
+        private final TestEventBus delegate = new TestEventBus(new EventProcessor());
+
+        @Override
+        public void publishEvent(RequestEvent<Event> event) {
+          synchronized (Session.this) {
+            clientApp.runInContext(() -> delegate.publishEvent(event));
+          }
+        }
+      }
+    }
+  }
+
+  private static ClientApp newClientApp(EventsBus eventsBus) {
+    return ClientApp.ClientAppBuilder.clientRouter(new TestClientRouter())
+        .eventsBus(eventsBus)
+        .eventsListenersRepository(new TestInMemoryEventsListenersRepository())
+        .history(new TestDominoHistory())
+        .asyncRunner(new TestAsyncRunner())
+        .dominoOptions(new FakeDominoOptions())
+        .slotsManager(new TestSlotsManager())
+        .presentersNamesRegistry(new TestNamedPresenters())
+        .buildIsolated();
+  }
+
+  private static final class Recorder {
+    private final LatencySamples samples;
+    private final AtomicLong errors = new AtomicLong();
+
+    private Recorder(int sampleSize) {
+      this.samples = new LatencySamples(sampleSize);
+    }
+  }
+}